@@ -0,0 +1,129 @@
+/*
+ * Copyright 2011-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.spring.it.movies;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.junit.jupiter.api.io.TempDir;
+import org.neo4j.driver.Driver;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.http.HttpStatus;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.neo4j.Neo4jContainer;
+
+/**
+ * Runs concurrent requests through the {@link MoviesController} on virtual threads and verifies that no carrier thread
+ * is pinned by the Spring integration of Neo4j-OGM and that all sessions and their connections have been released.
+ *
+ * @author Michael J. Simons
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+		"spring.threads.virtual.enabled=true",
+		"spring.neo4j.pool.metrics-enabled=true",
+		"server.tomcat.max-connections=" + MoviesControllerLoadTests.NUMBER_OF_REQUESTS,
+		"server.tomcat.accept-count=1000"
+})
+@Testcontainers
+@EnabledForJreRange(min = JRE.JAVA_21)
+class MoviesControllerLoadTests {
+
+	static final int NUMBER_OF_REQUESTS = 10_000;
+
+	private static final String VIRTUAL_THREAD_PINNED = "jdk.VirtualThreadPinned";
+
+	@Container
+	@ServiceConnection
+	static Neo4jContainer neo4j = new Neo4jContainer("neo4j:5");
+
+	@BeforeAll
+	static void prepareDataSet(@Autowired Driver driver) {
+
+		driver.executableQuery("CREATE (TheMatrix:Movie {title:'The Matrix', released:1999, tagline:'Welcome to the Real World'})")
+				.execute();
+	}
+
+	@LocalServerPort
+	int port;
+
+	@Test
+	void concurrentRequestsShouldNeitherPinVirtualThreadsNorLeakSessions(@Autowired Driver driver, @TempDir Path tempDir)
+			throws IOException {
+
+		var httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+		var request = HttpRequest.newBuilder(URI.create("http://localhost:%d/api/movies".formatted(port))).GET().build();
+
+		List<RecordedEvent> pinnedEvents;
+		try (var recording = new Recording()) {
+			recording.enable(VIRTUAL_THREAD_PINNED).withStackTrace();
+			recording.start();
+
+			var responses = IntStream.range(0, NUMBER_OF_REQUESTS)
+					.mapToObj(i -> httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString()))
+					.toList();
+			CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new)).join();
+
+			assertThat(responses).extracting(CompletableFuture::join).allSatisfy(response -> {
+				assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+				assertThat(response.body()).contains("The Matrix");
+			});
+
+			recording.stop();
+			var recordingFile = tempDir.resolve("load.jfr");
+			recording.dump(recordingFile);
+			pinnedEvents = RecordingFile.readAllEvents(recordingFile).stream()
+					.filter(event -> VIRTUAL_THREAD_PINNED.equals(event.getEventType().getName()))
+					.filter(MoviesControllerLoadTests::isPinnedBySpringDataNeo4j)
+					.toList();
+		}
+
+		assertThat(pinnedEvents).isEmpty();
+		assertThat(driver.metrics().connectionPoolMetrics()).allSatisfy(pool -> assertThat(pool.inUse()).isZero());
+	}
+
+	/**
+	 * Pinning caused by Tomcat or the driver itself is not of interest here, only pinning on the way through the
+	 * Spring integration, the repositories and the transaction manager.
+	 */
+	private static boolean isPinnedBySpringDataNeo4j(RecordedEvent event) {
+
+		RecordedStackTrace stackTrace = event.getStackTrace();
+		return stackTrace != null && stackTrace.getFrames().stream()
+				.anyMatch(frame -> frame.getMethod().getType().getName().startsWith("org.springframework.data.neo4j."));
+	}
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2011-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.benchmarks;
+
+import java.lang.reflect.Proxy;
+
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.session.Session;
+import org.springframework.data.neo4j.mapping.MetaDataProvider;
+
+/**
+ * Creates {@link Session sessions} that only provide the metadata of a domain, so that the repository query pipeline
+ * can be measured without a database. Every call that would need a database fails.
+ *
+ * @author Michael J. Simons
+ */
+public final class StubbedSession {
+
+	/**
+	 * @param metaData The metadata to provide
+	 * @return A session that is also a {@link MetaDataProvider}
+	 */
+	public static Session create(MetaData metaData) {
+
+		return (Session) Proxy.newProxyInstance(StubbedSession.class.getClassLoader(),
+				new Class<?>[] { Session.class, MetaDataProvider.class }, (proxy, method, args) -> {
+					switch (method.getName()) {
+						case "getMetaData":
+							return metaData;
+						case "resolveGraphIdFor":
+							// None of the parameters are entities
+							return null;
+						case "toString":
+							return StubbedSession.class.getSimpleName();
+						case "hashCode":
+							return System.identityHashCode(proxy);
+						case "equals":
+							return proxy == args[0];
+						default:
+							throw new UnsupportedOperationException(
+									"The stubbed session does not support " + method.getName() + ".");
+					}
+				});
+	}
+
+	private StubbedSession() {
+	}
+}
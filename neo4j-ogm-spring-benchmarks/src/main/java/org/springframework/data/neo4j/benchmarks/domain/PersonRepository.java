@@ -0,0 +1,42 @@
+/*
+ * Copyright 2011-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.benchmarks.domain;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.neo4j.annotation.Query;
+import org.springframework.data.neo4j.repository.Neo4jRepository;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * Provides the query methods under test. Instances of this repository are never created, the benchmarks only create
+ * the repository queries of its methods.
+ *
+ * @author Michael J. Simons
+ */
+public interface PersonRepository extends Neo4jRepository<Person, Long> {
+
+	List<Person> findByLastNameAndAgeGreaterThanOrderByFirstNameAsc(String lastName, int age);
+
+	@Query(value = "MATCH (p:Person) WHERE p.lastName = $lastName AND p.age > $age RETURN p",
+			countQuery = "MATCH (p:Person) WHERE p.lastName = $lastName AND p.age > $age RETURN count(p)")
+	Page<Person> findAllByName(@Param("lastName") String lastName, @Param("age") int age, Pageable pageable);
+
+	@Query("MATCH (p:Person) WHERE p.lastName = $lastName RETURN p.firstName AS firstName, p.lastName AS lastName, size((p)-[:FRIEND_OF]-()) AS numberOfFriends")
+	List<PersonSummary> findSummaries(@Param("lastName") String lastName);
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2011-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.ogm.metadata.MetaData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.neo4j.benchmarks.domain.Person;
+import org.springframework.data.neo4j.benchmarks.domain.PersonSummary;
+import org.springframework.data.neo4j.benchmarks.domain.PersonSummaryInterface;
+import org.springframework.data.neo4j.mapping.Neo4jMappingContext;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Measures the mapping of a single row onto {@link org.springframework.data.neo4j.annotation.QueryResult} classes and
+ * interfaces as well as the method calls on the proxies backing the latter.
+ *
+ * @author Michael J. Simons
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueryResultConversionBenchmarks {
+
+	private final Map<String, Object> row = new HashMap<>();
+
+	private CustomResultConverter classConverter;
+	private CustomResultConverter interfaceConverter;
+
+	private PersonSummaryInterface proxy;
+	private QueryResultProxy invocationHandler;
+	private Method beanGetter;
+	private Method booleanGetter;
+
+	@Setup
+	public void setup() {
+
+		row.put("firstName", "Jane");
+		row.put("lastName", "Doe");
+		row.put("numberOfFriends", 23L);
+		row.put("active", true);
+
+		MetaData metaData = new MetaData(Person.class.getPackage().getName());
+		QueryResultInstantiator instantiator = new QueryResultInstantiator(metaData, new Neo4jMappingContext(metaData));
+		this.classConverter = new CustomResultConverter(metaData, PersonSummary.class, instantiator);
+		this.interfaceConverter = new CustomResultConverter(metaData, PersonSummaryInterface.class, instantiator);
+
+		this.invocationHandler = new QueryResultProxy(row);
+		this.proxy = (PersonSummaryInterface) Proxy.newProxyInstance(PersonSummaryInterface.class.getClassLoader(),
+				new Class<?>[] { PersonSummaryInterface.class }, invocationHandler);
+		this.beanGetter = ReflectionUtils.findMethod(PersonSummaryInterface.class, "getFirstName");
+		this.booleanGetter = ReflectionUtils.findMethod(PersonSummaryInterface.class, "isActive");
+	}
+
+	@Benchmark
+	public Object customResultConverterConvertToClass() {
+		return classConverter.convert(row);
+	}
+
+	@Benchmark
+	public Object customResultConverterConvertToInterface() {
+		return interfaceConverter.convert(row);
+	}
+
+	@Benchmark
+	public Object queryResultProxyInvokeBeanGetter() throws Throwable {
+		return invocationHandler.invoke(proxy, beanGetter, null);
+	}
+
+	@Benchmark
+	public Object queryResultProxyInvokeBooleanGetter() throws Throwable {
+		return invocationHandler.invoke(proxy, booleanGetter, null);
+	}
+
+	@Benchmark
+	public int queryResultProxyAllGetters() {
+		return proxy.getFirstName().length() + proxy.getLastName().length() + proxy.getNumberOfFriends()
+				+ (proxy.isActive() ? 1 : 0);
+	}
+}
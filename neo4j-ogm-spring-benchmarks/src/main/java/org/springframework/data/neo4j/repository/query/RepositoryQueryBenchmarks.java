@@ -0,0 +1,118 @@
+/*
+ * Copyright 2011-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.session.Session;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.neo4j.benchmarks.StubbedSession;
+import org.springframework.data.neo4j.benchmarks.domain.Person;
+import org.springframework.data.neo4j.benchmarks.domain.PersonRepository;
+import org.springframework.data.neo4j.mapping.Neo4jMappingContext;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+import org.springframework.data.repository.core.support.PropertiesBasedNamedQueries;
+import org.springframework.data.repository.query.QueryMethodValueEvaluationContextAccessor;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Measures the per call overhead of turning the arguments of a repository method into an executable {@link Query}.
+ * The repository queries are resolved the same way the repository factory does it, but against a
+ * {@link StubbedSession}.
+ *
+ * @author Michael J. Simons
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepositoryQueryBenchmarks {
+
+	private final Object[] derivedFinderArguments = { "Doe", 42 };
+	private final Object[] stringQueryArguments = { "Doe", 42, PageRequest.of(3, 20, Sort.by("p.firstName")) };
+
+	private PartTreeNeo4jQuery derivedFinder;
+	private GraphRepositoryQuery stringQuery;
+	private Query query;
+	private Pageable pageable;
+
+	@Setup
+	public void setup() {
+
+		MetaData metaData = new MetaData(Person.class.getPackage().getName());
+		Session session = StubbedSession.create(metaData);
+		GraphQueryLookupStrategy lookupStrategy = new GraphQueryLookupStrategy(session,
+				QueryMethodValueEvaluationContextAccessor.create(), new Neo4jMappingContext(metaData));
+
+		this.derivedFinder = (PartTreeNeo4jQuery) resolveQuery(lookupStrategy,
+				"findByLastNameAndAgeGreaterThanOrderByFirstNameAsc", String.class, int.class);
+		this.stringQuery = (GraphRepositoryQuery) resolveQuery(lookupStrategy, "findAllByName", String.class,
+				int.class, Pageable.class);
+		this.query = this.stringQuery.getQuery(stringQueryArguments);
+		this.pageable = (Pageable) stringQueryArguments[2];
+	}
+
+	private static RepositoryQuery resolveQuery(GraphQueryLookupStrategy lookupStrategy, String name,
+			Class<?>... parameterTypes) {
+
+		return lookupStrategy.resolveQuery(ReflectionUtils.findMethod(PersonRepository.class, name, parameterTypes),
+				new DefaultRepositoryMetadata(PersonRepository.class), new SpelAwareProxyProjectionFactory(),
+				new PropertiesBasedNamedQueries(new Properties()));
+	}
+
+	@Benchmark
+	public Query partTreeNeo4jQueryGetQuery() {
+		return derivedFinder.getQuery(derivedFinderArguments);
+	}
+
+	@Benchmark
+	public Query graphRepositoryQueryGetQuery() {
+		return stringQuery.getQuery(stringQueryArguments);
+	}
+
+	@Benchmark
+	public Object graphRepositoryQueryResolveParams() {
+		return stringQuery.resolveParams(stringQuery.getQueryMethod().getParameters(), stringQueryArguments);
+	}
+
+	@Benchmark
+	public String queryGetCypherQueryForPage() {
+		return query.getCypherQuery(pageable, false);
+	}
+
+	@Benchmark
+	public String queryGetCypherQueryForSlice() {
+		return query.getCypherQuery(pageable, true);
+	}
+}
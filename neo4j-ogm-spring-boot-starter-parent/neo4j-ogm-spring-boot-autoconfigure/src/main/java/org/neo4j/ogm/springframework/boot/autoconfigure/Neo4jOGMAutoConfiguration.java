@@ -17,6 +17,8 @@ package org.neo4j.ogm.springframework.boot.autoconfigure;
 
 import java.util.List;
 
+import io.micrometer.observation.ObservationRegistry;
+
 import org.neo4j.driver.Driver;
 import org.neo4j.ogm.config.Configuration;
 import org.neo4j.ogm.drivers.bolt.driver.BoltDriver;
@@ -25,6 +27,7 @@ import org.neo4j.ogm.session.event.EventListener;
 
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
@@ -61,12 +64,26 @@ public class Neo4jOGMAutoConfiguration {
 	@Bean
 	@ConditionalOnMissingBean(PlatformTransactionManager.class)
 	public TransactionManager transactionManager(SessionFactory sessionFactory,
-	                                                  ObjectProvider<TransactionManagerCustomizers> transactionManagerCustomizers) {
-		TransactionManager transactionManager = new Neo4jTransactionManager(sessionFactory);
+	                                                  ObjectProvider<TransactionManagerCustomizers> transactionManagerCustomizers,
+	                                                  ObjectProvider<ObservationRegistry> observationRegistry) {
+		Neo4jTransactionManager transactionManager = new Neo4jTransactionManager(sessionFactory);
+		observationRegistry.ifAvailable(transactionManager::setObservationRegistry);
 		transactionManagerCustomizers.ifAvailable((customizers) -> customizers.customize(transactionManager));
 		return transactionManager;
 	}
 
+	/**
+	 * Repository queries are only observed if there's an {@link ObservationRegistry}, which Spring Boot provides as soon
+	 * as the actuator and a {@code MeterRegistry} are present. Slow queries are only logged if
+	 * {@code org.neo4j.ogm.slow-query-threshold} is set. The method is static, so that the post processor can be
+	 * created without instantiating this configuration.
+	 */
+	@Bean
+	static BeanPostProcessor ogmRepositoryFactoryBeanPostProcessor(
+			ObjectProvider<ObservationRegistry> observationRegistry, ObjectProvider<Neo4jOGMProperties> ogmProperties) {
+		return new RepositoryFactoryBeanPostProcessor(observationRegistry, ogmProperties);
+	}
+
 	@Bean
 	@ConditionalOnMissingBean
 	public org.neo4j.ogm.config.Configuration configuration(
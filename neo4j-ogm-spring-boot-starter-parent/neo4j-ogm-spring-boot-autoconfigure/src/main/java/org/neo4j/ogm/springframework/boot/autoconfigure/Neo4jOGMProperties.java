@@ -15,6 +15,8 @@
  */
 package org.neo4j.ogm.springframework.boot.autoconfigure;
 
+import java.time.Duration;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 @ConfigurationProperties(prefix = "org.neo4j.ogm")
@@ -37,6 +39,12 @@ public class Neo4jOGMProperties {
 	 */
 	private boolean useStrictQuerying;
 
+	/**
+	 * Repository queries taking longer than this are logged together with their Cypher, the names of their parameters
+	 * and the number of returned rows. Slow queries are not logged if empty.
+	 */
+	private Duration slowQueryThreshold;
+
 	public String[] getBasePackages() {
 		return basePackages;
 	}
@@ -60,4 +68,12 @@ public class Neo4jOGMProperties {
 	public void setUseStrictQuerying(boolean useStrictQuerying) {
 		this.useStrictQuerying = useStrictQuerying;
 	}
+
+	public Duration getSlowQueryThreshold() {
+		return slowQueryThreshold;
+	}
+
+	public void setSlowQueryThreshold(Duration slowQueryThreshold) {
+		this.slowQueryThreshold = slowQueryThreshold;
+	}
 }
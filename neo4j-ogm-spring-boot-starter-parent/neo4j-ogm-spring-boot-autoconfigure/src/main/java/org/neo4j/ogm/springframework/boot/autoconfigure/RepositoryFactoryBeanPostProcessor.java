@@ -0,0 +1,51 @@
+/*
+ * Copyright 2011-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.springframework.boot.autoconfigure;
+
+import io.micrometer.observation.ObservationRegistry;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.neo4j.repository.support.Neo4jRepositoryFactoryBean;
+
+/**
+ * Configures the {@link ObservationRegistry} and the slow query threshold on all {@link Neo4jRepositoryFactoryBean
+ * repository factory beans} before they create their repositories. Both are looked up lazily, as post processors are
+ * created before most other beans.
+ *
+ * @author Michael J. Simons
+ */
+class RepositoryFactoryBeanPostProcessor implements BeanPostProcessor {
+
+	private final ObjectProvider<ObservationRegistry> observationRegistry;
+	private final ObjectProvider<Neo4jOGMProperties> ogmProperties;
+
+	RepositoryFactoryBeanPostProcessor(ObjectProvider<ObservationRegistry> observationRegistry,
+			ObjectProvider<Neo4jOGMProperties> ogmProperties) {
+		this.observationRegistry = observationRegistry;
+		this.ogmProperties = ogmProperties;
+	}
+
+	@Override
+	public Object postProcessBeforeInitialization(Object bean, String beanName) {
+
+		if (bean instanceof Neo4jRepositoryFactoryBean<?, ?, ?> factoryBean) {
+			observationRegistry.ifAvailable(factoryBean::setObservationRegistry);
+			ogmProperties.ifAvailable(properties -> factoryBean.setSlowQueryThreshold(properties.getSlowQueryThreshold()));
+		}
+		return bean;
+	}
+}
@@ -28,7 +28,8 @@ import org.springframework.data.neo4j.bookmark.BookmarkManagementConfiguration;
  * Enables bookmark management
  * <p>
  * Bean implementing {@link org.springframework.data.neo4j.bookmark.BookmarkManager} interface needs to exist in the
- * context. Default implementation {@link org.springframework.data.neo4j.bookmark.CaffeineBookmarkManager} exists. Use
+ * context. Implementations {@link org.springframework.data.neo4j.bookmark.AtomicBookmarkManager} and
+ * {@link org.springframework.data.neo4j.bookmark.CaffeineBookmarkManager} exist. Use
  * scope of the bean to control how bookmarks are managed. singleton - suitable for application wide bookmarks, e.g. fat
  * clients request,session - suitable for web applications
  * <p>
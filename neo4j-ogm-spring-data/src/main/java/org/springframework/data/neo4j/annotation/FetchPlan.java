@@ -0,0 +1,43 @@
+/*
+ * Copyright 2011-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Specifies the relationships loaded together with the entities returned by a derived finder or by a redeclared
+ * {@code findById(ID)} or {@code findAllById(Iterable)} of a repository. Only the given paths are expanded, instead of
+ * all relationships up to a {@link Depth depth}. A path is a dot separated list of relationship properties, starting at
+ * the domain type of the repository, for example {@code @FetchPlan(paths = {"actors", "actors.awards"})}. Loading with a
+ * fetch plan falls back to the depth of the longest path if the statement can't be restricted, for example for filters
+ * on related entities.
+ *
+ * @author Michael J. Simons
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Documented
+public @interface FetchPlan {
+
+	/**
+	 * @return The paths of relationship properties to load, no relationships are loaded if empty
+	 */
+	String[] paths() default {};
+}
@@ -52,4 +52,15 @@ public @interface Query {
 	 * @since 5.2
 	 */
 	boolean exists() default false;
+
+	/**
+	 * Returns whether the total number of elements for {@link org.springframework.data.domain.Page} support should be
+	 * computed in the same statement as the requested page, saving a second round trip. The total is computed by counting
+	 * the rows of the query itself, so that no {@link #countQuery()} is required. If given, the count query is only used
+	 * when the requested page is empty. As the query is run twice by that statement, queries that might write are
+	 * rejected.
+	 *
+	 * @return whether to count in the same statement as the page is loaded
+	 */
+	boolean countInSameStatement() default false;
 }
@@ -25,6 +25,9 @@ import java.lang.annotation.Target;
  * Indicates that a transactional operation will use bookmarks that are currently stored in BookmarkManager when
  * creating Neo4j session. Must be used on a method with @Transactional annotation. May be used on class - applies to
  * all methods or on specific methods.
+ * <p>
+ * Bookmarks can be scoped by a {@link #key()}, so that transactions only wait for the transactions sharing the same key
+ * instead of all transactions of the application.
  *
  * @author Frantisek Hartman
  * @see EnableBookmarkManagement
@@ -38,4 +41,18 @@ public @interface UseBookmark {
 	 * If the annotated method should set bookmark
 	 */
 	boolean value() default true;
+
+	/**
+	 * Spring Expression Language (SpEL) expression computing the key under which bookmarks are retrieved and stored,
+	 * for example {@code #tenantId}. The parameters of the method can be referenced by name or as {@code #p0},
+	 * {@code #a0} and so on, beans as {@code @beanName}. Transactions with different keys don't wait for each other.
+	 * <p>
+	 * Defaults to no key, in which case the bookmarks not bound to any key are used. The same applies when the
+	 * expression evaluates to {@literal null}. Keyed bookmarks require a
+	 * {@link org.springframework.data.neo4j.bookmark.BookmarkManager} supporting keys, such as the
+	 * {@link org.springframework.data.neo4j.bookmark.KeyedBookmarkManager}; other managers ignore the key.
+	 *
+	 * @return the expression computing the key of the bookmarks
+	 */
+	String key() default "";
 }
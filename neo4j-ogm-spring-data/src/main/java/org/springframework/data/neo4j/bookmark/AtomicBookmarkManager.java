@@ -0,0 +1,103 @@
+/*
+ * Copyright 2011-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.bookmark;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.util.Assert;
+
+/**
+ * Bookmark manager keeping only the bookmarks that have not been superseded by a later transaction. A transaction
+ * begun with the current bookmarks is causally after all of them, so its bookmark replaces them. A bookmark stored
+ * without previous bookmarks comes from a transaction that didn't wait for any of them and is added to the current
+ * ones. The manager therefore usually holds a single bookmark, plus the bookmarks of transactions that committed
+ * without using bookmarks since the last one that did.
+ * <p>
+ * As an application might not use bookmarks for most of its transactions, the number of bookmarks is capped. If it's
+ * exceeded, the oldest bookmarks are dropped, so a transaction using bookmarks may not wait for writes that happened
+ * that many commits before.
+ * <p>
+ * The bookmarks are held in an immutable set that is replaced atomically on commit. Retrieving them neither locks nor
+ * copies, so the overhead of beginning a transaction doesn't depend on the write rate. Use one instance per database.
+ *
+ * @author Michael J. Simons
+ */
+public class AtomicBookmarkManager implements BookmarkManager {
+
+	/**
+	 * Default for the maximum number of bookmarks kept, see {@link #AtomicBookmarkManager(int)}.
+	 */
+	public static final int DEFAULT_MAX_BOOKMARKS = 100;
+
+	private final AtomicReference<Set<String>> bookmarks = new AtomicReference<>(Collections.emptySet());
+
+	private final int maxBookmarks;
+
+	public AtomicBookmarkManager() {
+		this(DEFAULT_MAX_BOOKMARKS);
+	}
+
+	/**
+	 * Create instance of {@link AtomicBookmarkManager} keeping at most the given number of bookmarks.
+	 *
+	 * @param maxBookmarks maximum number of bookmarks kept, the oldest ones are dropped first
+	 */
+	public AtomicBookmarkManager(int maxBookmarks) {
+		Assert.isTrue(maxBookmarks > 0, "The maximum number of bookmarks must be greater than zero!");
+		this.maxBookmarks = maxBookmarks;
+	}
+
+	/**
+	 * @return An immutable snapshot of the current bookmarks
+	 */
+	@Override
+	public Collection<String> getBookmarks() {
+		return bookmarks.get();
+	}
+
+	@Override
+	public void storeBookmark(String bookmark, Collection<String> previous) {
+
+		// Transactions that didn't reach the server don't have a bookmark and don't supersede anything
+		if (bookmark == null) {
+			return;
+		}
+		bookmarks.updateAndGet(current -> replace(current, bookmark, previous));
+	}
+
+	private Set<String> replace(Set<String> current, String bookmark, Collection<String> previous) {
+
+		if (current == previous || previous.containsAll(current)) {
+			return Collections.singleton(bookmark);
+		}
+
+		// Keeps the order of commits, so that the oldest bookmarks are dropped first
+		Set<String> next = new LinkedHashSet<>(current);
+		next.removeAll(previous);
+		next.add(bookmark);
+		Iterator<String> oldestFirst = next.iterator();
+		for (int excess = next.size() - maxBookmarks; excess > 0; --excess) {
+			oldestFirst.next();
+			oldestFirst.remove();
+		}
+		return Collections.unmodifiableSet(next);
+	}
+}
@@ -27,6 +27,7 @@ public class BookmarkInfo implements Serializable {
 
 	private boolean useBookmark;
 	private Collection<String> bookmarks;
+	private String key;
 
 	public BookmarkInfo() {}
 
@@ -34,6 +35,15 @@ public class BookmarkInfo implements Serializable {
 		this.useBookmark = true;
 	}
 
+	/**
+	 * @param useBookmark whether to use bookmarks
+	 * @param key         the key under which the bookmarks are managed, may be {@literal null}
+	 */
+	public BookmarkInfo(boolean useBookmark, String key) {
+		this.useBookmark = useBookmark;
+		this.key = key;
+	}
+
 	public boolean shouldUseBookmark() {
 		return useBookmark;
 	}
@@ -49,4 +59,15 @@ public class BookmarkInfo implements Serializable {
 	public void setBookmarks(Collection<String> bookmarks) {
 		this.bookmarks = bookmarks;
 	}
+
+	/**
+	 * @return the key under which the bookmarks are managed or {@literal null} if they are not bound to a key
+	 */
+	public String getKey() {
+		return key;
+	}
+
+	public void setKey(String key) {
+		this.key = key;
+	}
 }
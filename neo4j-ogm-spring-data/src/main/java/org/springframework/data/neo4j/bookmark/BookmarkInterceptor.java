@@ -15,31 +15,96 @@
  */
 package org.springframework.data.neo4j.bookmark;
 
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.context.expression.AnnotatedElementKey;
+import org.springframework.context.expression.BeanFactoryResolver;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.neo4j.annotation.UseBookmark;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.util.StringUtils;
 
 /**
- * Interceptor that sets {@link BookmarkInfo} as a ThreadLocal
+ * Interceptor that sets {@link BookmarkInfo} as a ThreadLocal. The {@link UseBookmark#key() key} of the bookmarks is
+ * evaluated against the arguments of each invocation, the parsed expression is cached per method.
  *
  * @author Frantisek Hartman
+ * @author Michael J. Simons
  */
-public class BookmarkInterceptor extends BookmarkSupport implements MethodInterceptor {
+public class BookmarkInterceptor extends BookmarkSupport implements MethodInterceptor, BeanFactoryAware {
+
+	private final SpelExpressionParser parser = new SpelExpressionParser();
+	private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+	private final Map<AnnotatedElementKey, Optional<Expression>> keyExpressions = new ConcurrentHashMap<>();
+
+	private BeanFactory beanFactory;
 
 	@Override
-	public Object invoke(MethodInvocation invocation) throws Throwable {
-		BookmarkInfo previousValue;
+	public void setBeanFactory(BeanFactory beanFactory) {
+		this.beanFactory = beanFactory;
+	}
 
-		if (bookmarkInfoHolder.get() == null) {
-			previousValue = null;
-		} else {
-			previousValue = bookmarkInfoHolder.get();
-		}
-		bookmarkInfoHolder.set(new BookmarkInfo(true));
+	@Override
+	public Object invoke(MethodInvocation invocation) throws Throwable {
+		BookmarkInfo previousValue = bookmarkInfoHolder.get();
+		bookmarkInfoHolder.set(new BookmarkInfo(true, resolveKey(invocation)));
 
 		try {
 			return invocation.proceed();
 		} finally {
-			bookmarkInfoHolder.set(previousValue);
+			// Don't leave an empty entry in the thread's map, pooled threads would carry it around forever
+			if (previousValue == null) {
+				bookmarkInfoHolder.remove();
+			} else {
+				bookmarkInfoHolder.set(previousValue);
+			}
+		}
+	}
+
+	private String resolveKey(MethodInvocation invocation) {
+
+		Object target = invocation.getThis();
+		Method method = invocation.getMethod();
+		Class<?> targetClass = target == null ? method.getDeclaringClass() : AopUtils.getTargetClass(target);
+		Method specificMethod = AopUtils.getMostSpecificMethod(method, targetClass);
+
+		Optional<Expression> keyExpression = keyExpressions.computeIfAbsent(new AnnotatedElementKey(method, targetClass),
+				k -> findKeyExpression(specificMethod, targetClass));
+		if (!keyExpression.isPresent()) {
+			return null;
+		}
+
+		MethodBasedEvaluationContext evaluationContext = new MethodBasedEvaluationContext(target, specificMethod,
+				invocation.getArguments(), parameterNameDiscoverer);
+		if (beanFactory != null) {
+			evaluationContext.setBeanResolver(new BeanFactoryResolver(beanFactory));
+		}
+		Object key = keyExpression.get().getValue(evaluationContext);
+		return key == null ? null : key.toString();
+	}
+
+	private Optional<Expression> findKeyExpression(Method method, Class<?> targetClass) {
+
+		// An annotation on the method overrides the one on the class, as in BookmarkOperationPointcut
+		UseBookmark useBookmark = AnnotatedElementUtils.findMergedAnnotation(method, UseBookmark.class);
+		if (useBookmark == null) {
+			useBookmark = AnnotatedElementUtils.findMergedAnnotation(targetClass, UseBookmark.class);
+		}
+		if (useBookmark == null || !StringUtils.hasText(useBookmark.key())) {
+			return Optional.empty();
 		}
+		return Optional.of(parser.parseExpression(useBookmark.key()));
 	}
 }
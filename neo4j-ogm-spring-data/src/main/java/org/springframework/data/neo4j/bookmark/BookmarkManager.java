@@ -39,4 +39,26 @@ public interface BookmarkManager {
 	 * @param previous previous bookmarks that are to be replaced by new bookmark, may be empty
 	 */
 	void storeBookmark(String bookmark, Collection<String> previous);
+
+	/**
+	 * Return the bookmarks stored under the given key. The default implementation ignores the key and returns all
+	 * bookmarks.
+	 *
+	 * @param key the key computed from {@link org.springframework.data.neo4j.annotation.UseBookmark#key()}
+	 * @return bookmarks
+	 */
+	default Collection<String> getBookmarks(String key) {
+		return getBookmarks();
+	}
+
+	/**
+	 * Stores bookmark under the given key. The default implementation ignores the key.
+	 *
+	 * @param key      the key computed from {@link org.springframework.data.neo4j.annotation.UseBookmark#key()}
+	 * @param bookmark new bookmark to store
+	 * @param previous previous bookmarks that are to be replaced by new bookmark, may be empty
+	 */
+	default void storeBookmark(String key, String bookmark, Collection<String> previous) {
+		storeBookmark(bookmark, previous);
+	}
 }
@@ -19,6 +19,12 @@ import org.springframework.core.NamedThreadLocal;
 
 /**
  * Helper class to access BookmarkInfo thread local
+ * <p>
+ * The bookmark info is bound to the thread executing the {@link org.springframework.data.neo4j.annotation.UseBookmark}
+ * annotated method, like the session and transaction bound by the
+ * {@link org.springframework.data.neo4j.transaction.Neo4jTransactionManager}. This works the same with virtual threads,
+ * each of them having its own thread locals that are discarded with the thread. Tasks handed over to other threads
+ * don't see it, use a {@link BookmarkTaskDecorator} to propagate it.
  *
  * @author Frantisek Hartman
  */
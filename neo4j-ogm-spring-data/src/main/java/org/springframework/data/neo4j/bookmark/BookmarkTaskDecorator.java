@@ -0,0 +1,53 @@
+/*
+ * Copyright 2011-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.bookmark;
+
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Propagates the {@link BookmarkInfo} of the submitting thread to tasks executed by another thread, for example by
+ * an executor running {@code @Async} methods or one virtual thread per task. Only whether and under which key bookmarks
+ * are used is propagated. The task begins its own transaction with the bookmarks current at that time, as Neo4j-OGM
+ * sessions and transactions must not be shared between threads.
+ *
+ * @author Michael J. Simons
+ */
+public class BookmarkTaskDecorator implements TaskDecorator {
+
+	@Override
+	public Runnable decorate(Runnable runnable) {
+
+		BookmarkInfo bookmarkInfo = BookmarkSupport.currentBookmarkInfo();
+		if (bookmarkInfo == null) {
+			return runnable;
+		}
+
+		BookmarkInfo propagatedBookmarkInfo = new BookmarkInfo(bookmarkInfo.shouldUseBookmark(), bookmarkInfo.getKey());
+		return () -> {
+			BookmarkInfo previousValue = BookmarkSupport.bookmarkInfoHolder.get();
+			BookmarkSupport.bookmarkInfoHolder.set(propagatedBookmarkInfo);
+			try {
+				runnable.run();
+			} finally {
+				if (previousValue == null) {
+					BookmarkSupport.bookmarkInfoHolder.remove();
+				} else {
+					BookmarkSupport.bookmarkInfoHolder.set(previousValue);
+				}
+			}
+		};
+	}
+}
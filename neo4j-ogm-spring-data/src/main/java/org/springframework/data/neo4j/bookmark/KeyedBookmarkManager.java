@@ -0,0 +1,79 @@
+/*
+ * Copyright 2011-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.bookmark;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Bookmark manager keeping the bookmarks of each {@link org.springframework.data.neo4j.annotation.UseBookmark#key()
+ * key} apart, so that a transaction only waits for the transactions with the same key, for example those of the same
+ * tenant. Bookmarks not bound to any key are managed in a scope of their own.
+ * <p>
+ * Each scope is managed by a delegate created on the first bookmark stored under its key, an
+ * {@link AtomicBookmarkManager} by default. Scopes are not evicted, so the number of distinct keys should be bounded.
+ *
+ * @author Michael J. Simons
+ */
+public class KeyedBookmarkManager implements BookmarkManager {
+
+	private final Supplier<BookmarkManager> bookmarkManagerSupplier;
+	private final BookmarkManager unkeyedBookmarkManager;
+	private final Map<String, BookmarkManager> keyedBookmarkManagers = new ConcurrentHashMap<>();
+
+	public KeyedBookmarkManager() {
+		this(AtomicBookmarkManager::new);
+	}
+
+	/**
+	 * Create instance of {@link KeyedBookmarkManager} using the given supplier to create the manager of each scope.
+	 *
+	 * @param bookmarkManagerSupplier supplier of new, independent bookmark managers
+	 */
+	public KeyedBookmarkManager(Supplier<BookmarkManager> bookmarkManagerSupplier) {
+		this.bookmarkManagerSupplier = bookmarkManagerSupplier;
+		this.unkeyedBookmarkManager = bookmarkManagerSupplier.get();
+	}
+
+	@Override
+	public Collection<String> getBookmarks() {
+		return unkeyedBookmarkManager.getBookmarks();
+	}
+
+	@Override
+	public void storeBookmark(String bookmark, Collection<String> previous) {
+		unkeyedBookmarkManager.storeBookmark(bookmark, previous);
+	}
+
+	@Override
+	public Collection<String> getBookmarks(String key) {
+		// Don't create a scope for keys that haven't been written to yet
+		BookmarkManager bookmarkManager = keyedBookmarkManagers.get(key);
+		return bookmarkManager == null ? Collections.emptySet() : bookmarkManager.getBookmarks();
+	}
+
+	@Override
+	public void storeBookmark(String key, String bookmark, Collection<String> previous) {
+
+		if (bookmark == null) {
+			return;
+		}
+		keyedBookmarkManagers.computeIfAbsent(key, k -> bookmarkManagerSupplier.get()).storeBookmark(bookmark, previous);
+	}
+}
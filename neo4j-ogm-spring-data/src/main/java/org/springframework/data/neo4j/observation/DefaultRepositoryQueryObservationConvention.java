@@ -0,0 +1,65 @@
+/*
+ * Copyright 2011-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.observation;
+
+import io.micrometer.common.KeyValues;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationConvention;
+
+import org.springframework.data.neo4j.observation.Neo4jObservation.RepositoryQueryHighCardinalityKeyNames;
+import org.springframework.data.neo4j.observation.Neo4jObservation.RepositoryQueryKeyNames;
+
+/**
+ * Default naming and tagging of {@link Neo4jObservation#REPOSITORY_QUERY} observations. Register a
+ * {@link io.micrometer.observation.GlobalObservationConvention} for {@link RepositoryQueryObservationContext} to
+ * change them.
+ *
+ * @author Michael J. Simons
+ */
+public class DefaultRepositoryQueryObservationConvention
+		implements ObservationConvention<RepositoryQueryObservationContext> {
+
+	public static final DefaultRepositoryQueryObservationConvention INSTANCE = new DefaultRepositoryQueryObservationConvention();
+
+	@Override
+	public String getName() {
+		return "neo4j.ogm.repository.query";
+	}
+
+	@Override
+	public String getContextualName(RepositoryQueryObservationContext context) {
+		return context.getRepositoryInterface().getSimpleName() + "." + context.getMethodName();
+	}
+
+	@Override
+	public KeyValues getLowCardinalityKeyValues(RepositoryQueryObservationContext context) {
+		return KeyValues.of(RepositoryQueryKeyNames.REPOSITORY.withValue(context.getRepositoryInterface().getSimpleName()),
+				RepositoryQueryKeyNames.METHOD.withValue(context.getMethodName()),
+				RepositoryQueryKeyNames.EXECUTION.withValue(context.getExecutionKind()));
+	}
+
+	@Override
+	public KeyValues getHighCardinalityKeyValues(RepositoryQueryObservationContext context) {
+		Long rows = context.getRows();
+		return rows == null ? KeyValues.empty()
+				: KeyValues.of(RepositoryQueryHighCardinalityKeyNames.ROWS.withValue(rows.toString()));
+	}
+
+	@Override
+	public boolean supportsContext(Observation.Context context) {
+		return context instanceof RepositoryQueryObservationContext;
+	}
+}
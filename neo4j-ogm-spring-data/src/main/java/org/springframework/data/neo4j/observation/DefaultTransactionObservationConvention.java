@@ -0,0 +1,63 @@
+/*
+ * Copyright 2011-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.observation;
+
+import java.util.Locale;
+
+import io.micrometer.common.KeyValues;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationConvention;
+
+import org.springframework.data.neo4j.observation.Neo4jObservation.TransactionKeyNames;
+
+/**
+ * Default naming and tagging of {@link Neo4jObservation#TRANSACTION} observations. Register a
+ * {@link io.micrometer.observation.GlobalObservationConvention} for {@link TransactionObservationContext} to change
+ * them.
+ *
+ * @author Michael J. Simons
+ */
+public class DefaultTransactionObservationConvention implements ObservationConvention<TransactionObservationContext> {
+
+	public static final DefaultTransactionObservationConvention INSTANCE = new DefaultTransactionObservationConvention();
+
+	@Override
+	public String getName() {
+		return "neo4j.ogm.transaction";
+	}
+
+	@Override
+	public String getContextualName(TransactionObservationContext context) {
+		String transactionName = context.getTransactionName();
+		String operation = context.getOperation().name().toLowerCase(Locale.ROOT);
+		return transactionName == null ? "transaction " + operation : transactionName + " " + operation;
+	}
+
+	@Override
+	public KeyValues getLowCardinalityKeyValues(TransactionObservationContext context) {
+		TransactionObservationContext.AccessMode accessMode = context.getAccessMode();
+		return KeyValues.of(
+				TransactionKeyNames.OPERATION.withValue(context.getOperation().name().toLowerCase(Locale.ROOT)),
+				TransactionKeyNames.READ_ONLY.withValue(Boolean.toString(context.isReadOnly())),
+				TransactionKeyNames.ACCESS_MODE
+						.withValue(accessMode == null ? "unknown" : accessMode.name().toLowerCase(Locale.ROOT)));
+	}
+
+	@Override
+	public boolean supportsContext(Observation.Context context) {
+		return context instanceof TransactionObservationContext;
+	}
+}
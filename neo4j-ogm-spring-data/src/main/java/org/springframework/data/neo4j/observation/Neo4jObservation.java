@@ -0,0 +1,158 @@
+/*
+ * Copyright 2011-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.observation;
+
+import io.micrometer.common.docs.KeyName;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationConvention;
+import io.micrometer.observation.docs.ObservationDocumentation;
+
+/**
+ * Documents the observations created by Spring Data Neo4j OGM. Observations are only recorded when an
+ * {@link io.micrometer.observation.ObservationRegistry} has been configured on the
+ * {@link org.springframework.data.neo4j.repository.support.Neo4jRepositoryFactoryBean repositories} or the
+ * {@link org.springframework.data.neo4j.transaction.Neo4jTransactionManager transaction manager}.
+ *
+ * @author Michael J. Simons
+ */
+public enum Neo4jObservation implements ObservationDocumentation {
+
+	/**
+	 * Execution of a query method of a repository.
+	 */
+	REPOSITORY_QUERY {
+		@Override
+		public Class<? extends ObservationConvention<? extends Observation.Context>> getDefaultConvention() {
+			return DefaultRepositoryQueryObservationConvention.class;
+		}
+
+		@Override
+		public KeyName[] getLowCardinalityKeyNames() {
+			return RepositoryQueryKeyNames.values();
+		}
+
+		@Override
+		public KeyName[] getHighCardinalityKeyNames() {
+			return RepositoryQueryHighCardinalityKeyNames.values();
+		}
+	},
+
+	/**
+	 * Begin, commit or rollback of a transaction managed by the
+	 * {@link org.springframework.data.neo4j.transaction.Neo4jTransactionManager}.
+	 */
+	TRANSACTION {
+		@Override
+		public Class<? extends ObservationConvention<? extends Observation.Context>> getDefaultConvention() {
+			return DefaultTransactionObservationConvention.class;
+		}
+
+		@Override
+		public KeyName[] getLowCardinalityKeyNames() {
+			return TransactionKeyNames.values();
+		}
+	};
+
+	/**
+	 * Low cardinality keys of {@link #REPOSITORY_QUERY}.
+	 */
+	public enum RepositoryQueryKeyNames implements KeyName {
+
+		/**
+		 * Simple name of the repository interface.
+		 */
+		REPOSITORY {
+			@Override
+			public String asString() {
+				return "repository";
+			}
+		},
+
+		/**
+		 * Name of the query method.
+		 */
+		METHOD {
+			@Override
+			public String asString() {
+				return "method";
+			}
+		},
+
+		/**
+		 * Kind of execution, for example {@literal paged}, {@literal slice}, {@literal count} or {@literal stream}.
+		 */
+		EXECUTION {
+			@Override
+			public String asString() {
+				return "execution";
+			}
+		}
+	}
+
+	/**
+	 * High cardinality keys of {@link #REPOSITORY_QUERY}.
+	 */
+	public enum RepositoryQueryHighCardinalityKeyNames implements KeyName {
+
+		/**
+		 * Number of returned elements. Missing for streams, as they are consumed after the observation stopped.
+		 */
+		ROWS {
+			@Override
+			public String asString() {
+				return "rows";
+			}
+		}
+	}
+
+	/**
+	 * Low cardinality keys of {@link #TRANSACTION}.
+	 */
+	public enum TransactionKeyNames implements KeyName {
+
+		/**
+		 * One of {@literal begin}, {@literal commit} or {@literal rollback}.
+		 */
+		OPERATION {
+			@Override
+			public String asString() {
+				return "operation";
+			}
+		},
+
+		/**
+		 * Whether the transaction is read-only.
+		 */
+		READ_ONLY {
+			@Override
+			public String asString() {
+				return "read-only";
+			}
+		},
+
+		/**
+		 * The access mode in which the transaction has actually been begun, {@literal read} or {@literal write}. The
+		 * ratio of both shows how many transactions can be served by followers or read replicas. How they are spread
+		 * across the members of a cluster is recorded by the connection pool metrics of the Neo4j Java driver.
+		 */
+		ACCESS_MODE {
+			@Override
+			public String asString() {
+				return "access-mode";
+			}
+		}
+	}
+}
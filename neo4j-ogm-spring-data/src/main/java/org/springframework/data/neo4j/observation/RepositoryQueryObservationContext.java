@@ -0,0 +1,68 @@
+/*
+ * Copyright 2011-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.observation;
+
+import io.micrometer.observation.Observation;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Context of a {@link Neo4jObservation#REPOSITORY_QUERY} observation.
+ *
+ * @author Michael J. Simons
+ */
+public class RepositoryQueryObservationContext extends Observation.Context {
+
+	private final Class<?> repositoryInterface;
+	private final String methodName;
+	private final String executionKind;
+	private @Nullable Long rows;
+
+	/**
+	 * @param repositoryInterface The repository declaring the query method
+	 * @param methodName          The name of the query method
+	 * @param executionKind       The kind of execution, for example {@literal paged} or {@literal stream}
+	 */
+	public RepositoryQueryObservationContext(Class<?> repositoryInterface, String methodName, String executionKind) {
+		this.repositoryInterface = repositoryInterface;
+		this.methodName = methodName;
+		this.executionKind = executionKind;
+	}
+
+	public Class<?> getRepositoryInterface() {
+		return repositoryInterface;
+	}
+
+	public String getMethodName() {
+		return methodName;
+	}
+
+	public String getExecutionKind() {
+		return executionKind;
+	}
+
+	/**
+	 * @return The number of returned elements or {@literal null} if it is not known, i.e. for streams
+	 */
+	@Nullable
+	public Long getRows() {
+		return rows;
+	}
+
+	public void setRows(@Nullable Long rows) {
+		this.rows = rows;
+	}
+}
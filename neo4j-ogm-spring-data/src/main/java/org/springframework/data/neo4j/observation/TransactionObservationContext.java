@@ -0,0 +1,85 @@
+/*
+ * Copyright 2011-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.observation;
+
+import io.micrometer.observation.Observation;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Context of a {@link Neo4jObservation#TRANSACTION} observation.
+ *
+ * @author Michael J. Simons
+ */
+public class TransactionObservationContext extends Observation.Context {
+
+	/**
+	 * The observed operation of the transaction manager.
+	 */
+	public enum Operation {
+		BEGIN, COMMIT, ROLLBACK
+	}
+
+	/**
+	 * The access mode in which the transaction has actually been begun. Transactions in read mode are routed to
+	 * followers or read replicas of a cluster.
+	 */
+	public enum AccessMode {
+		READ, WRITE
+	}
+
+	private final Operation operation;
+	private final boolean readOnly;
+	private final @Nullable String transactionName;
+	private @Nullable AccessMode accessMode;
+
+	/**
+	 * @param operation       The observed operation
+	 * @param readOnly        Whether the transaction is read-only
+	 * @param transactionName The name of the transaction, usually the fully qualified name of the transactional method
+	 */
+	public TransactionObservationContext(Operation operation, boolean readOnly, @Nullable String transactionName) {
+		this.operation = operation;
+		this.readOnly = readOnly;
+		this.transactionName = transactionName;
+	}
+
+	public Operation getOperation() {
+		return operation;
+	}
+
+	public boolean isReadOnly() {
+		return readOnly;
+	}
+
+	@Nullable
+	public String getTransactionName() {
+		return transactionName;
+	}
+
+	/**
+	 * @return The access mode of the transaction or {@literal null} if it could not be determined, i.e. because the
+	 *         operation failed
+	 */
+	@Nullable
+	public AccessMode getAccessMode() {
+		return accessMode;
+	}
+
+	public void setAccessMode(@Nullable AccessMode accessMode) {
+		this.accessMode = accessMode;
+	}
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2011-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository;
+
+import java.io.Serializable;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.data.repository.reactive.ReactiveSortingRepository;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Neo4j OGM specific extension of {@link org.springframework.data.repository.Repository} returning {@link Flux} and
+ * {@link Mono}. Reads are streamed through the reactive session of the Neo4j Java driver and mapped with the metadata
+ * of Neo4j-OGM, writes are done through a Neo4j-OGM session on a thread that may block.
+ *
+ * @author Michael J. Simons
+ * @see org.springframework.data.neo4j.repository.query.ReactiveQueryRunner
+ */
+@NoRepositoryBean
+public interface ReactiveNeo4jRepository<T, ID extends Serializable>
+		extends ReactiveSortingRepository<T, ID>, ReactiveCrudRepository<T, ID> {
+
+	<S extends T> Mono<S> save(S s, int depth);
+
+	Mono<T> findById(ID id, int depth);
+
+	Flux<T> findAll(int depth);
+
+	Flux<T> findAll(Sort sort, int depth);
+
+	Flux<T> findAllById(Iterable<ID> ids, int depth);
+}
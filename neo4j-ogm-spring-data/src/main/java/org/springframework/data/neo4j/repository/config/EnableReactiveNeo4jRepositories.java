@@ -0,0 +1,142 @@
+/*
+ * Copyright 2011-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.config;
+
+import static org.springframework.data.neo4j.repository.config.Neo4jRepositoryConfigurationExtension.*;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.neo4j.repository.support.ReactiveNeo4jRepositoryFactoryBean;
+import org.springframework.data.repository.config.DefaultRepositoryBaseClass;
+import org.springframework.data.repository.query.QueryLookupStrategy;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Annotation to enable {@link org.springframework.data.neo4j.repository.ReactiveNeo4jRepository reactive Neo4j
+ * repositories}. Will scan the package of the annotated configuration class for reactive Spring Data repositories by
+ * default. Can be combined with {@link EnableNeo4jRepositories}, each annotation only picks up the repositories of its
+ * own kind.
+ *
+ * @author Michael J. Simons
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+@Import(ReactiveNeo4jRepositoriesRegistrar.class)
+public @interface EnableReactiveNeo4jRepositories {
+
+	/**
+	 * Alias for the {@link #basePackages()} attribute. Allows for more concise annotation declarations e.g.:
+	 * {@code @EnableReactiveNeo4jRepositories("org.my.pkg")} instead of
+	 * {@code @EnableReactiveNeo4jRepositories(basePackages="org.my.pkg")}.
+	 */
+	String[] value() default {};
+
+	/**
+	 * Base packages to scan for annotated components. {@link #value()} is an alias for (and mutually exclusive with) this
+	 * attribute. Use {@link #basePackageClasses()} for a type-safe alternative to String-based package names.
+	 */
+	String[] basePackages() default {};
+
+	/**
+	 * Type-safe alternative to {@link #basePackages()} for specifying the packages to scan for annotated components. The
+	 * package of each class specified will be scanned. Consider creating a special no-op marker class or interface in
+	 * each package that serves no purpose other than being referenced by this attribute.
+	 */
+	Class<?>[] basePackageClasses() default {};
+
+	/**
+	 * Specifies which types are eligible for component scanning. Further narrows the set of candidate components from
+	 * everything in {@link #basePackages()} to everything in the base packages that matches the given filter or filters.
+	 */
+	ComponentScan.Filter[] includeFilters() default {};
+
+	/**
+	 * Specifies which types are not eligible for component scanning.
+	 */
+	ComponentScan.Filter[] excludeFilters() default {};
+
+	/**
+	 * Returns the postfix to be used when looking up custom repository implementations. Defaults to {@literal Impl}. So
+	 * for a repository named {@code PersonRepository} the corresponding implementation class will be looked up scanning
+	 * for {@code PersonRepositoryImpl}.
+	 */
+	String repositoryImplementationPostfix() default "Impl";
+
+	/**
+	 * Configures the location of where to find the Spring Data named queries properties file. Will default to
+	 * {@code META-INFO/neo4j-named-queries.properties}.
+	 */
+	String namedQueriesLocation() default "";
+
+	/**
+	 * Returns the key of the {@link QueryLookupStrategy} to be used for lookup queries for query methods. Defaults to
+	 * {@link org.springframework.data.repository.query.QueryLookupStrategy.Key#CREATE_IF_NOT_FOUND}.
+	 */
+	QueryLookupStrategy.Key queryLookupStrategy() default QueryLookupStrategy.Key.CREATE_IF_NOT_FOUND;
+
+	/**
+	 * Returns the {@link org.springframework.beans.factory.FactoryBean} class to be used for each repository instance.
+	 * Defaults to {@link ReactiveNeo4jRepositoryFactoryBean}.
+	 */
+	Class<?> repositoryFactoryBeanClass() default ReactiveNeo4jRepositoryFactoryBean.class;
+
+	/**
+	 * Configure the repository base class to be used to create repository proxies for this particular configuration.
+	 *
+	 * @return
+	 */
+	Class<?> repositoryBaseClass() default DefaultRepositoryBaseClass.class;
+
+	/**
+	 * Configures the name of the {@link org.neo4j.ogm.session.SessionFactory} bean definition to be used to create
+	 * repositories discovered through this annotation. Defaults to {@code sessionFactory}.
+	 */
+	String sessionFactoryRef() default DEFAULT_SESSION_FACTORY_BEAN_NAME;
+
+	/**
+	 * Configures the name of the {@link org.neo4j.ogm.session.Session} bean definition created. Defaults to a generated
+	 * name.
+	 */
+	String sessionBeanName() default GENERATE_BEAN_NAME;
+
+	/**
+	 * Configures the name of the {@link PlatformTransactionManager} bean definition in whose transactions the
+	 * repositories discovered through this annotation write. Defaults to {@code transactionManager}, writes are not run
+	 * in a surrounding transaction if there is no such bean.
+	 */
+	String transactionManagerRef() default DEFAULT_TRANSACTION_MANAGER_BEAN_NAME;
+
+	/**
+	 * Configures the name of the {@link org.springframework.data.neo4j.mapping.Neo4jMappingContext} bean definition
+	 * created. Defaults to a generated name.
+	 */
+	String mappingContextBeanName() default GENERATE_BEAN_NAME;
+
+	/**
+	 * Configures whether nested repository-interfaces (e.g. defined as inner classes) should be discovered by the
+	 * repositories infrastructure.
+	 */
+	boolean considerNestedRepositories() default false;
+}
@@ -40,6 +40,7 @@ import org.springframework.data.repository.config.AnnotationRepositoryConfigurat
 import org.springframework.data.repository.config.RepositoryConfigurationExtensionSupport;
 import org.springframework.data.repository.config.RepositoryConfigurationSource;
 import org.springframework.data.repository.config.XmlRepositoryConfigurationSource;
+import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.util.StringUtils;
 
 /**
@@ -121,6 +122,16 @@ public class Neo4jRepositoryConfigurationExtension extends RepositoryConfigurati
 		return Collections.singleton(Neo4jRepository.class);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.config.RepositoryConfigurationExtensionSupport#useRepositoryConfiguration(org.springframework.data.repository.core.RepositoryMetadata)
+	 */
+	@Override
+	protected boolean useRepositoryConfiguration(RepositoryMetadata metadata) {
+		// Reactive repositories are picked up by the ReactiveNeo4jRepositoryConfigurationExtension
+		return !metadata.isReactiveRepository();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.repository.config.RepositoryConfigurationExtensionSupport#postProcess(org.springframework.beans.factory.support.BeanDefinitionBuilder, org.springframework.data.repository.config.RepositoryConfigurationSource)
@@ -132,12 +143,14 @@ public class Neo4jRepositoryConfigurationExtension extends RepositoryConfigurati
 		String transactionManagerPropertyName = "transactionManager";
 		String mappingContextPropertyName = "mappingContext";
 		String sessionPropertyName = "session";
+		String sessionFactoryPropertyName = "sessionFactory";
 
 		Optional<String> transactionManagerRef = source.getAttribute(transactionManagerRefPropertyName);
 		builder.addPropertyValue(transactionManagerPropertyName,
 				transactionManagerRef.orElse(DEFAULT_TRANSACTION_MANAGER_BEAN_NAME));
 
 		builder.addPropertyReference(sessionPropertyName, this.sessionBeanName);
+		builder.addPropertyReference(sessionFactoryPropertyName, getSessionFactoryBeanName(source));
 		builder.addPropertyReference(mappingContextPropertyName, this.neo4jMappingContextBeanName);
 	}
 
@@ -265,7 +278,7 @@ public class Neo4jRepositoryConfigurationExtension extends RepositoryConfigurati
 				.getBeanDefinition();
 	}
 
-	private static String getSessionFactoryBeanName(RepositoryConfigurationSource config) {
+	static String getSessionFactoryBeanName(RepositoryConfigurationSource config) {
 		return Optional.of("sessionFactoryRef").flatMap(config::getAttribute).orElse(DEFAULT_SESSION_FACTORY_BEAN_NAME);
 	}
 
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2011-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.config;
+
+import java.util.Collection;
+import java.util.Collections;
+
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.data.neo4j.repository.ReactiveNeo4jRepository;
+import org.springframework.data.neo4j.repository.support.ReactiveNeo4jRepositoryFactoryBean;
+import org.springframework.data.repository.config.AnnotationRepositoryConfigurationSource;
+import org.springframework.data.repository.config.XmlRepositoryConfigurationSource;
+import org.springframework.data.repository.core.RepositoryMetadata;
+
+/**
+ * Configuration extension for {@link EnableReactiveNeo4jRepositories}. Registers the same infrastructure as the
+ * {@link Neo4jRepositoryConfigurationExtension} but only picks up {@link ReactiveNeo4jRepository reactive repositories}.
+ *
+ * @author Michael J. Simons
+ */
+public class ReactiveNeo4jRepositoryConfigurationExtension extends Neo4jRepositoryConfigurationExtension {
+
+	private static final String MODULE_NAME = "Reactive Neo4j";
+
+	@Override
+	public String getModuleName() {
+		return MODULE_NAME;
+	}
+
+	@Override
+	public String getRepositoryFactoryBeanClassName() {
+		return ReactiveNeo4jRepositoryFactoryBean.class.getName();
+	}
+
+	@Override
+	protected Collection<Class<?>> getIdentifyingTypes() {
+		return Collections.singleton(ReactiveNeo4jRepository.class);
+	}
+
+	@Override
+	protected boolean useRepositoryConfiguration(RepositoryMetadata metadata) {
+		return metadata.isReactiveRepository();
+	}
+
+	@Override
+	public void postProcess(BeanDefinitionBuilder builder, AnnotationRepositoryConfigurationSource config) {
+		// Reactive repositories don't have default transactions, writes are run in a transaction of their own
+	}
+
+	@Override
+	public void postProcess(BeanDefinitionBuilder builder, XmlRepositoryConfigurationSource config) {
+		// There's no XML namespace for reactive repositories
+	}
+}
@@ -15,12 +15,25 @@
  */
 package org.springframework.data.neo4j.repository.query;
 
+import java.time.Duration;
+import java.util.Collection;
 import java.util.EmptyStackException;
+import java.util.Iterator;
+import java.util.stream.Stream;
 
+import io.micrometer.observation.ObservationRegistry;
+import org.jspecify.annotations.Nullable;
+import org.neo4j.ogm.driver.Driver;
 import org.neo4j.ogm.metadata.MetaData;
 import org.neo4j.ogm.model.QueryStatistics;
 import org.neo4j.ogm.model.Result;
 import org.neo4j.ogm.session.Session;
+import org.springframework.data.core.ReactiveWrappers;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.data.neo4j.observation.DefaultRepositoryQueryObservationConvention;
+import org.springframework.data.neo4j.observation.Neo4jObservation;
+import org.springframework.data.neo4j.observation.RepositoryQueryObservationContext;
 import org.springframework.data.repository.query.RepositoryQuery;
 
 /**
@@ -35,6 +48,12 @@ public abstract class AbstractGraphRepositoryQuery implements RepositoryQuery {
 	protected final MetaData metaData;
 	protected final Session session;
 
+	private volatile @Nullable GraphQueryExecution execution;
+	private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+	private @Nullable SlowQueryLog slowQueryLog;
+	private @Nullable ReactiveQueryRunner reactiveQueryRunner;
+	private @Nullable Driver ogmDriver;
+
 	protected AbstractGraphRepositoryQuery(GraphQueryMethod queryMethod, MetaData metaData, Session session) {
 
 		this.queryMethod = queryMethod;
@@ -54,20 +73,114 @@ public abstract class AbstractGraphRepositoryQuery implements RepositoryQuery {
 			throw new IllegalArgumentException("Not enough arguments for query " + getQueryMethod().getName());
 		}
 
-		return doExecute(query, parameters);
+		if (getExecution() instanceof ReactiveGraphQueryExecution) {
+			// Nothing has been run when a reactive execution returns, so there's nothing to observe or to measure
+			return doExecute(query, parameters);
+		}
+
+		if (observationRegistry.isNoop()) {
+			return slowQueryLog == null ? doExecute(query, parameters) : doExecuteAndLogIfSlow(query, parameters);
+		}
+
+		RepositoryQueryObservationContext context = new RepositoryQueryObservationContext(
+				queryMethod.getRepositoryInterface(), queryMethod.getName(), getExecutionKind(getExecution()));
+		return Neo4jObservation.REPOSITORY_QUERY
+				.observation(null, DefaultRepositoryQueryObservationConvention.INSTANCE, () -> context, observationRegistry)
+				.observe(() -> {
+					Object result = slowQueryLog == null ? doExecute(query, parameters)
+							: doExecuteAndLogIfSlow(query, parameters);
+					context.setRows(countRows(result));
+					return result;
+				});
+	}
+
+	private Object doExecuteAndLogIfSlow(Query query, Object[] parameters) {
+
+		long start = System.nanoTime();
+		Long rows = null;
+		try {
+			Object result = doExecute(query, parameters);
+			rows = countRows(result);
+			return result;
+		} finally {
+			// Executions failing after a long time, for example with a timeout, are logged with an unknown number of rows
+			slowQueryLog.logIfSlow(queryMethod, metaData, query, System.nanoTime() - start, rows);
+		}
 	}
 
 	protected abstract Object doExecute(Query params, Object[] parameters);
 
+	/**
+	 * Configures the registry in which the executions of this query are observed. Nothing is observed by default.
+	 *
+	 * @param observationRegistry The registry to use
+	 * @see Neo4jObservation#REPOSITORY_QUERY
+	 */
+	void setObservationRegistry(ObservationRegistry observationRegistry) {
+		this.observationRegistry = observationRegistry;
+	}
+
+	/**
+	 * Configures the duration after which executions of this query are logged as slow. Nothing is logged by default.
+	 *
+	 * @param slowQueryThreshold The threshold or {@literal null} to disable the slow query log
+	 * @see SlowQueryLog
+	 */
+	void setSlowQueryThreshold(@Nullable Duration slowQueryThreshold) {
+		this.slowQueryLog = slowQueryThreshold == null ? null : new SlowQueryLog(slowQueryThreshold);
+	}
+
+	/**
+	 * Configures the runner through which query methods returning {@link reactor.core.publisher.Flux} or
+	 * {@link reactor.core.publisher.Mono} are executed. Such methods are executed in a blocking way otherwise.
+	 *
+	 * @param reactiveQueryRunner The runner for reactive query methods
+	 */
+	void setReactiveQueryRunner(@Nullable ReactiveQueryRunner reactiveQueryRunner) {
+		this.reactiveQueryRunner = reactiveQueryRunner;
+	}
+
+	/**
+	 * Configures the driver of the session factory the session of this query belongs to. Query methods returning a
+	 * {@link Stream} map the records of the result cursor one by one and pages of entities are retrieved together with
+	 * their total only with a known driver.
+	 *
+	 * @param ogmDriver The Neo4j-OGM driver or {@literal null} if it's not known
+	 */
+	void setOgmDriver(@Nullable Driver ogmDriver) {
+		this.ogmDriver = ogmDriver;
+	}
+
 	@Override
 	public GraphQueryMethod getQueryMethod() {
 		return queryMethod;
 	}
 
-	protected GraphQueryExecution getExecution(GraphParameterAccessor accessor) {
+	/**
+	 * Returns the execution of this query. The execution is resolved on first use, as the kind of query is only known
+	 * after subclasses have been initialized, and then reused for all invocations.
+	 *
+	 * @return The execution of this query
+	 */
+	protected GraphQueryExecution getExecution() {
+
+		GraphQueryExecution resolvedExecution = this.execution;
+		if (resolvedExecution == null) {
+			resolvedExecution = createExecution();
+			this.execution = resolvedExecution;
+		}
+		return resolvedExecution;
+	}
+
+	private GraphQueryExecution createExecution() {
+
+		Class<?> returnType = queryMethod.getMethod().getReturnType();
+		if (reactiveQueryRunner != null && ReactiveWrappers.supports(returnType)) {
+			return createReactiveExecution(reactiveQueryRunner, returnType);
+		}
 
 		if (queryMethod.isStreamQuery()) {
-			return new GraphQueryExecution.CollectionExecution(session, accessor);
+			return new GraphQueryExecution.StreamExecution(session, ogmDriver);
 		}
 		if (isCountQuery()) {
 			return new GraphQueryExecution.CountByExecution(session);
@@ -79,18 +192,82 @@ public abstract class AbstractGraphRepositoryQuery implements RepositoryQuery {
 			return new GraphQueryExecution.ExistsByExecution(session);
 		}
 		if (returnsOgmSpecificType()) {
-			return new GraphQueryExecution.QueryResultExecution(session, accessor);
+			return new GraphQueryExecution.QueryResultExecution(session);
 		}
 		if (queryMethod.isCollectionQuery()) {
-			return new GraphQueryExecution.CollectionExecution(session, accessor);
+			return new GraphQueryExecution.CollectionExecution(session);
 		}
 		if (queryMethod.isPageQuery()) {
-			return new GraphQueryExecution.PagedExecution(session, accessor);
+			return new GraphQueryExecution.PagedExecution(session, ogmDriver);
 		}
 		if (queryMethod.isSliceQuery()) {
-			return new GraphQueryExecution.SlicedExecution(session, accessor);
+			return new GraphQueryExecution.SlicedExecution(session);
+		}
+		if (queryMethod.isScrollQuery()) {
+			return new GraphQueryExecution.ScrollExecution(session);
+		}
+		return new GraphQueryExecution.SingleEntityExecution(session);
+	}
+
+	private GraphQueryExecution createReactiveExecution(ReactiveQueryRunner queryRunner, Class<?> returnType) {
+
+		if (isCountQuery()) {
+			return new ReactiveGraphQueryExecution.CountByExecution(queryRunner);
+		}
+		if (isDeleteQuery()) {
+			return new ReactiveGraphQueryExecution.DeleteByExecution(queryRunner, session, queryMethod);
+		}
+		if (isExistsQuery()) {
+			return new ReactiveGraphQueryExecution.ExistsByExecution(queryRunner);
+		}
+		if (ReactiveWrappers.isSingleValueType(returnType)) {
+			return new ReactiveGraphQueryExecution.MonoExecution(queryRunner);
+		}
+		return new ReactiveGraphQueryExecution.FluxExecution(queryRunner);
+	}
+
+	private static String getExecutionKind(GraphQueryExecution execution) {
+
+		if (execution instanceof GraphQueryExecution.StreamExecution) {
+			return "stream";
+		} else if (execution instanceof GraphQueryExecution.CountByExecution) {
+			return "count";
+		} else if (execution instanceof GraphQueryExecution.DeleteByExecution) {
+			return "delete";
+		} else if (execution instanceof GraphQueryExecution.ExistsByExecution) {
+			return "exists";
+		} else if (execution instanceof GraphQueryExecution.QueryResultExecution) {
+			return "result";
+		} else if (execution instanceof GraphQueryExecution.CollectionExecution) {
+			return "collection";
+		} else if (execution instanceof GraphQueryExecution.PagedExecution) {
+			return "paged";
+		} else if (execution instanceof GraphQueryExecution.SlicedExecution) {
+			return "slice";
+		} else if (execution instanceof GraphQueryExecution.ScrollExecution) {
+			return "scroll";
+		}
+		return "single";
+	}
+
+	/**
+	 * Scalar results, like counts, count as one row. Streams and iterators are consumed after the query has been
+	 * observed, so their number of rows is unknown.
+	 */
+	private static @Nullable Long countRows(@Nullable Object result) {
+
+		if (result == null) {
+			return 0L;
+		} else if (result instanceof Slice<?> slice) {
+			return (long) slice.getNumberOfElements();
+		} else if (result instanceof Window<?> window) {
+			return (long) window.size();
+		} else if (result instanceof Collection<?> collection) {
+			return (long) collection.size();
+		} else if (result instanceof Stream<?> || result instanceof Iterator<?> || result instanceof Iterable<?>) {
+			return null;
 		}
-		return new GraphQueryExecution.SingleEntityExecution(session, accessor);
+		return 1L;
 	}
 
 	/**
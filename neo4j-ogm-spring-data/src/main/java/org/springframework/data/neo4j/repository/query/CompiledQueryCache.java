@@ -0,0 +1,456 @@
+/*
+ * Copyright 2011-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+
+import org.jspecify.annotations.Nullable;
+import org.neo4j.ogm.annotation.Property;
+import org.neo4j.ogm.context.GraphRowListModelMapper;
+import org.neo4j.ogm.context.GraphRowModelMapper;
+import org.neo4j.ogm.cypher.Filter;
+import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.cypher.query.DefaultGraphModelRequest;
+import org.neo4j.ogm.cypher.query.DefaultGraphRowListModelRequest;
+import org.neo4j.ogm.cypher.query.Pagination;
+import org.neo4j.ogm.cypher.query.PagingAndSortingQuery;
+import org.neo4j.ogm.metadata.AnnotationInfo;
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.FieldInfo;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.GraphRowListModel;
+import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.request.FilteredQuery;
+import org.neo4j.ogm.session.request.FilteredQueryBuilder;
+import org.neo4j.ogm.transaction.Transaction;
+import org.neo4j.ogm.typeconversion.AttributeConverter;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.neo4j.transaction.SessionProxy;
+import org.springframework.data.neo4j.util.PagingAndSortingUtils;
+
+/**
+ * Holds the Cypher statements of a derived finder, one per combination of returned type, depth, sort order and the
+ * presence of pagination. A statement is rendered by Neo4j-OGM the first time a combination is used, with skip and
+ * limit as parameters. Later calls only apply the already resolved property names and converters to their filters and
+ * bind the parameter values. Streaming finders {@link #bind(Session, Class, Filters, Sort, Pagination, int, FetchPlanLoader)
+ * bind} the statement and run it themselves.
+ * <p>
+ * Statements are only cached if the filters of the finder render the same Cypher for all values, don't traverse
+ * relationships and belong to a node entity. Everything else, as well as calls without a session bound to the current
+ * transaction, is passed on to {@link Session#loadAll(Class, Filters, org.neo4j.ogm.cypher.query.SortOrder, Pagination, int)}.
+ * <p>
+ * Finders returning a {@link PropertyProjection} only select the projected properties. Their statements are compiled for
+ * each call if the filters render different Cypher depending on their values. The same applies to finders with a
+ * {@link FetchPlanLoader fetch plan}, whose statements only load the relationships of the plan.
+ *
+ * @author Michael J. Simons
+ */
+final class CompiledQueryCache {
+
+	/**
+	 * Arbitrary sort orders are passed in from the outside, so the number of cached statements must be limited.
+	 */
+	private static final int MAX_STATEMENTS = 64;
+
+	/**
+	 * Paged statements are compiled with this pagination, whose rendering is then replaced by {@link Query#SKIP_LIMIT},
+	 * so that the same statement can be used for all pages.
+	 */
+	private static final Pagination PAGINATION_PLACEHOLDER = new Pagination(0, 1);
+
+	private final boolean enabled;
+	private final ConcurrentMap<Key, Optional<CompiledQuery>> compiledQueries = new ConcurrentHashMap<>();
+
+	/**
+	 * @param enabled {@literal false} if the filters of the finder render different Cypher depending on their values
+	 */
+	CompiledQueryCache(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Loads the entities matching the given filters with the compiled statement if possible, through the session
+	 * otherwise.
+	 *
+	 * @param onBind Called with the compiled statement and its parameters before the statement is run
+	 */
+	Collection<?> loadAll(Session session, Class<?> type, Filters filters, Sort sort, @Nullable Pagination pagination,
+			int depth, @Nullable PropertyProjection projection, @Nullable FetchPlanLoader fetchPlan,
+			Consumer<BoundStatement> onBind) {
+
+		Neo4jSession targetSession = getTargetSession(session);
+		int numberOfFilters = countFilters(filters);
+		if (targetSession == null || (pagination != null && !(pagination instanceof Query.OffsetPagination))
+				|| numberOfFilters < 0 || (!enabled && projection == null && fetchPlan == null)) {
+			return session.loadAll(type, filters, PagingAndSortingUtils.convert(sort), pagination, depth);
+		}
+
+		Optional<CompiledQuery> compiledQuery = getCompiledQuery(targetSession, type, filters, sort, pagination != null,
+				depth, projection, fetchPlan);
+		if (compiledQuery.isEmpty()) {
+			return session.loadAll(type, filters, PagingAndSortingUtils.convert(sort), pagination, depth);
+		}
+		BoundStatement statement = compiledQuery.get().bind(filters, (Query.OffsetPagination) pagination);
+		onBind.accept(statement);
+		return compiledQuery.get().execute(targetSession, type, statement.getParameters());
+	}
+
+	/**
+	 * Looks up or compiles the statement loading the entities matching the given filters and binds the values of the
+	 * filters without running it.
+	 *
+	 * @return The bound statement or {@literal null} if the finder cannot be compiled
+	 */
+	@Nullable
+	BoundStatement bind(Session session, Class<?> type, Filters filters, Sort sort, @Nullable Pagination pagination,
+			int depth, @Nullable FetchPlanLoader fetchPlan) {
+
+		Neo4jSession targetSession = getTargetSession(session);
+		if (targetSession == null || (pagination != null && !(pagination instanceof Query.OffsetPagination))
+				|| countFilters(filters) < 0) {
+			return null;
+		}
+
+		Optional<CompiledQuery> compiledQuery = getCompiledQuery(targetSession, type, filters, sort, pagination != null,
+				depth, null, fetchPlan);
+		return compiledQuery.map(query -> query.bind(filters, (Query.OffsetPagination) pagination)).orElse(null);
+	}
+
+	/**
+	 * @return the number of statements compiled so far
+	 */
+	int size() {
+		return compiledQueries.size();
+	}
+
+	private Optional<CompiledQuery> getCompiledQuery(Neo4jSession session, Class<?> type, Filters filters, Sort sort,
+			boolean paged, int depth, @Nullable PropertyProjection projection, @Nullable FetchPlanLoader fetchPlan) {
+
+		Optional<CompiledQuery> compiledQuery;
+		if (enabled) {
+			Key key = new Key(type, depth, sort, paged, projection == null ? null : projection.getReturnedType());
+			compiledQuery = compiledQueries.get(key);
+			if (compiledQuery == null) {
+				compiledQuery = compile(session, type, filters, sort, paged, depth, projection, fetchPlan);
+				if (compiledQueries.size() < MAX_STATEMENTS) {
+					compiledQueries.putIfAbsent(key, compiledQuery);
+				}
+			}
+		} else {
+			// Projections, fetch plans and streams are worth compiling even if the statement depends on the values of
+			// the filters
+			compiledQuery = compile(session, type, filters, sort, paged, depth, projection, fetchPlan);
+		}
+		return compiledQuery.filter(query -> query.resolvedFilters.size() == countFilters(filters));
+	}
+
+	@Nullable
+	private static Neo4jSession getTargetSession(Session session) {
+
+		Session targetSession = session instanceof SessionProxy ? ((SessionProxy) session).getTargetSession() : session;
+		return targetSession instanceof Neo4jSession ? (Neo4jSession) targetSession : null;
+	}
+
+	/**
+	 * @return the number of filters or {@literal -1} if one of them traverses a relationship
+	 */
+	static int countFilters(Filters filters) {
+
+		int numberOfFilters = 0;
+		for (Filter filter : filters) {
+			if (filter.isNested() || filter.isDeepNested()) {
+				return -1;
+			}
+			++numberOfFilters;
+		}
+		return numberOfFilters;
+	}
+
+	/**
+	 * Resolves the filters in the same way Neo4j-OGM does before rendering them and keeps the result.
+	 */
+	private static Optional<CompiledQuery> compile(Neo4jSession session, Class<?> type, Filters filters, Sort sort,
+			boolean paged, int depth, @Nullable PropertyProjection projection, @Nullable FetchPlanLoader fetchPlan) {
+
+		ClassInfo classInfo = session.metaData().classInfo(type.getName());
+		Optional<String> label = session.determineLabelsOrTypeForLoading(type);
+		if (classInfo == null || classInfo.isRelationshipEntity() || label.isEmpty()) {
+			return Optional.empty();
+		}
+
+		List<ResolvedFilter> resolvedFilters = resolveFilters(session.metaData(), classInfo, type, filters);
+
+		PagingAndSortingQuery query;
+		if (projection != null) {
+			FilteredQuery filteredQuery = FilteredQueryBuilder.buildNodeQuery(label.get(), filters);
+			query = new PagingAndSortingQuery(filteredQuery.statement(), projection.getReturnClause("n"),
+					filteredQuery.parameters(), false, true);
+		} else if (fetchPlan != null) {
+			query = fetchPlan.findByType(label.get(), filters);
+		} else if (filters.isEmpty()) {
+			query = session.queryStatementsFor(type, depth).findByType(label.get(), depth);
+		} else {
+			query = session.queryStatementsFor(type, depth).findByType(label.get(), filters, depth);
+		}
+		query.setSortOrder(PagingAndSortingUtils.convert(resolveSort(classInfo, sort)))
+				.setPagination(paged ? PAGINATION_PLACEHOLDER : null);
+		String statement = paged ? withParameterizedPagination(query.getStatement()) : query.getStatement();
+		if (statement == null) {
+			return Optional.empty();
+		}
+		return Optional.of(new CompiledQuery(statement, query.needsRowResult(), resolvedFilters, projection));
+	}
+
+	/**
+	 * Replaces the pagination Neo4j-OGM rendered into the statement with parameters for skip and limit.
+	 *
+	 * @param statement A statement rendered with the {@link #PAGINATION_PLACEHOLDER}
+	 * @return The parameterized statement or {@literal null} if the pagination can't be located unambiguously, so that the
+	 *         finder falls back to the pagination of Neo4j-OGM
+	 */
+	@Nullable
+	static String withParameterizedPagination(String statement) {
+
+		String renderedPagination = PAGINATION_PLACEHOLDER.toString();
+		int index = statement.indexOf(renderedPagination);
+		if (index < 0 || statement.indexOf(renderedPagination, index + 1) >= 0) {
+			return null;
+		}
+		return statement.substring(0, index) + Query.SKIP_LIMIT
+				+ statement.substring(index + renderedPagination.length());
+	}
+
+	/**
+	 * Applies the property names and converters of the mapped fields to the filters of a finder on the given node
+	 * entity, as Neo4j-OGM would do before rendering them. Filters must not traverse relationships.
+	 *
+	 * @return The resolved filters in the order of the given ones
+	 */
+	static List<ResolvedFilter> resolveFilters(MetaData metaData, ClassInfo classInfo, Class<?> type,
+			Filters filters) {
+
+		List<ResolvedFilter> resolvedFilters = new ArrayList<>();
+		for (Filter filter : filters) {
+			Class<?> ownerType = filter.getOwnerEntityType() == null ? type : filter.getOwnerEntityType();
+			ClassInfo ownerClassInfo = metaData.classInfo(ownerType.getName());
+			String propertyName = ownerClassInfo == null ? filter.getPropertyName()
+					: resolvePropertyName(ownerClassInfo, filter.getPropertyName());
+			FieldInfo fieldInfo = classInfo.getFieldInfo(propertyName);
+			ResolvedFilter resolvedFilter = new ResolvedFilter(type, propertyName,
+					fieldInfo == null ? null : fieldInfo.getPropertyConverter());
+			resolvedFilter.applyTo(filter);
+			resolvedFilters.add(resolvedFilter);
+		}
+		return resolvedFilters;
+	}
+
+	/**
+	 * @return The given sort with all properties replaced by the escaped names of the mapped graph properties
+	 */
+	static Sort resolveSort(ClassInfo classInfo, Sort sort) {
+
+		List<Sort.Order> resolvedOrders = new ArrayList<>();
+		for (Sort.Order order : sort) {
+			resolvedOrders.add(order.withProperty("`" + resolvePropertyName(classInfo, order.getProperty()) + "`"));
+		}
+		return Sort.by(resolvedOrders);
+	}
+
+	private static String resolvePropertyName(ClassInfo classInfo, String propertyName) {
+
+		FieldInfo fieldInfo = classInfo.propertyFieldByName(propertyName);
+		AnnotationInfo annotation = fieldInfo == null || fieldInfo.getAnnotations() == null ? null
+				: fieldInfo.getAnnotations().get(Property.class);
+		return annotation == null ? propertyName : annotation.get("name", propertyName);
+	}
+
+	/**
+	 * Runs a statement rendered like the ones of Neo4j-OGM and maps the result to entities of the given type.
+	 *
+	 * @param needsRowResult {@literal true} if the statement returns the ids of the matched nodes as last column
+	 */
+	static <T> List<T> loadEntities(Neo4jSession session, Class<T> type, String statement,
+			Map<String, Object> parameters, boolean needsRowResult) {
+
+		return session.doInTransaction(() -> {
+			Iterable<T> result;
+			if (needsRowResult) {
+				try (Response<GraphRowListModel> response = session.requestHandler()
+						.execute(new DefaultGraphRowListModelRequest(statement, parameters))) {
+					result = new GraphRowListModelMapper(session.metaData(), session.context(),
+							session.getEntityInstantiator()).map(type, response);
+				}
+			} else {
+				try (Response<GraphModel> response = session.requestHandler()
+						.execute(new DefaultGraphModelRequest(statement, parameters))) {
+					result = new GraphRowModelMapper(session.metaData(), session.context(),
+							session.getEntityInstantiator()).map(type, response);
+				}
+			}
+			if (result instanceof List<T> list) {
+				return list;
+			}
+			List<T> list = new ArrayList<>();
+			result.forEach(list::add);
+			return list;
+		}, Transaction.Type.READ_WRITE);
+	}
+
+	private static final class CompiledQuery {
+
+		private final String statement;
+		private final boolean needsRowResult;
+		private final List<ResolvedFilter> resolvedFilters;
+		private final @Nullable PropertyProjection projection;
+
+		CompiledQuery(String statement, boolean needsRowResult, List<ResolvedFilter> resolvedFilters,
+				@Nullable PropertyProjection projection) {
+			this.statement = statement;
+			this.needsRowResult = needsRowResult;
+			this.resolvedFilters = resolvedFilters;
+			this.projection = projection;
+		}
+
+		<T> List<?> execute(Neo4jSession session, Class<T> type, Map<String, Object> parameters) {
+
+			if (projection != null) {
+				List<Object> result = new ArrayList<>();
+				for (Map<String, Object> row : session.query(statement, parameters, true).queryResults()) {
+					result.add(projection.map(row));
+				}
+				return result;
+			}
+
+			return loadEntities(session, type, statement, parameters, needsRowResult);
+		}
+
+		BoundStatement bind(Filters filters, Query.@Nullable OffsetPagination pagination) {
+
+			Map<String, Object> parameters = new HashMap<>();
+			int i = 0;
+			for (Filter filter : filters) {
+				resolvedFilters.get(i++).applyTo(filter);
+				parameters.putAll(filter.parameters());
+			}
+			if (pagination != null) {
+				parameters.put(Query.SKIP_PARAM, pagination.getOffset());
+				parameters.put(Query.LIMIT_PARAM, pagination.getLimit());
+			}
+			return new BoundStatement(statement, parameters, needsRowResult);
+		}
+	}
+
+	/**
+	 * A compiled statement together with the parameters of one call.
+	 */
+	static final class BoundStatement {
+
+		private final String statement;
+		private final Map<String, Object> parameters;
+		private final boolean needsRowResult;
+
+		BoundStatement(String statement, Map<String, Object> parameters, boolean needsRowResult) {
+			this.statement = statement;
+			this.parameters = parameters;
+			this.needsRowResult = needsRowResult;
+		}
+
+		String getStatement() {
+			return statement;
+		}
+
+		Map<String, Object> getParameters() {
+			return parameters;
+		}
+
+		/**
+		 * @return {@literal true} if the statement returns the ids of the matched nodes as last column
+		 */
+		boolean needsRowResult() {
+			return needsRowResult;
+		}
+	}
+
+	static final class ResolvedFilter {
+
+		private final Class<?> ownerType;
+		private final String propertyName;
+		private final @Nullable AttributeConverter<?, ?> propertyConverter;
+
+		ResolvedFilter(Class<?> ownerType, String propertyName, @Nullable AttributeConverter<?, ?> propertyConverter) {
+			this.ownerType = ownerType;
+			this.propertyName = propertyName;
+			this.propertyConverter = propertyConverter;
+		}
+
+		void applyTo(Filter filter) {
+
+			if (filter.getOwnerEntityType() == null) {
+				filter.setOwnerEntityType(ownerType);
+			}
+			Filter.setNameFromProperty(filter, propertyName);
+			if (propertyConverter != null) {
+				filter.setPropertyConverter(propertyConverter);
+			}
+		}
+	}
+
+	private static final class Key {
+
+		private final Class<?> type;
+		private final int depth;
+		private final Sort sort;
+		private final boolean paged;
+		private final @Nullable Class<?> projectionType;
+
+		Key(Class<?> type, int depth, Sort sort, boolean paged, @Nullable Class<?> projectionType) {
+			this.type = type;
+			this.depth = depth;
+			this.sort = sort;
+			this.paged = paged;
+			this.projectionType = projectionType;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof Key that)) {
+				return false;
+			}
+			return depth == that.depth && paged == that.paged && type.equals(that.type) && sort.equals(that.sort)
+					&& Objects.equals(projectionType, that.projectionType);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(type, depth, sort, paged, projectionType);
+		}
+	}
+}
@@ -19,7 +19,7 @@ import static java.lang.reflect.Proxy.*;
 
 import java.util.Map;
 
-import org.neo4j.ogm.context.SingleUseEntityMapper;
+import org.jspecify.annotations.Nullable;
 import org.neo4j.ogm.metadata.MetaData;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.neo4j.annotation.QueryResult;
@@ -33,16 +33,15 @@ import org.springframework.data.neo4j.annotation.QueryResult;
  */
 class CustomResultConverter implements Converter<Object, Object> {
 
-	private final MetaData metaData;
 	private final Class returnedType;
 
-	private final QueryResultInstantiator entityInstantiator;
+	private final @Nullable QueryResultMapper mapper;
 
 	CustomResultConverter(MetaData metaData, Class<?> returnedType, QueryResultInstantiator entityInstantiator) {
 
-		this.metaData = metaData;
 		this.returnedType = returnedType;
-		this.entityInstantiator = entityInstantiator;
+		this.mapper = returnedType.isInterface() || returnedType.getAnnotation(QueryResult.class) == null ? null
+				: new QueryResultMapper(metaData, returnedType, entityInstantiator);
 	}
 
 	@Override
@@ -53,12 +52,15 @@ class CustomResultConverter implements Converter<Object, Object> {
 			return source;
 		}
 		if (returnedType.isInterface()) {
+			QueryResultImplementation implementation = QueryResultImplementation.of(returnedType);
+			if (implementation != null) {
+				return implementation.newInstance((Map<String, Object>) source);
+			}
 			Class<?>[] interfaces = new Class<?>[] { returnedType };
 			return newProxyInstance(returnedType.getClassLoader(), interfaces,
 					new QueryResultProxy((Map<String, Object>) source));
 		}
 
-		SingleUseEntityMapper mapper = new SingleUseEntityMapper(metaData, entityInstantiator);
-		return mapper.map(returnedType, (Map<String, Object>) source);
+		return mapper.map((Map<String, Object>) source);
 	}
 }
@@ -0,0 +1,373 @@
+/*
+ * Copyright 2011-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.jspecify.annotations.Nullable;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.types.Entity;
+import org.neo4j.driver.types.Node;
+import org.neo4j.driver.types.Path;
+import org.neo4j.driver.types.Relationship;
+import org.neo4j.ogm.context.GraphRowListModelMapper;
+import org.neo4j.ogm.context.GraphRowModelMapper;
+import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.context.RestModelMapper;
+import org.neo4j.ogm.driver.Driver;
+import org.neo4j.ogm.driver.ParameterConversion;
+import org.neo4j.ogm.driver.TypeSystem;
+import org.neo4j.ogm.drivers.bolt.transaction.BoltTransaction;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.GraphRowListModel;
+import org.neo4j.ogm.model.GraphRowModel;
+import org.neo4j.ogm.model.RestModel;
+import org.neo4j.ogm.response.model.DefaultRestModel;
+import org.neo4j.ogm.result.adapter.GraphModelAdapter;
+import org.neo4j.ogm.result.adapter.RestModelAdapter;
+import org.neo4j.ogm.session.EntityInstantiator;
+import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.transaction.Transaction;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.neo4j.transaction.SessionFactoryUtils;
+import org.springframework.data.neo4j.transaction.SessionProxy;
+
+/**
+ * Maps single records of the Neo4j Java driver with the Neo4j-OGM metadata, so that records can be mapped as they
+ * arrive instead of being collected into a Neo4j-OGM response first. Parameters, values and exceptions are converted in
+ * the same way the Bolt transport of Neo4j-OGM does.
+ *
+ * @author Michael J. Simons
+ */
+final class DriverRecordMapper {
+
+	private final Driver ogmDriver;
+	private final GraphModelAdapter graphModelAdapter = new DriverGraphModelAdapter();
+	private final RestModelAdapter restModelAdapter = new DriverRestModelAdapter();
+
+	/**
+	 * @param ogmDriver The Neo4j-OGM driver whose type system, cypher modification and exception translation are used
+	 */
+	DriverRecordMapper(Driver ogmDriver) {
+		this.ogmDriver = ogmDriver;
+	}
+
+	/**
+	 * @return The session bound to the current transaction if the given session is a proxy, the session itself otherwise
+	 */
+	@Nullable
+	static Neo4jSession getTargetSession(Session session) {
+
+		Session targetSession = session instanceof SessionProxy ? ((SessionProxy) session).getTargetSession() : session;
+		return targetSession instanceof Neo4jSession ? (Neo4jSession) targetSession : null;
+	}
+
+	/**
+	 * @return The native transaction of the current transaction of the session if it uses the Bolt transport
+	 */
+	static org.neo4j.driver.@Nullable Transaction getNativeTransaction(Neo4jSession session) {
+
+		Transaction transaction = session.getTransaction();
+		return transaction instanceof BoltTransaction ? ((BoltTransaction) transaction).nativeBoltTransaction() : null;
+	}
+
+	/**
+	 * @return The statement as it would be sent by the Neo4j-OGM driver
+	 */
+	String applyCypherModification(String cypher) {
+		return ogmDriver.getCypherModification().apply(cypher);
+	}
+
+	/**
+	 * Converts the parameters in the same way the Bolt transport of Neo4j-OGM does: Values supported natively by the
+	 * type system are converted by it, everything else as well as all values without native types are converted to
+	 * maps and lists.
+	 */
+	Map<String, Object> convertParameters(Map<String, ?> parameters) {
+
+		TypeSystem typeSystem = ogmDriver.getTypeSystem();
+		Map<String, Object> convertedParameters = new HashMap<>(parameters.size());
+		Map<String, Object> unconvertedParameters = new HashMap<>(parameters.size());
+		parameters.forEach((key, value) -> {
+			if (value == null) {
+				convertedParameters.put(key, null);
+			} else if (value instanceof List<?> list) {
+				convertedParameters.put(key, list.stream().map(this::convertParameter).collect(Collectors.toList()));
+			} else if (value.getClass().isArray()) {
+				List<Object> list = new ArrayList<>();
+				for (int i = 0; i < Array.getLength(value); ++i) {
+					list.add(convertParameter(Array.get(value, i)));
+				}
+				convertedParameters.put(key, list);
+			} else if (value instanceof Map<?, ?> map) {
+				@SuppressWarnings("unchecked")
+				Map<String, ?> nestedParameters = (Map<String, ?>) map;
+				convertedParameters.put(key, convertParameters(nestedParameters));
+			} else if (typeSystem.supportsAsNativeType(value.getClass())) {
+				convertedParameters.put(key, typeSystem.getMappedToNativeTypeAdapter(value.getClass()).apply(value));
+			} else {
+				unconvertedParameters.put(key, value);
+			}
+		});
+		convertedParameters
+				.putAll(ParameterConversion.DefaultParameterConversion.INSTANCE.convertParameters(unconvertedParameters));
+		return convertedParameters;
+	}
+
+	@Nullable
+	private Object convertParameter(@Nullable Object value) {
+		return convertParameters(Collections.singletonMap("v", value)).get("v");
+	}
+
+	/**
+	 * @return The value converted into the type it would have been mapped to by Neo4j-OGM
+	 */
+	@Nullable
+	Object toMapped(@Nullable Value value) {
+
+		if (value == null || value.isNull()) {
+			return null;
+		}
+		if (org.neo4j.driver.types.TypeSystem.getDefault().LIST().isTypeOf(value)) {
+			return value.asList(this::toMapped);
+		}
+		Object object = value.asObject();
+		return ogmDriver.getTypeSystem().getNativeToMappedTypeAdapter(object.getClass()).apply(object);
+	}
+
+	/**
+	 * Translates driver and Neo4j-OGM exceptions into Spring's data access exceptions where possible.
+	 */
+	RuntimeException translateException(RuntimeException e) {
+
+		RuntimeException ogmException = ogmDriver.getExceptionTranslator().translateExceptionIfPossible(e);
+		DataAccessException dataAccessException = SessionFactoryUtils.convertOgmAccessException(ogmException);
+		return dataAccessException == null ? ogmException : dataAccessException;
+	}
+
+	/**
+	 * @return The nodes and relationships of the record, in the same way Neo4j-OGM adapts them for a graph response
+	 */
+	GraphModel toGraphModel(Record record) {
+		return graphModelAdapter.adapt(record.asMap());
+	}
+
+	/**
+	 * Maps the nodes and relationships of single records to entities of the given type. Statements that need a row result
+	 * return the id of the matched entity in their last column, only that entity is returned then and not the related
+	 * ones.
+	 *
+	 * @param context   The mapping context to map into
+	 * @param rowResult {@literal true} if the last column of the records holds the id of the matched entity
+	 */
+	<T> Function<Record, Iterable<T>> entities(MetaData metaData, MappingContext context,
+			EntityInstantiator entityInstantiator, Class<T> type, boolean rowResult) {
+
+		if (rowResult) {
+			GraphRowListModelMapper mapper = new GraphRowListModelMapper(metaData, context, entityInstantiator);
+			return record -> {
+				GraphRowModel rowModel = new SingleGraphRowModel(toGraphModel(record),
+						record.get(record.size() - 1).asLong());
+				GraphRowListModel rowListModel = () -> List.of(rowModel);
+				return mapper.map(type, new GraphQueryExecution.StreamExecution.SingleRowResponse<>(rowListModel,
+						record.keys().toArray(new String[0])));
+			};
+		}
+		GraphRowModelMapper mapper = new GraphRowModelMapper(metaData, context, entityInstantiator);
+		return record -> {
+			return mapper.map(type, new GraphQueryExecution.StreamExecution.SingleRowResponse<>(toGraphModel(record),
+					record.keys().toArray(new String[0])));
+		};
+	}
+
+	/**
+	 * Maps single records to maps of their columns, with nodes and relationships mapped to entities.
+	 *
+	 * @param context The mapping context to map into
+	 */
+	Function<Record, Iterable<Map<String, Object>>> rows(MetaData metaData, MappingContext context,
+			EntityInstantiator entityInstantiator) {
+
+		RestModelMapper mapper = new RestModelMapper(metaData, context, entityInstantiator);
+		return record -> {
+			RestModel row = DefaultRestModel.basedOn(restModelAdapter.adapt(record.asMap())).orElse(null);
+			return row == null ? Collections.emptyList()
+					: mapper.map(new GraphQueryExecution.StreamExecution.SingleRowResponse<>(row, new String[0]))
+							.getResult();
+		};
+	}
+
+	private static final class SingleGraphRowModel implements GraphRowModel {
+
+		private final GraphModel graph;
+		private final Object[] row;
+
+		SingleGraphRowModel(GraphModel graph, long id) {
+			this.graph = graph;
+			this.row = new Object[] { id };
+		}
+
+		@Override
+		public GraphModel getGraph() {
+			return graph;
+		}
+
+		@Override
+		public Object[] getRow() {
+			return row;
+		}
+	}
+
+	/**
+	 * Adapts the values of the Neo4j Java driver in the same way the Bolt transport of Neo4j-OGM does.
+	 */
+	private final class DriverGraphModelAdapter extends GraphModelAdapter {
+
+		@Override
+		public boolean isPath(Object value) {
+			return value instanceof Path;
+		}
+
+		@Override
+		public boolean isNode(Object value) {
+			return value instanceof Node;
+		}
+
+		@Override
+		public boolean isRelationship(Object value) {
+			return value instanceof Relationship;
+		}
+
+		@Override
+		public long nodeId(Object node) {
+			return ((Node) node).id();
+		}
+
+		@Override
+		public List<String> labels(Object node) {
+			return DriverRecordMapper.labels(node);
+		}
+
+		@Override
+		public long relationshipId(Object relationship) {
+			return ((Relationship) relationship).id();
+		}
+
+		@Override
+		public String relationshipType(Object relationship) {
+			return ((Relationship) relationship).type();
+		}
+
+		@Override
+		public Long startNodeId(Object relationship) {
+			return ((Relationship) relationship).startNodeId();
+		}
+
+		@Override
+		public Long endNodeId(Object relationship) {
+			return ((Relationship) relationship).endNodeId();
+		}
+
+		@Override
+		public Map<String, Object> properties(Object container) {
+			return ((Entity) container).asMap(DriverRecordMapper.this::toMapped);
+		}
+
+		@Override
+		public List<Object> nodesInPath(Object path) {
+
+			List<Object> nodes = new ArrayList<>();
+			((Path) path).nodes().forEach(nodes::add);
+			return nodes;
+		}
+
+		@Override
+		public List<Object> relsInPath(Object path) {
+
+			List<Object> relationships = new ArrayList<>();
+			((Path) path).relationships().forEach(relationships::add);
+			return relationships;
+		}
+	}
+
+	/**
+	 * The counterpart of {@link DriverGraphModelAdapter} for rows of arbitrary columns.
+	 */
+	private final class DriverRestModelAdapter extends RestModelAdapter {
+
+		@Override
+		public boolean isNode(Object value) {
+			return value instanceof Node;
+		}
+
+		@Override
+		public boolean isRelationship(Object value) {
+			return value instanceof Relationship;
+		}
+
+		@Override
+		public long nodeId(Object node) {
+			return ((Node) node).id();
+		}
+
+		@Override
+		public List<String> labels(Object node) {
+			return DriverRecordMapper.labels(node);
+		}
+
+		@Override
+		public long relationshipId(Object relationship) {
+			return ((Relationship) relationship).id();
+		}
+
+		@Override
+		public String relationshipType(Object relationship) {
+			return ((Relationship) relationship).type();
+		}
+
+		@Override
+		public Long startNodeId(Object relationship) {
+			return ((Relationship) relationship).startNodeId();
+		}
+
+		@Override
+		public Long endNodeId(Object relationship) {
+			return ((Relationship) relationship).endNodeId();
+		}
+
+		@Override
+		public Map<String, Object> properties(Object container) {
+			return ((Entity) container).asMap(DriverRecordMapper.this::toMapped);
+		}
+	}
+
+	private static List<String> labels(Object node) {
+
+		List<String> labels = new ArrayList<>();
+		((Node) node).labels().forEach(labels::add);
+		return labels;
+	}
+}
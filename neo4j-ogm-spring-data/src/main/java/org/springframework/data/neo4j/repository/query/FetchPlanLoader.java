@@ -0,0 +1,202 @@
+/*
+ * Copyright 2011-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.jspecify.annotations.Nullable;
+import org.neo4j.ogm.annotation.Relationship.Direction;
+import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.cypher.query.PagingAndSortingQuery;
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.FieldInfo;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.metadata.schema.Node;
+import org.neo4j.ogm.metadata.schema.Relationship;
+import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.request.FilteredQuery;
+import org.neo4j.ogm.session.request.FilteredQueryBuilder;
+import org.springframework.data.neo4j.annotation.FetchPlan;
+import org.springframework.util.Assert;
+
+/**
+ * Loads node entities together with the relationships given by the paths of a {@link FetchPlan}. The return clause has
+ * the same shape as the one Neo4j-OGM renders from its schema for a depth, but only follows the requested relationship
+ * properties. The statements always return the id of the matched node as the last column, so that only the matched
+ * nodes are returned as entities and not related nodes of the same type.
+ *
+ * @author Michael J. Simons
+ */
+public final class FetchPlanLoader {
+
+	private static final String MATCH_BY_LABEL = "MATCH (n:`%s`) WITH n";
+	private static final String MATCH_BY_NATIVE_IDS = "MATCH (n:`%s`) WHERE ID(n) IN $ids WITH n";
+	private static final String MATCH_BY_PRIMARY_INDEX = "MATCH (n:`%s`) WHERE n.`%s` IN $ids WITH n";
+
+	private final Class<?> type;
+	private final String returnClause;
+	private final int depth;
+
+	/**
+	 * @param metaData The metadata of the session factory
+	 * @param type     The node entity to load
+	 * @param paths    The paths of relationship properties to load
+	 * @throws IllegalArgumentException if the type is not a node entity or a path does not consist of relationship
+	 *                                  properties
+	 */
+	public FetchPlanLoader(MetaData metaData, Class<?> type, String... paths) {
+
+		ClassInfo classInfo = metaData.classInfo(type.getName());
+		Assert.isTrue(classInfo != null && !classInfo.isRelationshipEntity(),
+				() -> "Fetch plans are only supported for node entities, " + type.getName() + " is none");
+
+		Node root = metaData.getSchema().findNode(classInfo.neo4jName());
+		PathTree tree = new PathTree();
+		for (String path : paths) {
+			PathTree current = tree;
+			Node node = root;
+			for (String property : path.split("\\.")) {
+				Relationship relationship = node.relationships().get(property);
+				if (relationship == null) {
+					throw new IllegalArgumentException(String.format(
+							"Path '%s' of the fetch plan for %s does not consist of relationship properties, '%s' is none",
+							path, type.getName(), property));
+				}
+				current = current.children.computeIfAbsent(property, key -> new PathTree());
+				node = relationship.other(node);
+			}
+		}
+
+		StringBuilder sb = new StringBuilder(" RETURN n");
+		if (!tree.children.isEmpty()) {
+			sb.append(",[ ");
+			expand(sb, "n", root, tree, new int[1]);
+			sb.append(" ]");
+		}
+		this.type = type;
+		this.returnClause = sb.toString();
+		this.depth = tree.depth();
+	}
+
+	/**
+	 * @return The length of the longest path, used as depth if the relationships to load can't be restricted
+	 */
+	public int getDepth() {
+		return depth;
+	}
+
+	/**
+	 * Loads the entities with the given ids. The ids are converted to graph properties the same way Neo4j-OGM does.
+	 *
+	 * @param session The session to load the entities with
+	 * @param ids     The ids of the entities
+	 * @return The loaded entities or {@literal null} if the ids of the type can't be matched by this loader, for example
+	 *         because they are converted to several properties
+	 */
+	@Nullable
+	public <T> List<T> loadAllById(Neo4jSession session, Class<T> type, Collection<?> ids) {
+
+		Assert.isTrue(this.type.equals(type), () -> "This fetch plan can't load " + type.getName());
+
+		ClassInfo classInfo = session.metaData().classInfo(type.getName());
+		Optional<String> label = session.determineLabelsOrTypeForLoading(type);
+		FieldInfo primaryIndexField = classInfo.hasPrimaryIndexField() ? classInfo.primaryIndexField() : null;
+		if (label.isEmpty() || (primaryIndexField == null ? !ids.stream().allMatch(Long.class::isInstance)
+				: primaryIndexField.hasCompositeConverter())) {
+			return null;
+		}
+
+		String matchClause;
+		List<Object> graphIds = new ArrayList<>(ids);
+		if (primaryIndexField == null) {
+			matchClause = String.format(MATCH_BY_NATIVE_IDS, label.get());
+		} else {
+			matchClause = String.format(MATCH_BY_PRIMARY_INDEX, label.get(), primaryIndexField.property());
+			if (primaryIndexField.hasPropertyConverter()) {
+				graphIds.replaceAll(primaryIndexField.getPropertyConverter()::toGraphProperty);
+			}
+		}
+
+		PagingAndSortingQuery query = new PagingAndSortingQuery(matchClause, returnClause,
+				Collections.singletonMap("ids", graphIds), true, true);
+		return CompiledQueryCache.loadEntities(session, type, query.getStatement(), query.getParameters(), true);
+	}
+
+	/**
+	 * Creates the query for the nodes with the given label matching the given filters, which must already be resolved.
+	 * The query always needs a row result.
+	 */
+	PagingAndSortingQuery findByType(String label, Filters filters) {
+
+		if (filters.isEmpty()) {
+			return new PagingAndSortingQuery(String.format(MATCH_BY_LABEL, label), returnClause, Collections.emptyMap(),
+					true, true);
+		}
+		FilteredQuery filteredQuery = FilteredQueryBuilder.buildNodeQuery(label, filters);
+		return new PagingAndSortingQuery(filteredQuery.statement(), returnClause, filteredQuery.parameters(), true, true);
+	}
+
+	/**
+	 * Appends one pattern comprehension per relationship property of the given tree, each one nested with the
+	 * comprehensions of the properties following it.
+	 */
+	private static void expand(StringBuilder sb, String variable, Node node, PathTree tree, int[] counter) {
+
+		boolean first = true;
+		for (Map.Entry<String, PathTree> entry : tree.children.entrySet()) {
+			Relationship relationship = node.relationships().get(entry.getKey());
+			Node otherNode = relationship.other(node);
+			String relationshipVariable = "r_" + counter[0];
+			String otherVariable = "m_" + counter[0]++;
+			String types = node.types(entry.getKey()).stream().map(type -> "`" + type + "`")
+					.collect(Collectors.joining("|"));
+
+			if (!first) {
+				sb.append(", ");
+			}
+			first = false;
+			sb.append("[ (").append(variable).append(")");
+			Direction direction = relationship.direction(node);
+			sb.append(direction == Direction.INCOMING ? "<-[" : "-[").append(relationshipVariable).append(":").append(types)
+					.append(direction == Direction.OUTGOING ? "]->" : "]-");
+			sb.append("(").append(otherVariable);
+			otherNode.label().ifPresent(label -> sb.append(":`").append(label).append("`"));
+			sb.append(") | [ ").append(relationshipVariable).append(", ").append(otherVariable);
+			if (!entry.getValue().children.isEmpty()) {
+				sb.append(", [ ");
+				expand(sb, otherVariable, otherNode, entry.getValue(), counter);
+				sb.append(" ]");
+			}
+			sb.append(" ] ]");
+		}
+	}
+
+	private static final class PathTree {
+
+		private final Map<String, PathTree> children = new LinkedHashMap<>();
+
+		int depth() {
+			return children.values().stream().mapToInt(child -> child.depth() + 1).max().orElse(0);
+		}
+	}
+}
@@ -18,8 +18,6 @@ package org.springframework.data.neo4j.repository.query;
 import java.util.Objects;
 
 import org.neo4j.ogm.cypher.query.SortOrder;
-import org.springframework.core.annotation.AnnotatedElementUtils;
-import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.data.neo4j.annotation.Depth;
 import org.springframework.data.neo4j.util.PagingAndSortingUtils;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
@@ -50,10 +48,9 @@ public class GraphParametersParameterAccessor extends ParametersParameterAccesso
 	@Override
 	public int getDepth() {
 
-		Depth methodAnnotation = AnnotatedElementUtils.findMergedAnnotation(method.getMethod(), Depth.class);
-		if (methodAnnotation != null) {
-			Object value = AnnotationUtils.getValue(methodAnnotation);
-			return value == null ? DEFAULT_QUERY_DEPTH : (int) value;
+		Integer staticQueryDepth = method.getStaticQueryDepth();
+		if (staticQueryDepth != null) {
+			return staticQueryDepth;
 		}
 
 		var parameters = method.getParameters();
@@ -15,57 +15,81 @@
  */
 package org.springframework.data.neo4j.repository.query;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
-
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.jspecify.annotations.Nullable;
+import org.neo4j.driver.Record;
+import org.neo4j.ogm.context.GraphRowModelMapper;
+import org.neo4j.ogm.context.MappingContext;
 import org.neo4j.ogm.cypher.query.Pagination;
-import org.neo4j.ogm.cypher.query.SortOrder;
+import org.neo4j.ogm.driver.Driver;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.model.GraphModel;
 import org.neo4j.ogm.model.Result;
+import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.session.Neo4jSession;
 import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.transaction.Transaction;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.OffsetScrollPosition;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.neo4j.annotation.QueryResult;
-import org.springframework.data.neo4j.util.PagingAndSortingUtils;
+import org.springframework.data.domain.Window;
+import org.springframework.data.neo4j.util.KeysetPageRequest;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.data.util.ReflectionUtils;
 import org.springframework.util.Assert;
 
 /**
  * Classes intended to pilot query execution according to the type of the query. The type of the query is determined by
- * looking at the result class of the method.
+ * looking at the result class of the method. Executions don't hold any state of a single invocation, so that they are
+ * resolved only once per query method.
  *
- * @see AbstractGraphRepositoryQuery#getExecution(org.springframework.data.neo4j.repository.query.GraphParameterAccessor)
+ * @see AbstractGraphRepositoryQuery#getExecution()
  * @author Nicolas Mervaillie
+ * @author Michael J. Simons
  */
 public interface GraphQueryExecution {
 
-	Object execute(Query query, Class<?> type);
+	Object execute(Query query, Class<?> type, GraphParameterAccessor accessor);
 
 	final class SingleEntityExecution implements GraphQueryExecution {
 
 		private final Session session;
-		private final GraphParameterAccessor accessor;
 
-		SingleEntityExecution(Session session, GraphParameterAccessor accessor) {
+		SingleEntityExecution(Session session) {
 			this.session = session;
-			this.accessor = accessor;
 		}
 
 		@Override
-		public Object execute(Query query, Class<?> type) {
+		public Object execute(Query query, Class<?> type, GraphParameterAccessor accessor) {
 			Iterable<?> result;
 			if (query.isFilterQuery()) {
-				result = session.loadAll(type, query.getFilters(), accessor.getDepth());
+				result = query.loadAll(session, type, Sort.unsorted(), null, accessor.getDepth());
 			} else {
 				boolean isNullOrVoid = type == null || ReflectionUtils.isVoid(type);
 
 				if(isNullOrVoid) {
 					result = session.query(query.getCypherQuery(), query.getParameters(), false).queryResults();
-				} else if (type.getAnnotation(QueryResult.class) != null) {
+				} else if (ResultKind.of(type).isQueryResult()) {
 					// not using queryForObject here because it raises too generic RuntimeException
 					// if more than one result found
 					result = session.query(query.getCypherQuery(), query.getParameters()).queryResults();
@@ -88,22 +112,19 @@ public interface GraphQueryExecution {
 	final class CollectionExecution implements GraphQueryExecution {
 
 		private final Session session;
-		private final GraphParameterAccessor accessor;
 
-		CollectionExecution(Session session, GraphParameterAccessor accessor) {
+		CollectionExecution(Session session) {
 			this.session = session;
-			this.accessor = accessor;
 		}
 
 		@Override
-		public Object execute(Query query, Class<?> type) {
+		public Object execute(Query query, Class<?> type, GraphParameterAccessor accessor) {
 			if (query.isFilterQuery()) {
-				Pagination pagination = query.getOptionalPagination(null, false);
-				SortOrder ogmSort = PagingAndSortingUtils.convert(Optional.of(accessor.getSort()).filter(Sort::isSorted).orElseGet(query::getOptionalSort));
-				return pagination == null ? session.loadAll(type, query.getFilters(), ogmSort, accessor.getDepth()) : session.loadAll(type, query.getFilters(),
-						ogmSort, pagination, accessor.getDepth());
+				Sort sort = Optional.of(accessor.getSort()).filter(Sort::isSorted).orElseGet(query::getOptionalSort);
+				return query.loadAll(session, type, sort == null ? Sort.unsorted() : sort,
+						query.getOptionalPagination(null, false), accessor.getDepth());
 			} else {
-				if (type.getAnnotation(QueryResult.class) != null || Map.class.isAssignableFrom(type)) {
+				if (ResultKind.of(type).returnsRows()) {
 					return session.query(query.getCypherQuery(accessor.getSort()), query.getParameters()).queryResults();
 				} else {
 					return session.query(type, query.getCypherQuery(accessor.getSort()), query.getParameters());
@@ -112,18 +133,174 @@ public interface GraphQueryExecution {
 		}
 	}
 
+	/**
+	 * Runs queries in the native transaction of the transactional session and maps the records of the underlying result
+	 * cursor one by one while the returned {@link Stream} is consumed. The cursor is closed together with the stream.
+	 * Derived finders run the statement compiled for them. Each record is mapped into a mapping context of the stream
+	 * that is cleared before the next record is mapped, so streamed entities are neither tracked by the session nor
+	 * shared between records. Calls without a surrounding transaction on the Bolt transport as well as derived finders
+	 * that cannot be compiled fall back to loading all results upfront, as there is no cursor that could outlive the
+	 * call. So does the execution when the Neo4j-OGM driver is not known.
+	 */
+	final class StreamExecution implements GraphQueryExecution {
+
+		private final Session session;
+		private final @Nullable DriverRecordMapper recordMapper;
+		private final CollectionExecution collectionExecution;
+
+		StreamExecution(Session session) {
+			this(session, null);
+		}
+
+		/**
+		 * @param ogmDriver The driver of the session factory the session belongs to, used to run statements in the same
+		 *          way the session would
+		 */
+		StreamExecution(Session session, @Nullable Driver ogmDriver) {
+			this.session = session;
+			this.recordMapper = ogmDriver == null ? null : new DriverRecordMapper(ogmDriver);
+			this.collectionExecution = new CollectionExecution(session);
+		}
+
+		@Override
+		public Object execute(Query query, Class<?> type, GraphParameterAccessor accessor) {
+
+			Neo4jSession targetSession = recordMapper == null ? null : DriverRecordMapper.getTargetSession(session);
+			org.neo4j.driver.Transaction transaction = targetSession == null ? null
+					: DriverRecordMapper.getNativeTransaction(targetSession);
+			if (transaction == null) {
+				return collectionExecution.execute(query, type, accessor);
+			}
+
+			MetaData metaData = targetSession.metaData();
+			MappingContext context = new MappingContext(metaData);
+			if (query.isFilterQuery()) {
+				Sort sort = Optional.of(accessor.getSort()).filter(Sort::isSorted).orElseGet(query::getOptionalSort);
+				CompiledQueryCache.BoundStatement statement = query.bindLoadAll(session, type,
+						sort == null ? Sort.unsorted() : sort, query.getOptionalPagination(null, false), accessor.getDepth());
+				if (statement == null) {
+					return collectionExecution.execute(query, type, accessor);
+				}
+				return stream(transaction, recordMapper, statement.getStatement(), statement.getParameters(), context,
+						recordMapper.entities(metaData, context, targetSession.getEntityInstantiator(), type,
+								statement.needsRowResult()));
+			}
+
+			String cypherQuery = query.getCypherQuery(accessor.getSort());
+			if (metaData.classInfo(type.getName()) != null) {
+				return stream(transaction, recordMapper, cypherQuery, query.getParameters(), context,
+						recordMapper.entities(metaData, context, targetSession.getEntityInstantiator(), type, false));
+			} else if (ResultKind.of(type).returnsRows()) {
+				return stream(transaction, recordMapper, cypherQuery, query.getParameters(), context,
+						recordMapper.rows(metaData, context, targetSession.getEntityInstantiator()));
+			}
+			return collectionExecution.execute(query, type, accessor);
+		}
+
+		private static <T> Stream<T> stream(org.neo4j.driver.Transaction transaction, DriverRecordMapper recordMapper,
+				String cypher, Map<String, ?> parameters, MappingContext context, Function<Record, Iterable<T>> mapper) {
+
+			org.neo4j.driver.Result result;
+			try {
+				result = transaction.run(recordMapper.applyCypherModification(cypher),
+						recordMapper.convertParameters(parameters));
+			} catch (RuntimeException e) {
+				throw recordMapper.translateException(e);
+			}
+
+			Iterator<T> iterator = new CursorIterator<>(result, record -> {
+				context.clear();
+				return mapper.apply(record);
+			}, recordMapper::translateException);
+			return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+					.onClose(result::consume);
+		}
+
+		/**
+		 * Pulls the next record from the cursor only when the mapped objects of the current one are exhausted.
+		 */
+		private static final class CursorIterator<T> implements Iterator<T> {
+
+			private final org.neo4j.driver.Result result;
+			private final Function<Record, Iterable<T>> mapper;
+			private final UnaryOperator<RuntimeException> exceptionTranslator;
+			private Iterator<T> currentRecord = Collections.emptyIterator();
+
+			CursorIterator(org.neo4j.driver.Result result, Function<Record, Iterable<T>> mapper,
+					UnaryOperator<RuntimeException> exceptionTranslator) {
+				this.result = result;
+				this.mapper = mapper;
+				this.exceptionTranslator = exceptionTranslator;
+			}
+
+			@Override
+			public boolean hasNext() {
+
+				try {
+					while (!currentRecord.hasNext()) {
+						if (!result.hasNext()) {
+							return false;
+						}
+						currentRecord = mapper.apply(result.next()).iterator();
+					}
+					return true;
+				} catch (RuntimeException e) {
+					throw exceptionTranslator.apply(e);
+				}
+			}
+
+			@Override
+			public T next() {
+
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return currentRecord.next();
+			}
+		}
+
+		/**
+		 * Makes a single record look like a complete response to the Neo4j-OGM mappers.
+		 */
+		static final class SingleRowResponse<M> implements Response<M> {
+
+			private final String[] columns;
+			private M row;
+
+			SingleRowResponse(M row, String[] columns) {
+				this.row = row;
+				this.columns = columns;
+			}
+
+			@Override
+			public M next() {
+
+				M next = row;
+				row = null;
+				return next;
+			}
+
+			@Override
+			public void close() {
+			}
+
+			@Override
+			public String[] columns() {
+				return columns;
+			}
+		}
+	}
+
 	final class QueryResultExecution implements GraphQueryExecution {
 
 		private final Session session;
-		private final GraphParameterAccessor accessor;
 
-		QueryResultExecution(Session session, GraphParameterAccessor accessor) {
+		QueryResultExecution(Session session) {
 			this.session = session;
-			this.accessor = accessor;
 		}
 
 		@Override
-		public Object execute(Query query, Class<?> type) {
+		public Object execute(Query query, Class<?> type, GraphParameterAccessor accessor) {
 			return session.query(query.getCypherQuery(accessor.getSort()), query.getParameters());
 		}
 	}
@@ -131,68 +308,218 @@ public interface GraphQueryExecution {
 	final class PagedExecution implements GraphQueryExecution {
 
 		private final Session session;
-		private final Pageable pageable;
-		private final GraphParameterAccessor accessor;
+		private final @Nullable DriverRecordMapper recordMapper;
+		private @Nullable MetaData metaData;
+
+		PagedExecution(Session session) {
+			this(session, null);
+		}
 
-		PagedExecution(Session session, GraphParameterAccessor accessor) {
+		/**
+		 * @param ogmDriver The driver of the session factory the session belongs to, needed to retrieve a page of entities
+		 *          together with the total number of elements
+		 */
+		PagedExecution(Session session, @Nullable Driver ogmDriver) {
 			this.session = session;
-			this.pageable = accessor.getPageable();
-			this.accessor = accessor;
+			this.recordMapper = ogmDriver == null ? null : new DriverRecordMapper(ogmDriver);
 		}
 
 		@Override
-		public Object execute(Query query, Class<?> type) {
+		public Object execute(Query query, Class<?> type, GraphParameterAccessor accessor) {
 
+			Pageable pageable = accessor.getPageable();
+			if (pageable instanceof KeysetPageRequest keysetPageRequest) {
+				return executeWithKeyset(query, type, keysetPageRequest, accessor);
+			}
+
+			if (!query.isFilterQuery() && query.isCountInSameStatement() && !isScalar(type)) {
+				Object page = ResultKind.of(type).returnsRows() ? executeRowsWithTotal(query, pageable)
+						: executeEntitiesWithTotal(query, type, pageable);
+				if (page != null) {
+					return page;
+				}
+			}
+
+			// The total is only computed when it cannot be inferred from the page.
 			List<?> result;
-			long count;
+			LongSupplier count;
 			if (query.isFilterQuery()) {
-				result = (List<?>) session.loadAll(type, query.getFilters(), accessor.getOgmSort(),
+				result = (List<?>) query.loadAll(session, type, accessor.getSort(),
 						query.getOptionalPagination(pageable, false), accessor.getDepth());
-				count = session.count(type, query.getFilters());
+				count = () -> session.count(type, query.getFilters());
 			} else {
-				if (type.getAnnotation(QueryResult.class) != null) {
+				if (ResultKind.of(type).isQueryResult()) {
 					result = (List<?>) session.query(query.getCypherQuery(pageable, false), query.getParameters()).queryResults();
 				} else {
 					result = (List<?>) session.query(type, query.getCypherQuery(pageable, false), query.getParameters());
 				}
-				count = result.isEmpty() ? 0 : countTotalNumberOfElements(query);
+				count = () -> result.isEmpty() ? 0 : countTotalNumberOfElements(query);
 			}
 
-			return PageableExecutionUtils.getPage(result, pageable, () -> count);
+			return PageableExecutionUtils.getPage(result, pageable, count);
+		}
+
+		/**
+		 * Retrieves the page and the total number of elements with one statement. The total is taken from the additional
+		 * column of the first row. Only if the page is empty, a separate count query is needed.
+		 */
+		private Object executeRowsWithTotal(Query query, Pageable pageable) {
+
+			Iterable<Map<String, Object>> rows = session
+					.query(query.getCypherQueryWithTotal(pageable), query.getParameters()).queryResults();
+
+			List<Object> result = new ArrayList<>();
+			Long total = null;
+			for (Map<String, Object> row : rows) {
+				Map<String, Object> columns = new LinkedHashMap<>(row);
+				total = ((Number) columns.remove(Query.TOTAL_COLUMN)).longValue();
+				result.add(columns);
+			}
+			return getPage(query, pageable, result, total);
+		}
+
+		/**
+		 * Retrieves a page of entities and the total number of elements with one statement. The graph of all rows is
+		 * mapped at once, in the same way {@link Session#query(Class, String, Map)} does. As Neo4j-OGM drops all other
+		 * columns when mapping a graph, the records are read from the driver directly.
+		 *
+		 * @return The page or {@literal null} if the Neo4j-OGM driver is not known or if there is no session bound to the
+		 *         current transaction using the Bolt transport
+		 */
+		@Nullable
+		private Object executeEntitiesWithTotal(Query query, Class<?> type, Pageable pageable) {
+
+			Neo4jSession targetSession = recordMapper == null ? null : DriverRecordMapper.getTargetSession(session);
+			if (targetSession == null) {
+				return null;
+			}
+
+			String cypherQuery = query.getCypherQueryWithTotal(pageable);
+			return targetSession.doInTransaction(() -> {
+				org.neo4j.driver.Transaction transaction = DriverRecordMapper.getNativeTransaction(targetSession);
+				if (transaction == null) {
+					return null;
+				}
+
+				List<GraphModel> graphs = new ArrayList<>();
+				Long total = null;
+				String[] columns;
+				try {
+					org.neo4j.driver.Result records = transaction.run(recordMapper.applyCypherModification(cypherQuery),
+							recordMapper.convertParameters(query.getParameters()));
+					while (records.hasNext()) {
+						Record record = records.next();
+						total = record.get(Query.TOTAL_COLUMN).asLong();
+						graphs.add(recordMapper.toGraphModel(record));
+					}
+					columns = records.keys().toArray(new String[0]);
+				} catch (RuntimeException e) {
+					throw recordMapper.translateException(e);
+				}
+
+				List<Object> result = new ArrayList<>();
+				new GraphRowModelMapper(targetSession.metaData(), targetSession.context(),
+						targetSession.getEntityInstantiator())
+						.map(type, new ListResponse<>(graphs, columns))
+						.forEach(result::add);
+				return getPage(query, pageable, result, total);
+			}, Transaction.Type.READ_ONLY);
+		}
+
+		private Object getPage(Query query, Pageable pageable, List<Object> result, @Nullable Long total) {
+			return PageableExecutionUtils.getPage(result, pageable,
+					() -> total == null ? countTotalNumberOfElements(query) : total);
+		}
+
+		private boolean isScalar(Class<?> type) {
+
+			if (ResultKind.of(type).returnsRows()) {
+				return false;
+			}
+			if (metaData == null) {
+				metaData = GraphQueryLookupStrategy.getMetaData(session);
+			}
+			return metaData.classInfo(type.getName()) == null;
+		}
+
+		private Object executeWithKeyset(Query query, Class<?> type, KeysetPageRequest request,
+				GraphParameterAccessor accessor) {
+
+			KeysetPagination pagination = new KeysetPagination(session, accessor.getDepth());
+			Sort sort = pagination.getSort(query, type, request);
+			List<?> result = pagination.load(query, type, request, sort, request.getPageSize());
+			LongSupplier count;
+			if (query.isFilterQuery()) {
+				count = () -> session.count(type, query.getFilters());
+			} else {
+				count = () -> result.isEmpty() ? 0 : countTotalNumberOfElements(query);
+			}
+
+			return PageableExecutionUtils.getPage(result, pagination.withNeighbours(request, sort, result), count);
 		}
 
 		private Integer countTotalNumberOfElements(Query query) {
 			Assert.hasText(query.getCountQuery(), "Must specify a count query to get pagination info.");
 			return session.queryForObject(Integer.class, query.getCountQuery(), query.getParameters());
 		}
+
+		/**
+		 * Makes already collected graphs look like a complete response to the Neo4j-OGM mappers.
+		 */
+		private static final class ListResponse<M> implements Response<M> {
+
+			private final Iterator<M> rows;
+			private final String[] columns;
+
+			ListResponse(List<M> rows, String[] columns) {
+				this.rows = rows.iterator();
+				this.columns = columns;
+			}
+
+			@Override
+			@Nullable
+			public M next() {
+				return rows.hasNext() ? rows.next() : null;
+			}
+
+			@Override
+			public void close() {
+			}
+
+			@Override
+			public String[] columns() {
+				return columns;
+			}
+		}
 	}
 
 	final class SlicedExecution implements GraphQueryExecution {
 
 		private final Session session;
-		private final GraphParameterAccessor accessor;
-		private final Pageable pageable;
 
-		SlicedExecution(Session session, GraphParameterAccessor accessor) {
+		SlicedExecution(Session session) {
 			this.session = session;
-			this.accessor = accessor;
-			this.pageable = accessor.getPageable();
 		}
 
 		@SuppressWarnings( {"rawtypes", "unchecked"})
 		@Override
-		public Object execute(Query query, Class<?> type) {
+		public Object execute(Query query, Class<?> type, GraphParameterAccessor accessor) {
+
+			Pageable pageable = accessor.getPageable();
+			if (pageable instanceof KeysetPageRequest keysetPageRequest) {
+				return executeWithKeyset(query, type, keysetPageRequest, accessor);
+			}
 
 			int pageSize = pageable.getPageSize();
 
 			List<?> result;
 			if (query.isFilterQuery()) {
 				// For a slice, need one extra result to determine if there is a next page
-				result = (List<?>) session.loadAll(type, query.getFilters(), accessor.getOgmSort(),
+				result = (List<?>) query.loadAll(session, type, accessor.getSort(),
 						query.getOptionalPagination(pageable, true), accessor.getDepth());
 			} else {
 				String cypherQuery = query.getCypherQuery(pageable, true);
-				if (type.getAnnotation(QueryResult.class) != null) {
+				if (ResultKind.of(type).isQueryResult()) {
 					result = (List<?>) session.query(cypherQuery, query.getParameters()).queryResults();
 				} else {
 					result = (List<?>) session.query(type, cypherQuery, query.getParameters());
@@ -202,6 +529,97 @@ public interface GraphQueryExecution {
 			boolean hasNext = result.size() > pageSize;
 			return new SliceImpl(hasNext ? result.subList(0, pageSize) : result, pageable, hasNext);
 		}
+
+		private Object executeWithKeyset(Query query, Class<?> type, KeysetPageRequest request,
+				GraphParameterAccessor accessor) {
+
+			int pageSize = request.getPageSize();
+
+			KeysetPagination pagination = new KeysetPagination(session, accessor.getDepth());
+			Sort sort = pagination.getSort(query, type, request);
+			List<Object> result = pagination.load(query, type, request, sort, pageSize + 1);
+
+			// When scrolling backward, the extra element is the first one and there is always a next slice.
+			boolean backward = request.getPosition().scrollsBackward();
+			boolean hasMore = result.size() > pageSize;
+			List<Object> content = !hasMore ? result
+					: backward ? result.subList(1, result.size()) : result.subList(0, pageSize);
+			return new SliceImpl<>(content, pagination.withNeighbours(request, sort, content), backward || hasMore);
+		}
+	}
+
+	/**
+	 * Returns a {@link Window} of the elements following the {@link ScrollPosition} passed to the query method. The size
+	 * of the window is taken from a {@link Limit} parameter or from the limit of derived finders like
+	 * {@code findTop10By}, all remaining elements are returned otherwise. One extra element is loaded to find out
+	 * whether there are more elements, so no count query is needed. Keyset positions don't need a {@code SKIP} at all.
+	 */
+	final class ScrollExecution implements GraphQueryExecution {
+
+		private final Session session;
+
+		ScrollExecution(Session session) {
+			this.session = session;
+		}
+
+		@Override
+		public Object execute(Query query, Class<?> type, GraphParameterAccessor accessor) {
+
+			ScrollPosition position = accessor.getScrollPosition();
+			Integer windowSize = getWindowSize(query, accessor);
+			if (position instanceof KeysetScrollPosition keysetScrollPosition) {
+				return executeWithKeyset(query, type, keysetScrollPosition, windowSize, accessor);
+			}
+
+			OffsetScrollPosition offsetScrollPosition = position instanceof OffsetScrollPosition offset ? offset
+					: ScrollPosition.offset();
+			long skip = offsetScrollPosition.isInitial() ? 0 : offsetScrollPosition.getOffset() + 1;
+			int limit = windowSize == null ? Integer.MAX_VALUE : windowSize + 1;
+
+			List<?> result;
+			if (query.isFilterQuery()) {
+				Sort sort = Optional.of(accessor.getSort()).filter(Sort::isSorted).orElseGet(query::getOptionalSort);
+				Pagination pagination = skip == 0 && windowSize == null ? null
+						: new Query.OffsetPagination(0, limit, Math.toIntExact(skip));
+				result = (List<?>) query.loadAll(session, type, sort == null ? Sort.unsorted() : sort, pagination,
+						accessor.getDepth());
+			} else {
+				String cypherQuery = query.getCypherQuery(accessor.getSort(), skip, limit);
+				if (ResultKind.of(type).isQueryResult()) {
+					result = (List<?>) session.query(cypherQuery, query.getParameters()).queryResults();
+				} else {
+					result = (List<?>) session.query(type, cypherQuery, query.getParameters());
+				}
+			}
+
+			boolean hasNext = windowSize != null && result.size() > windowSize;
+			List<?> content = hasNext ? result.subList(0, windowSize) : result;
+			return Window.from(content, OffsetScrollPosition.positionFunction(skip), hasNext);
+		}
+
+		private Object executeWithKeyset(Query query, Class<?> type, KeysetScrollPosition position,
+				@Nullable Integer windowSize, GraphParameterAccessor accessor) {
+
+			int limit = windowSize == null ? Integer.MAX_VALUE : windowSize + 1;
+			KeysetPageRequest request = KeysetPageRequest.of(0, limit, accessor.getSort(), position);
+
+			KeysetPagination pagination = new KeysetPagination(session, accessor.getDepth());
+			Sort sort = pagination.getSort(query, type, request);
+			List<Object> result = pagination.load(query, type, request, sort, limit);
+
+			// When scrolling backward, the extra element is the first one.
+			boolean hasNext = windowSize != null && result.size() > windowSize;
+			List<Object> content = !hasNext ? result
+					: position.scrollsBackward() ? result.subList(1, result.size()) : result.subList(0, windowSize);
+			return Window.from(content,
+					index -> pagination.getPosition(content.get(index), sort, position.getDirection()), hasNext);
+		}
+
+		private static @Nullable Integer getWindowSize(Query query, GraphParameterAccessor accessor) {
+
+			Limit limit = accessor.getLimit();
+			return limit.isLimited() ? Integer.valueOf(limit.max()) : query.getOptionalLimit();
+		}
 	}
 
 	final class CountByExecution implements GraphQueryExecution {
@@ -213,7 +631,7 @@ public interface GraphQueryExecution {
 		}
 
 		@Override
-		public Object execute(Query query, Class<?> type) {
+		public Object execute(Query query, Class<?> type, GraphParameterAccessor accessor) {
 			return session.count(type, query.getFilters());
 		}
 	}
@@ -227,7 +645,7 @@ public interface GraphQueryExecution {
 		}
 
 		@Override
-		public Object execute(Query query, Class<?> type) {
+		public Object execute(Query query, Class<?> type, GraphParameterAccessor accessor) {
 			if (query.isFilterQuery()) {
 				return session.count(type, query.getFilters()) > 0;
 			}
@@ -239,19 +657,19 @@ public interface GraphQueryExecution {
 	final class DeleteByExecution implements GraphQueryExecution {
 
 		private final Session session;
-		private final GraphQueryMethod graphQueryMethod;
+		private final boolean returnsLong;
+		private final boolean listResults;
 
 		DeleteByExecution(Session session, GraphQueryMethod graphQueryMethod) {
 			this.session = session;
-			this.graphQueryMethod = graphQueryMethod;
+			this.returnsLong = graphQueryMethod.getReturnedObjectType().equals(Long.class);
+			this.listResults = graphQueryMethod.isCollectionQuery();
 		}
 
 		@Override
-		public Object execute(Query query, Class<?> type) {
-			Class<?> returnType = graphQueryMethod.getReturnedObjectType();
-
-			if (returnType.equals(Long.class)) {
-				return session.delete(type, query.getFilters(), graphQueryMethod.isCollectionQuery());
+		public Object execute(Query query, Class<?> type, GraphParameterAccessor accessor) {
+			if (returnsLong) {
+				return session.delete(type, query.getFilters(), listResults);
 			}
 			throw new RuntimeException("Long or Iterable<Long> is required as the return type of a Delete query");
 		}
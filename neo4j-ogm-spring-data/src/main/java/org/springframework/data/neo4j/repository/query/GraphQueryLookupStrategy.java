@@ -16,9 +16,14 @@
 package org.springframework.data.neo4j.repository.query;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
 
+import io.micrometer.observation.ObservationRegistry;
+
+import org.neo4j.ogm.driver.Driver;
 import org.neo4j.ogm.metadata.MetaData;
 import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.neo4j.mapping.MetaDataProvider;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentEntity;
@@ -47,14 +52,55 @@ public class GraphQueryLookupStrategy implements QueryLookupStrategy {
 	private final Session session;
 	private final QueryMethodValueEvaluationContextAccessor evaluationContextProvider;
 	private final MappingContext<Neo4jPersistentEntity<?>, Neo4jPersistentProperty> mappingContext;
+	private final ObservationRegistry observationRegistry;
+	private @Nullable Duration slowQueryThreshold;
+	private @Nullable ReactiveQueryRunner reactiveQueryRunner;
+	private @Nullable Driver ogmDriver;
 
 	public GraphQueryLookupStrategy(Session session, QueryMethodValueEvaluationContextAccessor evaluationContextProvider,
 			@Nullable MappingContext<Neo4jPersistentEntity<?>, Neo4jPersistentProperty> mappingContext) {
 
+		this(session, evaluationContextProvider, mappingContext, ObservationRegistry.NOOP);
+	}
+
+	/**
+	 * @param observationRegistry The registry in which the executions of all resolved queries are observed
+	 * @see org.springframework.data.neo4j.observation.Neo4jObservation#REPOSITORY_QUERY
+	 */
+	public GraphQueryLookupStrategy(Session session, QueryMethodValueEvaluationContextAccessor evaluationContextProvider,
+			@Nullable MappingContext<Neo4jPersistentEntity<?>, Neo4jPersistentProperty> mappingContext,
+			ObservationRegistry observationRegistry) {
+
 		this.metaData = getMetaData(session);
 		this.session = session;
 		this.evaluationContextProvider = evaluationContextProvider;
 		this.mappingContext = mappingContext;
+		this.observationRegistry = observationRegistry;
+	}
+
+	/**
+	 * @param slowQueryThreshold The duration after which executions of the resolved queries are logged, {@literal null}
+	 *          disables the slow query log
+	 */
+	public void setSlowQueryThreshold(@Nullable Duration slowQueryThreshold) {
+		this.slowQueryThreshold = slowQueryThreshold;
+	}
+
+	/**
+	 * @param reactiveQueryRunner The runner through which resolved queries returning {@link reactor.core.publisher.Flux}
+	 *          or {@link reactor.core.publisher.Mono} are executed
+	 */
+	public void setReactiveQueryRunner(@Nullable ReactiveQueryRunner reactiveQueryRunner) {
+		this.reactiveQueryRunner = reactiveQueryRunner;
+	}
+
+	/**
+	 * @param sessionFactory The session factory the session belongs to. Its driver is used to stream the results of
+	 *          resolved queries and to retrieve pages together with their total, {@literal null} loads those results
+	 *          through the session.
+	 */
+	public void setSessionFactory(@Nullable SessionFactory sessionFactory) {
+		this.ogmDriver = sessionFactory == null ? null : sessionFactory.unwrap(Driver.class);
 	}
 
 	/*
@@ -65,6 +111,17 @@ public class GraphQueryLookupStrategy implements QueryLookupStrategy {
 	public RepositoryQuery resolveQuery(Method method, RepositoryMetadata metadata, ProjectionFactory factory,
 			NamedQueries namedQueries) {
 
+		AbstractGraphRepositoryQuery query = createQuery(method, metadata, factory, namedQueries);
+		query.setObservationRegistry(observationRegistry);
+		query.setSlowQueryThreshold(slowQueryThreshold);
+		query.setReactiveQueryRunner(reactiveQueryRunner);
+		query.setOgmDriver(ogmDriver);
+		return query;
+	}
+
+	private AbstractGraphRepositoryQuery createQuery(Method method, RepositoryMetadata metadata,
+			ProjectionFactory factory, NamedQueries namedQueries) {
+
 		GraphQueryMethod queryMethod = new GraphQueryMethod(method, metadata, factory);
 		queryMethod.setMappingContext(this.mappingContext);
 		String namedQueryName = queryMethod.getNamedQueryName();
@@ -84,7 +141,7 @@ public class GraphQueryLookupStrategy implements QueryLookupStrategy {
 		}
 	}
 
-	private static MetaData getMetaData(Session session) {
+	static MetaData getMetaData(Session session) {
 
 		// This is the case in most standard setups: The SharedSessionCreator adds this MetaDataProvider interface
 		if (session instanceof MetaDataProvider) {
@@ -17,11 +17,13 @@ package org.springframework.data.neo4j.repository.query;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.util.Arrays;
 
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.neo4j.annotation.Depth;
+import org.springframework.data.neo4j.annotation.FetchPlan;
 import org.springframework.data.neo4j.annotation.Query;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentEntity;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
@@ -41,27 +43,58 @@ import org.springframework.util.StringUtils;
 public class GraphQueryMethod extends QueryMethod {
 
 	private final Method method;
+	private final Class<?> repositoryInterface;
 	private final Query queryAnnotation;
 	private final Integer queryDepthParamIndex;
+	private final @Nullable Integer staticQueryDepth;
+	private final String @Nullable [] fetchPlanPaths;
+	private final @Nullable String countQuery;
 	private final boolean isExistsQuery;
+	private final boolean isCountInSameStatement;
 	private @Nullable MappingContext<Neo4jPersistentEntity<?>, Neo4jPersistentProperty> mappingContext;
 
 	public GraphQueryMethod(Method method, RepositoryMetadata metadata, ProjectionFactory factory) {
 		super(method, metadata, factory, GraphParameters::new);
 
 		this.method = method;
+		this.repositoryInterface = metadata.getRepositoryInterface() == null ? method.getDeclaringClass()
+				: metadata.getRepositoryInterface();
 		this.queryAnnotation = AnnotatedElementUtils.findMergedAnnotation(method, Query.class);
 		if (this.queryAnnotation != null) {
 			this.isExistsQuery = queryAnnotation.exists();
+			this.isCountInSameStatement = queryAnnotation.countInSameStatement();
+			this.countQuery = queryAnnotation.countQuery();
+			if (isCountInSameStatement
+					&& org.springframework.data.neo4j.repository.query.Query.mightWrite(queryAnnotation.value())) {
+				throw new IllegalArgumentException(
+						method.getName() + " cannot count in the same statement, as its query might write");
+			}
 		} else {
 			this.isExistsQuery = false;
+			this.isCountInSameStatement = false;
+			this.countQuery = null;
 		}
 		this.queryDepthParamIndex = getQueryDepthParamIndex(method);
 		Integer queryDepth = getStaticQueryDepth(method);
 		if (queryDepth != null && queryDepthParamIndex != null) {
 			throw new IllegalArgumentException(method.getName() + " cannot have both a method @Depth and a parameter @Depth");
 		}
-
+		Depth depthAnnotation = AnnotatedElementUtils.findMergedAnnotation(method, Depth.class);
+		FetchPlan fetchPlan = AnnotatedElementUtils.findMergedAnnotation(method, FetchPlan.class);
+		if (fetchPlan != null && (depthAnnotation != null || queryDepthParamIndex != null)) {
+			throw new IllegalArgumentException(method.getName() + " cannot have both a @FetchPlan and a @Depth");
+		}
+		if (fetchPlan != null && queryAnnotation != null) {
+			throw new IllegalArgumentException(method.getName() + " cannot have both a @FetchPlan and a @Query");
+		}
+		this.fetchPlanPaths = fetchPlan == null ? null : fetchPlan.paths();
+		if (fetchPlan != null) {
+			// Used wherever the relationships can't be restricted to the paths
+			this.staticQueryDepth = Arrays.stream(fetchPlanPaths).mapToInt(path -> path.split("\\.").length).max()
+					.orElse(0);
+		} else {
+			this.staticQueryDepth = depthAnnotation == null ? null : depthAnnotation.value();
+		}
 	}
 
 	public MappingContext<Neo4jPersistentEntity<?>, Neo4jPersistentProperty> getMappingContext() {
@@ -76,6 +109,14 @@ public class GraphQueryMethod extends QueryMethod {
 		return queryAnnotation.value();
 	}
 
+	/**
+	 * @return The repository interface this query method belongs to, which might be a subtype of the declaring class of
+	 *         {@link #getMethod()}
+	 */
+	public Class<?> getRepositoryInterface() {
+		return repositoryInterface;
+	}
+
 	public Method getMethod() {
 		return method;
 	}
@@ -127,8 +168,23 @@ public class GraphQueryMethod extends QueryMethod {
 		return null;
 	}
 
+	/**
+	 * @return The paths of the {@link FetchPlan} annotation on the method, if any
+	 */
+	String @Nullable [] getFetchPlanPaths() {
+		return fetchPlanPaths;
+	}
+
 	public String getCountQueryString() {
-		return queryAnnotation != null ? queryAnnotation.countQuery() : null;
+		return countQuery;
+	}
+
+	/**
+	 * @return The depth of a {@link Depth} annotation on the method itself, if any
+	 */
+	@Nullable
+	Integer getStaticQueryDepth() {
+		return staticQueryDepth;
 	}
 
 	public boolean hasAnnotatedQuery() {
@@ -139,6 +195,10 @@ public class GraphQueryMethod extends QueryMethod {
 		return isExistsQuery;
 	}
 
+	boolean isCountInSameStatement() {
+		return isCountInSameStatement;
+	}
+
 	private String getAnnotatedQuery() {
 
 		String query = (String) AnnotationUtils.getValue(getQueryAnnotation());
@@ -17,12 +17,15 @@ package org.springframework.data.neo4j.repository.query;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.neo4j.ogm.metadata.MetaData;
 import org.neo4j.ogm.model.Result;
 import org.neo4j.ogm.session.Session;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.neo4j.repository.query.spel.ParameterizedQuery;
 import org.springframework.data.repository.query.Parameter;
 import org.springframework.data.repository.query.Parameters;
@@ -47,6 +50,8 @@ public class GraphRepositoryQuery extends AbstractGraphRepositoryQuery {
 	private final QueryMethodValueEvaluationContextAccessor evaluationContextProvider;
 	private final QueryResultInstantiator entityInstantiator;
 	private final boolean isExistsQuery;
+	private final boolean returnsResult;
+	private final Map<Class<?>, CustomResultConverter> resultConverters = new ConcurrentHashMap<>();
 
 	private ParameterizedQuery parameterizedQuery;
 
@@ -59,6 +64,7 @@ public class GraphRepositoryQuery extends AbstractGraphRepositoryQuery {
 		this.evaluationContextProvider = evaluationContextProvider;
 		this.entityInstantiator = new QueryResultInstantiator(metaData, queryMethod.getMappingContext());
 		this.isExistsQuery = graphQueryMethod.isAnnotatedExistsQuery();
+		this.returnsResult = Result.class.equals(graphQueryMethod.getMethod().getReturnType());
 	}
 
 	protected Object doExecute(Query query, Object[] parameters) {
@@ -70,20 +76,20 @@ public class GraphRepositoryQuery extends AbstractGraphRepositoryQuery {
 		GraphParameterAccessor accessor = new GraphParametersParameterAccessor(queryMethod, parameters);
 		ResultProcessor processor = queryMethod.getResultProcessor().withDynamicProjection(accessor);
 
-		Class<?> methodReturnType = queryMethod.getMethod().getReturnType();
 		Class<?> processorReturnType = processor.getReturnedType().getReturnedType();
 
-		Object result = getExecution(accessor).execute(query, processorReturnType);
+		Object result = getExecution().execute(query, processorReturnType, accessor);
 
-		return Result.class.equals(methodReturnType) ? result
-				: processor.processResult(result, new CustomResultConverter(metaData,
-				processorReturnType, entityInstantiator));
+		return returnsResult ? result
+				: processor.processResult(result, resultConverters.computeIfAbsent(processorReturnType,
+				type -> new CustomResultConverter(metaData, type, entityInstantiator)));
 	}
 
 	protected Query getQuery(Object[] parameters) {
 		ParameterizedQuery parameterizedQuery = getParameterizedQuery();
 		Map<String, Object> parametersFromQuery = parameterizedQuery.resolveParameter(parameters, this::resolveParams);
-		return new Query(parameterizedQuery.getQueryString(), queryMethod.getCountQueryString(), parametersFromQuery);
+		return new Query(parameterizedQuery.getQueryString(), queryMethod.getCountQueryString(), parametersFromQuery,
+				queryMethod.isCountInSameStatement());
 	}
 
 	private ParameterizedQuery getParameterizedQuery() {
@@ -101,6 +107,12 @@ public class GraphRepositoryQuery extends AbstractGraphRepositoryQuery {
 		Map<String, Object> resolvedParameters = new HashMap<>();
 
 		for (Parameter parameter : methodParameters) {
+			// Scroll positions and limits are applied by the execution and can't be converted into Cypher parameters
+			if (ScrollPosition.class.isAssignableFrom(parameter.getType())
+					|| Limit.class.isAssignableFrom(parameter.getType())) {
+				continue;
+			}
+
 			int parameterIndex = parameter.getIndex();
 			Object parameterValue = getParameterValue(parameters[parameterIndex]);
 
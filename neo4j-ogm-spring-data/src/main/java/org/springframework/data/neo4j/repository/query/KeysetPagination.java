@@ -0,0 +1,390 @@
+/*
+ * Copyright 2011-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+import org.jspecify.annotations.Nullable;
+import org.neo4j.ogm.cypher.BooleanOperator;
+import org.neo4j.ogm.cypher.Filter;
+import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.cypher.PropertyValueTransformer;
+import org.neo4j.ogm.cypher.function.FilterFunction;
+import org.neo4j.ogm.cypher.query.Pagination;
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.FieldInfo;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.session.Session;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.neo4j.annotation.QueryResult;
+import org.springframework.data.neo4j.util.KeysetPageRequest;
+import org.springframework.data.neo4j.util.PagingAndSortingUtils;
+import org.springframework.util.Assert;
+
+/**
+ * Loads pages by keyset instead of by offset: The sort keys of the element right before the requested page are turned
+ * into a predicate like {@code (k1 > $k1) OR (k1 = $k1 AND k2 > $k2)}, so that the database does not need to skip
+ * over all previous rows.
+ *
+ * @author Michael J. Simons
+ * @see KeysetPageRequest
+ */
+final class KeysetPagination {
+
+	private final Session session;
+	private final MetaData metaData;
+	private final int depth;
+
+	KeysetPagination(Session session, int depth) {
+		this.session = session;
+		this.metaData = GraphQueryLookupStrategy.getMetaData(session);
+		this.depth = depth;
+	}
+
+	/**
+	 * Computes the sort order used for keyset pagination. Derived finders fall back to the sort order of the method
+	 * name and get the {@code @Id} property appended, so that the order is unique. Entities without an {@code @Id}
+	 * property get their native id appended instead. Custom queries must be sorted uniquely by the caller.
+	 *
+	 * @param query   The query to be executed
+	 * @param type    The domain type
+	 * @param request The requested page
+	 * @return The sort order
+	 */
+	Sort getSort(Query query, Class<?> type, KeysetPageRequest request) {
+
+		Sort sort = request.getSort();
+		if (query.isFilterQuery()) {
+			if (sort.isUnsorted() && query.getOptionalSort() != null) {
+				sort = query.getOptionalSort();
+			}
+			ClassInfo classInfo = metaData.classInfo(type.getName());
+			FieldInfo idField = classInfo == null ? null
+					: classInfo.hasPrimaryIndexField() ? classInfo.primaryIndexField() : classInfo.identityFieldOrNull();
+			if (idField != null && sort.getOrderFor(idField.getName()) == null) {
+				sort = sort.and(Sort.by(idField.getName()));
+			}
+		}
+		Assert.state(sort.isSorted(), "Keyset based pagination requires a sort order.");
+		return sort;
+	}
+
+	/**
+	 * Loads at most {@code limit} elements of the requested page, in the order defined by {@code sort}, regardless of
+	 * the direction of the requests' position.
+	 *
+	 * @param query   The query to be executed
+	 * @param type    The returned type
+	 * @param request The requested page
+	 * @param sort    The sort order as computed by {@link #getSort(Query, Class, KeysetPageRequest)}
+	 * @param limit   The maximum number of elements to load
+	 * @return A modifiable list of elements
+	 */
+	List<Object> load(Query query, Class<?> type, KeysetPageRequest request, Sort sort, int limit) {
+
+		KeysetScrollPosition position = request.getPosition();
+		List<Object> result = new ArrayList<>();
+		if (query.isFilterQuery()) {
+			Sort effectiveSort = position.scrollsBackward() ? sort.reverse() : sort;
+			Filters filters = position.isInitial() ? query.getFilters()
+					: withKeyset(query.getFilters(), type, effectiveSort, position);
+			ClassInfo classInfo = metaData.classInfo(type.getName());
+			Sort.Order nativeIdOrder = getNativeIdOrder(classInfo, effectiveSort);
+			if (nativeIdOrder == null) {
+				session.loadAll(type, filters, PagingAndSortingUtils.convert(effectiveSort), new Pagination(0, limit), depth)
+						.forEach(result::add);
+			} else {
+				// Orders following the native id can't change the order anymore
+				List<Sort.Order> propertyOrders = effectiveSort.toList();
+				propertyOrders = propertyOrders.subList(0, propertyOrders.indexOf(nativeIdOrder));
+				session.loadAll(type, filters, PagingAndSortingUtils.convert(Sort.by(propertyOrders)),
+						new NativeIdOrderedPagination(limit,
+								classInfo.isRelationshipEntity() ? NativeIdOrderedPagination.RELATIONSHIP_VARIABLE
+										: NativeIdOrderedPagination.NODE_VARIABLE,
+								!propertyOrders.isEmpty(), nativeIdOrder.isAscending()),
+						depth).forEach(result::add);
+			}
+		} else {
+			String cypherQuery = query.getCypherQuery(sort, position, limit);
+			if (type.getAnnotation(QueryResult.class) != null) {
+				session.query(cypherQuery, query.getParameters()).queryResults().forEach(result::add);
+			} else {
+				session.query(type, cypherQuery, query.getParameters()).forEach(result::add);
+			}
+		}
+		if (position.scrollsBackward()) {
+			Collections.reverse(result);
+		}
+		return result;
+	}
+
+	/**
+	 * Returns a copy of the request that knows where the neighbouring pages of the given content start.
+	 *
+	 * @param request The request that has been used to load {@code content}
+	 * @param sort    The sort order that has been used to load {@code content}
+	 * @param content The elements of the page
+	 * @return A new request
+	 */
+	KeysetPageRequest withNeighbours(KeysetPageRequest request, Sort sort, List<?> content) {
+
+		if (content.isEmpty()) {
+			return request;
+		}
+		return request.withNeighbours(ScrollPosition.backward(getKeys(content.get(0), sort)),
+				ScrollPosition.forward(getKeys(content.get(content.size() - 1), sort)));
+	}
+
+	/**
+	 * Returns the position of the given element, from which scrolling continues in the given direction.
+	 *
+	 * @param element   An element loaded with {@code sort}
+	 * @param sort      The sort order as computed by {@link #getSort(Query, Class, KeysetPageRequest)}
+	 * @param direction The direction to scroll in
+	 * @return A new position
+	 */
+	KeysetScrollPosition getPosition(Object element, Sort sort, ScrollPosition.Direction direction) {
+		return ScrollPosition.of(getKeys(element, sort), direction);
+	}
+
+	private Map<String, Object> getKeys(Object element, Sort sort) {
+
+		Map<String, Object> keys = new LinkedHashMap<>();
+		for (Sort.Order order : sort) {
+			keys.put(order.getProperty(), getValue(element, order.getProperty()));
+		}
+		return keys;
+	}
+
+	private Object getValue(Object element, String property) {
+
+		// Sort properties of string based queries are qualified by the variable, i.e. n.name
+		int indexOfProperty = property.lastIndexOf('.');
+		String unqualifiedProperty = property.substring(indexOfProperty + 1);
+		if (element instanceof Map<?, ?> row) {
+			if (row.containsKey(property)) {
+				return row.get(property);
+			}
+			// A complete node has been returned, i.e. RETURN n
+			Object variable = indexOfProperty < 0 ? null : row.get(property.substring(0, indexOfProperty));
+			return variable == null ? row.get(unqualifiedProperty) : getValue(variable, unqualifiedProperty);
+		}
+
+		ClassInfo classInfo = metaData.classInfo(element);
+		FieldInfo fieldInfo = classInfo == null ? null : getFieldInfo(classInfo, unqualifiedProperty);
+		if (fieldInfo == null) {
+			throw new IllegalStateException(
+					String.format("Cannot determine the value of sort property %s on %s.", property, element.getClass()));
+		}
+		return fieldInfo.readProperty(element);
+	}
+
+	private Filters withKeyset(Filters filters, Class<?> type, Sort sort, KeysetScrollPosition position) {
+
+		ClassInfo classInfo = metaData.classInfo(type.getName());
+		Sort.Order nativeIdOrder = getNativeIdOrder(classInfo, sort);
+		List<@Nullable String> properties = new ArrayList<>();
+		List<Object> values = new ArrayList<>();
+		for (Sort.Order order : sort) {
+			FieldInfo fieldInfo = classInfo == null ? null : getFieldInfo(classInfo, order.getProperty());
+			if (order == nativeIdOrder) {
+				properties.add(null);
+			} else {
+				properties.add(fieldInfo == null ? order.getProperty() : fieldInfo.property());
+			}
+			values.add(getKey(position, order.getProperty()));
+		}
+
+		// Filters are combined without parenthesis, so the keyset predicate needs to be added to each OR'ed group
+		// to keep its meaning: a AND b OR c becomes a AND b AND k OR c AND k.
+		Filters result = new Filters();
+		String firstProperty = sort.iterator().next().getProperty();
+		for (Filter filter : filters) {
+			if (filter.getBooleanOperator() == BooleanOperator.OR) {
+				result.and(new Filter(firstProperty, new KeysetFunction(sort, properties, values)));
+			}
+			result.add(filter);
+		}
+		Filter keysetFilter = new Filter(firstProperty, new KeysetFunction(sort, properties, values));
+		if (result.isEmpty()) {
+			result.add(keysetFilter);
+		} else {
+			result.and(keysetFilter);
+		}
+		return result;
+	}
+
+	private static @Nullable FieldInfo getFieldInfo(ClassInfo classInfo, String property) {
+
+		FieldInfo fieldInfo = classInfo.propertyFieldByName(property);
+		if (fieldInfo == null) {
+			fieldInfo = classInfo.getFieldInfo(property);
+		}
+		FieldInfo identityField = classInfo.identityFieldOrNull();
+		if (fieldInfo == null && identityField != null && identityField.getName().equals(property)) {
+			fieldInfo = identityField;
+		}
+		return fieldInfo;
+	}
+
+	/**
+	 * @return The order on the native id of entities without an {@code @Id} property, if the sort contains one
+	 */
+	private static Sort.@Nullable Order getNativeIdOrder(@Nullable ClassInfo classInfo, Sort sort) {
+
+		if (classInfo == null || classInfo.hasPrimaryIndexField() || classInfo.identityFieldOrNull() == null) {
+			return null;
+		}
+		return sort.getOrderFor(classInfo.identityField().getName());
+	}
+
+	static Object getKey(KeysetScrollPosition position, String property) {
+
+		Map<String, Object> keys = position.getKeys();
+		Assert.isTrue(keys.containsKey(property),
+				() -> String.format("Keyset position does not contain a value for sort property %s.", property));
+		return keys.get(property);
+	}
+
+	/**
+	 * Creates {@code (e1 > $p1) OR (e1 = $p1 AND e2 > $p2) OR ...}, using {@literal <} for descending orders.
+	 *
+	 * @param sort           The sort order
+	 * @param expressions    One Cypher expression per sort order
+	 * @param parameterNames One parameter name per sort order
+	 * @return A Cypher predicate
+	 */
+	static String createPredicate(Sort sort, List<String> expressions, List<String> parameterNames) {
+
+		List<Sort.Order> orders = sort.toList();
+		StringBuilder predicate = new StringBuilder("(");
+		for (int i = 0; i < orders.size(); ++i) {
+			if (i > 0) {
+				predicate.append(" OR ");
+			}
+			predicate.append("(");
+			for (int j = 0; j <= i; ++j) {
+				Sort.Order order = orders.get(j);
+				String expression = expressions.get(j);
+				String parameter = "$`" + parameterNames.get(j) + "`";
+				if (order.isIgnoreCase()) {
+					expression = "toLower(" + expression + ")";
+					parameter = "toLower(" + parameter + ")";
+				}
+				if (j > 0) {
+					predicate.append(" AND ");
+				}
+				String operator = j < i ? "=" : order.isAscending() ? ">" : "<";
+				predicate.append(expression).append(" ").append(operator).append(" ").append(parameter);
+			}
+			predicate.append(")");
+		}
+		return predicate.append(")").toString();
+	}
+
+	/**
+	 * Neo4j-OGM renders the pagination right after the sort order, which can only refer to properties. This pagination
+	 * adds the native id as last sort key in front of the {@code SKIP} and {@code LIMIT}. It relies on Neo4j-OGM
+	 * rendering the pagination with {@link #toString()} and on the variables Neo4j-OGM uses for nodes and relationships,
+	 * both are pinned by {@code KeysetPaginationTests}.
+	 */
+	static final class NativeIdOrderedPagination extends Pagination {
+
+		static final String NODE_VARIABLE = "n";
+		static final String RELATIONSHIP_VARIABLE = "r0";
+
+		private final String orderBy;
+
+		NativeIdOrderedPagination(int limit, String variable, boolean sortedByProperties, boolean ascending) {
+			super(0, limit);
+			this.orderBy = (sortedByProperties ? ", " : " ORDER BY ") + "ID(" + variable + ")"
+					+ (ascending ? "" : " DESC");
+		}
+
+		@Override
+		public String toString() {
+			return orderBy + super.toString();
+		}
+	}
+
+	/**
+	 * Renders the keyset predicate as part of a derived finder. The parameter names are derived from the unique name of
+	 * the filter, so that the predicate can be added more than once.
+	 */
+	private static final class KeysetFunction implements FilterFunction<Object> {
+
+		private final Sort sort;
+		private final List<@Nullable String> properties;
+		private final List<Object> values;
+
+		/**
+		 * @param properties The graph properties of the sort orders, {@literal null} for the native id
+		 */
+		KeysetFunction(Sort sort, List<@Nullable String> properties, List<Object> values) {
+			this.sort = sort;
+			this.properties = properties;
+			this.values = values;
+		}
+
+		@Override
+		public Object getValue() {
+			return values;
+		}
+
+		@Override
+		public String expression(String nodeIdentifier, String filteredProperty,
+				UnaryOperator<String> createUniqueParameterName) {
+
+			List<String> expressions = new ArrayList<>();
+			for (String property : properties) {
+				expressions.add(property == null ? String.format("ID(%s)", nodeIdentifier)
+						: String.format("%s.`%s`", nodeIdentifier, property));
+			}
+			return createPredicate(sort, expressions, getParameterNames(createUniqueParameterName)) + " ";
+		}
+
+		@Override
+		public Map<String, Object> parameters(UnaryOperator<String> createUniqueParameterName,
+				PropertyValueTransformer valueTransformer) {
+
+			// Values have already been converted when they were read from the entity
+			List<String> parameterNames = getParameterNames(createUniqueParameterName);
+			Map<String, Object> parameters = new HashMap<>();
+			for (int i = 0; i < parameterNames.size(); ++i) {
+				parameters.put(parameterNames.get(i), values.get(i));
+			}
+			return parameters;
+		}
+
+		private List<String> getParameterNames(UnaryOperator<String> createUniqueParameterName) {
+
+			String prefix = createUniqueParameterName.apply("keyset");
+			List<String> parameterNames = new ArrayList<>();
+			for (int i = 0; i < properties.size(); ++i) {
+				parameterNames.add(prefix + "_" + i);
+			}
+			return parameterNames;
+		}
+	}
+}
@@ -17,7 +17,10 @@ package org.springframework.data.neo4j.repository.query;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.jspecify.annotations.Nullable;
 import org.neo4j.ogm.metadata.MetaData;
 import org.neo4j.ogm.session.Session;
 import org.slf4j.Logger;
@@ -25,6 +28,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.data.neo4j.mapping.Neo4jMappingContext;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.ResultProcessor;
+import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.repository.query.parser.PartTree;
 
 /**
@@ -43,8 +47,11 @@ public class PartTreeNeo4jQuery extends AbstractGraphRepositoryQuery {
 	private static final Logger LOG = LoggerFactory.getLogger(PartTreeNeo4jQuery.class);
 	private final GraphQueryMethod graphQueryMethod;
 	private final PartTree tree;
+	private final boolean returnsVoid;
 
 	private final TemplatedQuery queryTemplate;
+	private final Map<Class<?>, Optional<PropertyProjection>> projections = new ConcurrentHashMap<>();
+	private final @Nullable FetchPlanLoader fetchPlan;
 
 	public PartTreeNeo4jQuery(GraphQueryMethod graphQueryMethod, MetaData metaData, Session session) {
 		super(graphQueryMethod, metaData, session);
@@ -52,8 +59,11 @@ public class PartTreeNeo4jQuery extends AbstractGraphRepositoryQuery {
 		Class<?> domainType = graphQueryMethod.getEntityInformation().getJavaType();
 		this.graphQueryMethod = graphQueryMethod;
 		this.tree = new PartTree(graphQueryMethod.getName(), domainType);
+		this.returnsVoid = graphQueryMethod.getMethod().getReturnType().equals(Void.class);
 		this.queryTemplate = new TemplatedQueryCreator(this.tree,
 				(Neo4jMappingContext) this.graphQueryMethod.getMappingContext(), domainType).createQuery();
+		String[] fetchPlanPaths = graphQueryMethod.getFetchPlanPaths();
+		this.fetchPlan = fetchPlanPaths == null ? null : new FetchPlanLoader(metaData, domainType, fetchPlanPaths);
 	}
 
 	@Override
@@ -64,14 +74,16 @@ public class PartTreeNeo4jQuery extends AbstractGraphRepositoryQuery {
 		}
 
 		GraphParameterAccessor accessor = new GraphParametersParameterAccessor(graphQueryMethod, parameters);
-		Class<?> returnType = graphQueryMethod.getMethod().getReturnType();
 
-		if (returnType.equals(Void.class)) {
+		if (returnsVoid) {
 			throw new RuntimeException("Derived Queries must have a return type");
 		}
 
 		ResultProcessor processor = graphQueryMethod.getResultProcessor().withDynamicProjection(accessor);
-		Object results = getExecution(accessor).execute(query, processor.getReturnedType().getDomainType());
+		ReturnedType returnedType = processor.getReturnedType();
+		query.setProjection(projections.computeIfAbsent(returnedType.getReturnedType(),
+				type -> Optional.ofNullable(PropertyProjection.of(metaData, returnedType))).orElse(null));
+		Object results = getExecution().execute(query, returnedType.getDomainType(), accessor);
 
 		return processor.processResult(results);
 	}
@@ -80,7 +92,9 @@ public class PartTreeNeo4jQuery extends AbstractGraphRepositoryQuery {
 	protected Query getQuery(Object[] parameters) {
 
 		Map<Integer, Object> resolvedParameters = resolveParameters(parameters);
-		return this.queryTemplate.createExecutableQuery(resolvedParameters, this.tree.isLimiting() ? this.tree.getMaxResults() : null, tree.getSort());
+		Query query = this.queryTemplate.createExecutableQuery(resolvedParameters, this.tree.isLimiting() ? this.tree.getMaxResults() : null, tree.getSort());
+		query.setFetchPlan(fetchPlan);
+		return query;
 	}
 
 	@Override
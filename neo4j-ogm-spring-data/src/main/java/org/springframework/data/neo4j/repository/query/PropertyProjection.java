@@ -0,0 +1,215 @@
+/*
+ * Copyright 2011-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.jspecify.annotations.Nullable;
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.FieldInfo;
+import org.neo4j.ogm.metadata.MetaData;
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.mapping.Parameter;
+import org.springframework.data.mapping.PreferredConstructor;
+import org.springframework.data.mapping.model.PreferredConstructorDiscoverer;
+import org.springframework.data.neo4j.annotation.QueryResult;
+import org.springframework.data.repository.query.ReturnedType;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Describes a closed interface projection or a DTO projection of a derived finder that only reads plain properties of
+ * the domain type. Such finders don't need to load complete entities: The matching nodes are returned as
+ * {@code RETURN n.`a` AS `a`, n.`b` AS `b`} and each row is either handed to Spring Data as a map, which backs interface
+ * projections, or passed to the preferred constructor of the DTO.
+ *
+ * @author Michael J. Simons
+ */
+final class PropertyProjection {
+
+	private final Class<?> returnedType;
+	private final List<ProjectedProperty> properties;
+	private final @Nullable PreferredConstructor<?, ?> constructor;
+
+	private PropertyProjection(Class<?> returnedType, List<ProjectedProperty> properties,
+			@Nullable PreferredConstructor<?, ?> constructor) {
+
+		this.returnedType = returnedType;
+		this.properties = properties;
+		this.constructor = constructor;
+	}
+
+	/**
+	 * @param metaData     The metadata of the domain type
+	 * @param returnedType The returned type of the current call
+	 * @return A projection or {@literal null} if complete entities must be loaded for the returned type
+	 */
+	@Nullable
+	static PropertyProjection of(MetaData metaData, ReturnedType returnedType) {
+
+		Class<?> type = returnedType.getReturnedType();
+		if (!returnedType.needsCustomConstruction() || returnedType.getInputProperties().isEmpty()
+				|| type.getAnnotation(QueryResult.class) != null
+				|| (returnedType.isInterfaceProjection() && !hasOnlyInputProperties(returnedType))) {
+			return null;
+		}
+
+		ClassInfo classInfo = metaData.classInfo(returnedType.getDomainType().getName());
+		if (classInfo == null || classInfo.isRelationshipEntity()) {
+			return null;
+		}
+
+		List<ProjectedProperty> properties = new ArrayList<>();
+		for (String name : returnedType.getInputProperties()) {
+			ProjectedProperty property = ProjectedProperty.of(classInfo, name);
+			if (property == null) {
+				return null;
+			}
+			properties.add(property);
+		}
+
+		PreferredConstructor<?, ?> constructor = null;
+		if (returnedType.isDtoProjection()) {
+			constructor = PreferredConstructorDiscoverer.discover(type);
+			if (constructor == null || constructor.getParameterCount() != properties.size()) {
+				return null;
+			}
+		}
+		return new PropertyProjection(type, properties, constructor);
+	}
+
+	/**
+	 * Methods that aren't getters, for example those annotated with
+	 * {@link org.springframework.beans.factory.annotation.Value}, are not considered when Spring Data decides whether a
+	 * projection is closed. They need the complete entity.
+	 */
+	private static boolean hasOnlyInputProperties(ReturnedType returnedType) {
+
+		Set<Method> getters = new HashSet<>();
+		for (PropertyDescriptor descriptor : BeanUtils.getPropertyDescriptors(returnedType.getReturnedType())) {
+			if (returnedType.getInputProperties().contains(descriptor.getName()) && descriptor.getReadMethod() != null) {
+				getters.add(descriptor.getReadMethod());
+			}
+		}
+		for (Method method : returnedType.getReturnedType().getMethods()) {
+			if (!method.isDefault() && !Modifier.isStatic(method.getModifiers()) && !getters.contains(method)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	Class<?> getReturnedType() {
+		return returnedType;
+	}
+
+	/**
+	 * @param variable The variable of the matched node
+	 * @return The return clause selecting only the projected properties
+	 */
+	String getReturnClause(String variable) {
+
+		return properties.stream().map(property -> property.getExpression(variable) + " AS `" + property.name + "`")
+				.collect(Collectors.joining(", ", " RETURN ", ""));
+	}
+
+	/**
+	 * @param row A row returned by the statement using {@link #getReturnClause(String)}
+	 * @return A map keyed by the projected property names or an instance of the DTO
+	 */
+	Object map(Map<String, Object> row) {
+
+		Map<String, Object> values = new HashMap<>(properties.size());
+		for (ProjectedProperty property : properties) {
+			values.put(property.name, property.toEntityAttribute(row.get(property.name)));
+		}
+		return constructor == null ? values : instantiate(constructor, values);
+	}
+
+	private static Object instantiate(PreferredConstructor<?, ?> constructor, Map<String, Object> values) {
+
+		ConversionService conversionService = DefaultConversionService.getSharedInstance();
+		Constructor<?> javaConstructor = constructor.getConstructor();
+		List<? extends Parameter<?, ?>> parameters = constructor.getParameters();
+		Object[] arguments = new Object[parameters.size()];
+		for (int i = 0; i < arguments.length; ++i) {
+			Class<?> parameterType = javaConstructor.getParameterTypes()[i];
+			Object value = values.get(parameters.get(i).getName());
+			arguments[i] = value == null || ClassUtils.isAssignableValue(parameterType, value) ? value
+					: conversionService.convert(value, parameterType);
+		}
+		return BeanUtils.instantiateClass(javaConstructor, arguments);
+	}
+
+	private static final class ProjectedProperty {
+
+		private final String name;
+		private final @Nullable FieldInfo fieldInfo;
+
+		ProjectedProperty(String name, @Nullable FieldInfo fieldInfo) {
+			this.name = name;
+			this.fieldInfo = fieldInfo;
+		}
+
+		/**
+		 * @return The property or {@literal null} if the name does not refer to a plain property of the domain type
+		 */
+		@Nullable
+		static ProjectedProperty of(ClassInfo classInfo, String name) {
+
+			FieldInfo identityField = classInfo.identityFieldOrNull();
+			if (identityField != null && identityField.getName().equals(name)) {
+				return new ProjectedProperty(name, null);
+			}
+			for (FieldInfo fieldInfo : classInfo.propertyFields()) {
+				if (fieldInfo.getName().equals(name)) {
+					return fieldInfo.hasCompositeConverter() ? null : new ProjectedProperty(name, fieldInfo);
+				}
+			}
+			return null;
+		}
+
+		String getExpression(String variable) {
+			return fieldInfo == null ? "ID(" + variable + ")" : variable + ".`" + fieldInfo.property() + "`";
+		}
+
+		/**
+		 * Converts the value like Neo4j-OGM does before writing it to an entity.
+		 */
+		@Nullable
+		Object toEntityAttribute(@Nullable Object value) {
+
+			if (value == null || fieldInfo == null) {
+				return value;
+			}
+			if (fieldInfo.hasPropertyConverter()) {
+				return fieldInfo.getPropertyConverter().toEntityAttribute(value);
+			}
+			return fieldInfo.isScalar() ? fieldInfo.convert(value) : value;
+		}
+	}
+}
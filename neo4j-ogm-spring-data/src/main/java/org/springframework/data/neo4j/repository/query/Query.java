@@ -15,17 +15,24 @@
  */
 package org.springframework.data.neo4j.repository.query;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import org.neo4j.ogm.cypher.Filters;
 import org.neo4j.ogm.cypher.query.Pagination;
 import org.neo4j.ogm.cypher.query.SortOrder;
+import org.neo4j.ogm.session.Session;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.neo4j.util.PagingAndSortingUtils;
 import org.jspecify.annotations.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
 
 /**
  * Represents an OGM query. Can hold either cypher queries or filter definitions. Also in charge of adding pagination /
@@ -37,11 +44,27 @@ import org.springframework.util.Assert;
  */
 public class Query {
 
-	private static final String SKIP_PARAM = "sdnSkip";
-	private static final String LIMIT_PARAM = "sdnLimit";
-	private static final String SKIP_LIMIT = " SKIP $" + SKIP_PARAM + " LIMIT $" + LIMIT_PARAM;
+	static final String SKIP_PARAM = "sdnSkip";
+	static final String LIMIT_PARAM = "sdnLimit";
+	static final String SKIP_LIMIT = " SKIP $" + SKIP_PARAM + " LIMIT $" + LIMIT_PARAM;
 	private static final String LIMIT = "LIMIT $" + LIMIT_PARAM;
 	private static final String ORDER_BY_CLAUSE = " ORDER BY %s";
+	private static final String KEYSET_PARAM = "sdnKeyset";
+	private static final String KEYSET_SUBQUERY = "CALL { %s } WITH * WHERE %s RETURN *";
+	private static final String TOTAL_SUBQUERY = "CALL { %s } WITH count(*) AS %s CALL { %s } RETURN *";
+	private static final String COUNT_SUBQUERY = "CALL { %s } RETURN count(*)";
+
+	/**
+	 * Keeps Neo4j-OGM from clearing the session for wrapped queries, as {@code CALL} is considered a writing keyword.
+	 */
+	private static final String READ_ONLY_HINT = "/*+ OGM READ_ONLY */ ";
+	private static final Pattern WRITE_CYPHER_KEYWORDS = Pattern.compile("\\b(CREATE|MERGE|SET|DELETE|REMOVE|DROP|CALL)\\b",
+			Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+
+	/**
+	 * Name of the column containing the total number of elements, see {@link #getCypherQueryWithTotal(Pageable)}.
+	 */
+	static final String TOTAL_COLUMN = "sdnTotal";
 
 	private Filters filters;
 	private String cypherQuery;
@@ -49,6 +72,11 @@ public class Query {
 	private @Nullable String countQuery;
 	private @Nullable Integer optionalLimit;
 	private @Nullable Sort optionalSort;
+	private boolean countInSameStatement;
+	private @Nullable CompiledQueryCache compiledQueries;
+	private @Nullable PropertyProjection projection;
+	private @Nullable FetchPlanLoader fetchPlan;
+	private CompiledQueryCache.@Nullable BoundStatement boundStatement;
 
 	public Query(Filters filters, @Nullable Integer optionalLimit, Sort optionalSort) {
 
@@ -58,6 +86,12 @@ public class Query {
 		this.optionalSort = optionalSort;
 	}
 
+	Query(Filters filters, @Nullable Integer optionalLimit, @Nullable Sort optionalSort,
+			CompiledQueryCache compiledQueries) {
+		this(filters, optionalLimit, optionalSort);
+		this.compiledQueries = compiledQueries;
+	}
+
 	public Query(String cypherQuery, @Nullable String countQuery, Map<String, Object> parameters) {
 		Assert.notNull(cypherQuery, "Query must not be null.");
 		Assert.notNull(parameters, "Parameters must not be null.");
@@ -66,6 +100,13 @@ public class Query {
 		this.parameters = parameters;
 	}
 
+	public Query(String cypherQuery, @Nullable String countQuery, Map<String, Object> parameters,
+			boolean countInSameStatement) {
+		this(cypherQuery, StringUtils.hasText(countQuery) || !countInSameStatement ? countQuery
+				: String.format(COUNT_SUBQUERY, sanitize(cypherQuery)), parameters);
+		this.countInSameStatement = countInSameStatement;
+	}
+
 	public boolean isFilterQuery() {
 		return filters != null;
 	}
@@ -86,6 +127,27 @@ public class Query {
 		return countQuery;
 	}
 
+	/**
+	 * @return whether the page and the total number of elements should be retrieved in one statement
+	 */
+	public boolean isCountInSameStatement() {
+		return countInSameStatement;
+	}
+
+	/**
+	 * Creates a single statement returning the requested page together with the total number of rows of the original
+	 * query in an additional column named {@link #TOTAL_COLUMN}. The statement won't return any rows if the page is
+	 * empty.
+	 *
+	 * @param pageable The requested page
+	 * @return A query string returning the page and the total number of elements
+	 */
+	public String getCypherQueryWithTotal(Pageable pageable) {
+
+		String pageQuery = getCypherQuery(pageable, false);
+		return markAsReadOnlyIfPossible(String.format(TOTAL_SUBQUERY, cypherQuery, TOTAL_COLUMN, pageQuery));
+	}
+
 	public String getCypherQuery(Pageable pageable, boolean forSlicing) {
 		String result = cypherQuery;
 		Sort sort = null;
@@ -109,6 +171,67 @@ public class Query {
 		return result;
 	}
 
+	/**
+	 * Creates a query for keyset based pagination. If the position is not the initial one, the original query is wrapped
+	 * into a subquery and its rows are filtered by the values of the sort keys of the given position.
+	 * <p>
+	 * The filter is only applied after the original query has produced all of its rows, so only sorting and returning
+	 * the rows before the position is avoided. The sort keys must be unique, as there is no way to append a tiebreaker
+	 * to an arbitrary query.
+	 *
+	 * @param sort     The sort order, the properties must be valid Cypher expressions on the returned columns
+	 * @param position The position to start from, contains one value per sort property
+	 * @param limit    The maximum number of rows to return
+	 * @return A query string ordered by {@code sort} (reversed when scrolling backward) and without any {@code SKIP}
+	 */
+	public String getCypherQuery(Sort sort, KeysetScrollPosition position, int limit) {
+
+		Sort effectiveSort = position.scrollsBackward() ? sort.reverse() : sort;
+		String result = formatBaseQuery(cypherQuery);
+		if (!position.isInitial()) {
+			List<String> expressions = new ArrayList<>();
+			List<String> parameterNames = new ArrayList<>();
+			for (Sort.Order order : effectiveSort) {
+				String parameterName = KEYSET_PARAM + parameterNames.size();
+				expressions.add(order.getProperty());
+				parameterNames.add(parameterName);
+				parameters.put(parameterName, KeysetPagination.getKey(position, order.getProperty()));
+			}
+			result = markAsReadOnlyIfPossible(String.format(KEYSET_SUBQUERY, result,
+					KeysetPagination.createPredicate(effectiveSort, expressions, parameterNames)));
+		}
+		result = addSorting(result, effectiveSort);
+		parameters.put(LIMIT_PARAM, limit);
+		return result + " " + LIMIT;
+	}
+
+	/**
+	 * Creates a query for offset based scrolling.
+	 *
+	 * @param sort  The sort order
+	 * @param skip  The number of rows to skip
+	 * @param limit The maximum number of rows to return
+	 * @return A query string ordered by {@code sort}, skipping and limiting the rows
+	 */
+	public String getCypherQuery(Sort sort, long skip, int limit) {
+
+		String result = addSorting(cypherQuery, sort) + SKIP_LIMIT;
+		parameters.put(SKIP_PARAM, skip);
+		parameters.put(LIMIT_PARAM, limit);
+		return result;
+	}
+
+	private String markAsReadOnlyIfPossible(String wrappedQuery) {
+		return mightWrite(cypherQuery) ? wrappedQuery : READ_ONLY_HINT + wrappedQuery;
+	}
+
+	/**
+	 * @return {@literal true} if the query contains a keyword that might write, procedure calls included
+	 */
+	static boolean mightWrite(String cypherQuery) {
+		return WRITE_CYPHER_KEYWORDS.matcher(cypherQuery).find();
+	}
+
 	private String addPaging(String cypherQuery, Pageable pageable, boolean forSlicing) {
 		// Custom queries in the OGM do not support pageable
 		cypherQuery = formatBaseQuery(cypherQuery);
@@ -162,25 +285,92 @@ public class Query {
 	@Nullable Pagination getOptionalPagination(@Nullable Pageable pageable, boolean forSlicing) {
 
 		if(pageable != null) {
-			Pagination pagination = new Pagination(pageable.getPageNumber(),pageable.getPageSize() + ((forSlicing) ? 1 : 0));
-			pagination.setOffset(pageable.getPageNumber() * pageable.getPageSize());
-			return pagination;
+			return new OffsetPagination(pageable.getPageNumber(), pageable.getPageSize() + ((forSlicing) ? 1 : 0),
+					pageable.getPageNumber() * pageable.getPageSize());
 		}
 
 		if(this.optionalLimit == null) {
 			return null;
 		}
 
-		Pagination pagination = new Pagination(0, optionalLimit);
-		pagination.setOffset(0);
-		return pagination;
+		return new OffsetPagination(0, optionalLimit, 0);
+	}
+
+	/**
+	 * Loads the entities matching the filters of this query. Derived finders reuse the statement compiled for the
+	 * shape of the call if possible. If a {@link #setProjection(PropertyProjection) projection} is set, the projected
+	 * rows are returned instead of entities if possible. If a {@link #setFetchPlan(FetchPlanLoader) fetch plan} is set,
+	 * only its relationships are loaded if possible.
+	 *
+	 * @param session    The session to load the entities with
+	 * @param type       The type of the entities
+	 * @param sort       The sort order
+	 * @param pagination Optional pagination, see {@link #getOptionalPagination(Pageable, boolean)}
+	 * @param depth      The depth to load
+	 * @return The matching entities or projected rows
+	 */
+	Collection<?> loadAll(Session session, Class<?> type, Sort sort, @Nullable Pagination pagination, int depth) {
+
+		if (compiledQueries == null) {
+			return session.loadAll(type, filters, PagingAndSortingUtils.convert(sort), pagination, depth);
+		}
+		return compiledQueries.loadAll(session, type, filters, sort, pagination, depth, projection, fetchPlan,
+				statement -> this.boundStatement = statement);
+	}
+
+	/**
+	 * Binds the statement compiled for loading the entities matching the filters of this query, so that it can be run
+	 * without collecting the result upfront. Projections are not supported.
+	 *
+	 * @param session    The session the statement will be run with
+	 * @param type       The type of the entities
+	 * @param sort       The sort order
+	 * @param pagination Optional pagination, see {@link #getOptionalPagination(Pageable, boolean)}
+	 * @param depth      The depth to load
+	 * @return The bound statement or {@literal null} if the entities can only be loaded with {@link #loadAll}
+	 */
+	CompiledQueryCache.@Nullable BoundStatement bindLoadAll(Session session, Class<?> type, Sort sort,
+			@Nullable Pagination pagination, int depth) {
+
+		if (compiledQueries == null || projection != null) {
+			return null;
+		}
+		this.boundStatement = compiledQueries.bind(session, type, filters, sort, pagination, depth, fetchPlan);
+		return this.boundStatement;
+	}
+
+	/**
+	 * @return The compiled statement last run or bound for the filters of this query, {@literal null} if the filters
+	 *         have only been handed to Neo4j-OGM so far
+	 */
+	CompiledQueryCache.@Nullable BoundStatement getBoundStatement() {
+		return boundStatement;
+	}
+
+	/**
+	 * @param projection The properties to select instead of loading complete entities, only used for derived finders
+	 */
+	void setProjection(@Nullable PropertyProjection projection) {
+		this.projection = projection;
+	}
+
+	/**
+	 * @param fetchPlan The relationships to load instead of all relationships up to the depth, only used for derived
+	 *                  finders
+	 */
+	void setFetchPlan(@Nullable FetchPlanLoader fetchPlan) {
+		this.fetchPlan = fetchPlan;
 	}
 
 	@Nullable Sort getOptionalSort() {
 		return optionalSort;
 	}
 
-	private String sanitize(String cypherQuery) {
+	@Nullable Integer getOptionalLimit() {
+		return optionalLimit;
+	}
+
+	private static String sanitize(String cypherQuery) {
 		cypherQuery = cypherQuery.trim();
 		if (cypherQuery.endsWith(";")) {
 			cypherQuery = cypherQuery.substring(0, cypherQuery.length() - 1);
@@ -188,6 +378,30 @@ public class Query {
 		return cypherQuery;
 	}
 
+	/**
+	 * A pagination that keeps its offset and limit accessible, so that they can be passed as parameters.
+	 */
+	static final class OffsetPagination extends Pagination {
+
+		private final int offset;
+		private final int limit;
+
+		OffsetPagination(int pageNumber, int pageSize, int offset) {
+			super(pageNumber, pageSize);
+			setOffset(offset);
+			this.offset = offset;
+			this.limit = pageSize;
+		}
+
+		int getOffset() {
+			return offset;
+		}
+
+		int getLimit() {
+			return limit;
+		}
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder sb = new StringBuilder("Query{");
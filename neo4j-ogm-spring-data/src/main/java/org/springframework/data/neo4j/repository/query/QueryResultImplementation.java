@@ -0,0 +1,206 @@
+/*
+ * Copyright 2011-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.Type;
+import org.springframework.util.ClassUtils;
+
+/**
+ * A concrete class generated for a {@code @QueryResult} interface that only declares getters. The class has one typed,
+ * final field per getter, is defined once per interface as a hidden class in the package of the interface and is
+ * instantiated directly for each row. Compared to a {@link QueryResultProxy} there is neither reflective dispatch nor
+ * a lookup per getter call. Interfaces with other methods, for example setters or default methods, are still backed by
+ * a {@link QueryResultProxy}.
+ *
+ * @author Michael J. Simons
+ */
+final class QueryResultImplementation {
+
+	private static final Logger LOG = LoggerFactory.getLogger(QueryResultImplementation.class);
+
+	private static final ClassValue<Optional<QueryResultImplementation>> implementations = new ClassValue<>() {
+		@Override
+		protected Optional<QueryResultImplementation> computeValue(Class<?> type) {
+			return Optional.ofNullable(generate(type));
+		}
+	};
+
+	private final QueryResultProxy.ResolvedMethod[] methods;
+	private final Object[] defaultValues;
+	private final MethodHandle constructor;
+
+	private QueryResultImplementation(List<Method> methods, MethodHandle constructor) {
+
+		this.methods = new QueryResultProxy.ResolvedMethod[methods.size()];
+		this.defaultValues = new Object[methods.size()];
+		for (int i = 0; i < this.methods.length; ++i) {
+			Class<?> returnType = methods.get(i).getReturnType();
+			this.methods[i] = QueryResultProxy.getResolvedMethod(methods.get(i));
+			this.defaultValues[i] = returnType.isPrimitive() ? Array.get(Array.newInstance(returnType, 1), 0) : null;
+		}
+		this.constructor = constructor;
+	}
+
+	/**
+	 * @param queryResultInterface An interface annotated with {@code @QueryResult}
+	 * @return The generated implementation or {@literal null} if the interface must be backed by a proxy
+	 */
+	@Nullable
+	static QueryResultImplementation of(Class<?> queryResultInterface) {
+		return implementations.get(queryResultInterface).orElse(null);
+	}
+
+	/**
+	 * @param row A single row of a query result
+	 * @return A new instance of the generated class, holding the values of the row
+	 */
+	Object newInstance(Map<String, ?> row) {
+
+		Object[] values = new Object[methods.length];
+		for (int i = 0; i < values.length; ++i) {
+			values[i] = methods[i].getValue(row, defaultValues[i]);
+		}
+		try {
+			return (Object) constructor.invokeExact(values);
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	@Nullable
+	private static QueryResultImplementation generate(Class<?> type) {
+
+		if (!type.isInterface()) {
+			return null;
+		}
+
+		List<Method> methods = new ArrayList<>();
+		Set<String> names = new HashSet<>();
+		for (Method method : type.getMethods()) {
+			if (Modifier.isStatic(method.getModifiers())) {
+				continue;
+			}
+			if (method.isDefault() || method.getParameterCount() != 0 || method.getReturnType() == void.class
+					|| !names.add(method.getName()) || !isAccessible(method.getReturnType(), type)) {
+				return null;
+			}
+			methods.add(method);
+		}
+
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+			Class<?> implementation = lookup.defineHiddenClass(generateClass(type, methods), true).lookupClass();
+			MethodHandle constructor = lookup
+					.findConstructor(implementation, MethodType.methodType(void.class, Object[].class))
+					.asType(MethodType.methodType(Object.class, Object[].class));
+			return new QueryResultImplementation(methods, constructor);
+		} catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+			LOG.debug("Could not generate an implementation of {}, falling back to a proxy", type.getName(), e);
+			return null;
+		}
+	}
+
+	private static boolean isAccessible(Class<?> returnType, Class<?> queryResultInterface) {
+
+		Class<?> type = returnType.isArray() ? returnType.getComponentType() : returnType;
+		if (type.isPrimitive()) {
+			return true;
+		}
+		if (type.getPackageName().equals(queryResultInterface.getPackageName())
+				&& type.getClassLoader() == queryResultInterface.getClassLoader()) {
+			return true;
+		}
+		return Modifier.isPublic(type.getModifiers())
+				&& type.getModule().isExported(type.getPackageName(), queryResultInterface.getModule());
+	}
+
+	/**
+	 * Generates a final class implementing {@code type} with a constructor taking the values of all getters as
+	 * {@code Object[]}, in the order of {@code methods}.
+	 */
+	private static byte[] generateClass(Class<?> type, List<Method> methods) {
+
+		String internalName = Type.getInternalName(type) + "$QueryResult";
+		ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+		writer.visit(Opcodes.V17, Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL | Opcodes.ACC_SUPER, internalName, null,
+				"java/lang/Object", new String[] { Type.getInternalName(type) });
+
+		MethodVisitor constructor = writer.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "([Ljava/lang/Object;)V", null,
+				null);
+		constructor.visitCode();
+		constructor.visitVarInsn(Opcodes.ALOAD, 0);
+		constructor.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
+
+		for (int i = 0; i < methods.size(); ++i) {
+			Method method = methods.get(i);
+			Class<?> returnType = method.getReturnType();
+			Type fieldType = Type.getType(returnType);
+			String fieldName = "value" + i;
+			writer.visitField(Opcodes.ACC_PRIVATE | Opcodes.ACC_FINAL, fieldName, fieldType.getDescriptor(), null, null)
+					.visitEnd();
+
+			constructor.visitVarInsn(Opcodes.ALOAD, 0);
+			constructor.visitVarInsn(Opcodes.ALOAD, 1);
+			constructor.visitLdcInsn(i);
+			constructor.visitInsn(Opcodes.AALOAD);
+			if (returnType.isPrimitive()) {
+				String wrapper = Type.getInternalName(ClassUtils.resolvePrimitiveIfNecessary(returnType));
+				constructor.visitTypeInsn(Opcodes.CHECKCAST, wrapper);
+				constructor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, wrapper, returnType.getName() + "Value",
+						"()" + fieldType.getDescriptor(), false);
+			} else if (returnType != Object.class) {
+				constructor.visitTypeInsn(Opcodes.CHECKCAST, fieldType.getInternalName());
+			}
+			constructor.visitFieldInsn(Opcodes.PUTFIELD, internalName, fieldName, fieldType.getDescriptor());
+
+			MethodVisitor getter = writer.visitMethod(Opcodes.ACC_PUBLIC, method.getName(),
+					Type.getMethodDescriptor(method), null, null);
+			getter.visitCode();
+			getter.visitVarInsn(Opcodes.ALOAD, 0);
+			getter.visitFieldInsn(Opcodes.GETFIELD, internalName, fieldName, fieldType.getDescriptor());
+			getter.visitInsn(fieldType.getOpcode(Opcodes.IRETURN));
+			getter.visitMaxs(0, 0);
+			getter.visitEnd();
+		}
+
+		constructor.visitInsn(Opcodes.RETURN);
+		constructor.visitMaxs(0, 0);
+		constructor.visitEnd();
+		writer.visitEnd();
+		return writer.toByteArray();
+	}
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2011-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
+import org.neo4j.ogm.annotation.Properties;
+import org.neo4j.ogm.context.SingleUseEntityMapper;
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.DescriptorMappings;
+import org.neo4j.ogm.metadata.FieldInfo;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.metadata.reflect.EntityAccessManager;
+import org.neo4j.ogm.metadata.reflect.GenericUtils;
+import org.neo4j.ogm.typeconversion.MapCompositeConverter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Maps rows onto a {@code @QueryResult} class. The field each column is written to is resolved once per column and
+ * reused for all following rows, instead of being looked up again for each row as the {@link SingleUseEntityMapper}
+ * does. Rows containing nested entities or composite properties are still handed to a {@link SingleUseEntityMapper},
+ * which is created only once per mapper, too.
+ *
+ * @author Michael J. Simons
+ */
+final class QueryResultMapper {
+
+	private static final Logger LOG = LoggerFactory.getLogger(QueryResultMapper.class);
+
+	private final MetaData metaData;
+	private final Class<?> type;
+	private final QueryResultInstantiator entityInstantiator;
+	private final SingleUseEntityMapper delegate;
+	private final @Nullable ClassInfo classInfo;
+	private final Map<String, ColumnWriter> columnWriters = new ConcurrentHashMap<>();
+
+	QueryResultMapper(MetaData metaData, Class<?> type, QueryResultInstantiator entityInstantiator) {
+
+		this.metaData = metaData;
+		this.type = type;
+		this.entityInstantiator = entityInstantiator;
+		this.delegate = new SingleUseEntityMapper(metaData, entityInstantiator);
+		this.classInfo = metaData.classInfo(type.getName());
+	}
+
+	Object map(Map<String, Object> row) {
+
+		if (classInfo == null) {
+			return delegate.map(type, row);
+		}
+
+		ColumnWriter[] writers = new ColumnWriter[row.size()];
+		int i = 0;
+		for (String column : row.keySet()) {
+			ColumnWriter writer = columnWriters.computeIfAbsent(column, this::resolve);
+			if (writer == ColumnWriter.DELEGATE) {
+				return delegate.map(type, row);
+			}
+			writers[i++] = writer;
+		}
+
+		Object instance = entityInstantiator.createInstance(type, row);
+		i = 0;
+		for (Object value : row.values()) {
+			writers[i++].write(instance, value);
+		}
+		return instance;
+	}
+
+	/**
+	 * Resolves the writer of a column like {@code SingleUseEntityMapper#writeProperty} does.
+	 */
+	private ColumnWriter resolve(String column) {
+
+		FieldInfo fieldInfo = classInfo.getFieldInfo(column);
+		if (fieldInfo == null) {
+			fieldInfo = classInfo.relationshipFieldByName(column);
+		}
+		if (fieldInfo == null) {
+			if (hasMatchingCompositeField(column)) {
+				return ColumnWriter.DELEGATE;
+			}
+			LOG.warn("Unable to find property: {} on class: {} for writing", column, classInfo.name());
+			return ColumnWriter.SKIP;
+		}
+
+		Class<?> elementType = fieldInfo.convertedType();
+		if (elementType == null) {
+			elementType = DescriptorMappings.getType(fieldInfo.getTypeDescriptor());
+		}
+		if (metaData.classInfo(elementType) != null) {
+			return ColumnWriter.DELEGATE;
+		}
+		return new ColumnWriter(fieldInfo, elementType);
+	}
+
+	private boolean hasMatchingCompositeField(String column) {
+
+		return classInfo.fieldsInfo().fields().stream()
+				.filter(fieldInfo -> fieldInfo.getAnnotations().has(Properties.class))
+				.map(FieldInfo::getCompositeConverter)
+				.anyMatch(converter -> converter instanceof MapCompositeConverter mapCompositeConverter
+						&& column.startsWith(mapCompositeConverter.getPropertyLookup()));
+	}
+
+	private static boolean isCollectionLike(@Nullable Class<?> type) {
+		return type != null && (type.isArray() || Iterable.class.isAssignableFrom(type));
+	}
+
+	private static class ColumnWriter {
+
+		/**
+		 * Marks columns that are not mapped at all.
+		 */
+		static final ColumnWriter SKIP = new ColumnWriter(null, null);
+
+		/**
+		 * Marks columns that need the {@link SingleUseEntityMapper}.
+		 */
+		static final ColumnWriter DELEGATE = new ColumnWriter(null, null);
+
+		private final @Nullable FieldInfo fieldInfo;
+		private final @Nullable Class<?> elementType;
+		private final boolean targetIsCollection;
+		private final boolean genericField;
+
+		ColumnWriter(@Nullable FieldInfo fieldInfo, @Nullable Class<?> elementType) {
+
+			this.fieldInfo = fieldInfo;
+			this.elementType = elementType;
+			this.targetIsCollection = fieldInfo != null && isCollectionLike(fieldInfo.type());
+			this.genericField = fieldInfo != null && GenericUtils.isGenericField(fieldInfo.getField());
+		}
+
+		void write(Object instance, @Nullable Object value) {
+
+			if (fieldInfo == null) {
+				return;
+			}
+
+			Object writtenValue = value;
+			if (targetIsCollection || genericField && value != null && isCollectionLike(value.getClass())) {
+				if (writtenValue == null) {
+					writtenValue = Collections.emptyList();
+				} else if (writtenValue.getClass().isArray()) {
+					writtenValue = Arrays.asList((Object[]) writtenValue);
+				}
+				Class<?> fieldType = fieldInfo.type();
+				writtenValue = fieldType.isArray()
+						? EntityAccessManager.merge(fieldType, writtenValue, new Object[0], elementType)
+						: EntityAccessManager.merge(fieldType, writtenValue, Collections.emptyList(), elementType);
+			}
+			fieldInfo.write(instance, writtenValue);
+		}
+	}
+}
@@ -18,6 +18,8 @@ package org.springframework.data.neo4j.repository.query;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -25,12 +27,15 @@ import org.neo4j.ogm.annotation.Property;
 import org.neo4j.ogm.session.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.util.ClassUtils;
 
 /**
  * Method {@link InvocationHandler} used for proxy objects that implement arbitrary interfaces annotated with
- * <code>&#064;QueryResult</code>.
+ * <code>&#064;QueryResult</code>. The key of the value returned by a method and the coercion of that value are
+ * resolved once per method and cached per interface.
  *
  * @author Adam George
+ * @author Michael J. Simons
  */
 class QueryResultProxy implements InvocationHandler {
 
@@ -38,6 +43,13 @@ class QueryResultProxy implements InvocationHandler {
 
 	private static final Pattern beanGetterPattern = Pattern.compile("^(is|get)(\\w+)");
 
+	private static final ClassValue<Map<Method, ResolvedMethod>> resolvedMethods = new ClassValue<>() {
+		@Override
+		protected Map<Method, ResolvedMethod> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
 	private final Map<String, ?> data;
 
 	QueryResultProxy(Map<String, ?> queryResults) {
@@ -46,29 +58,68 @@ class QueryResultProxy implements InvocationHandler {
 
 	@Override
 	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+
+		return getResolvedMethod(method).getValue(data);
+	}
+
+	/**
+	 * @param method A method of a {@code @QueryResult} interface
+	 * @return The cached resolution of the key and the coercion of the value returned by the method
+	 */
+	static ResolvedMethod getResolvedMethod(Method method) {
+		return resolvedMethods.get(method.getDeclaringClass()).computeIfAbsent(method, QueryResultProxy::resolve);
+	}
+
+	private static ResolvedMethod resolve(Method method) {
+
 		if (isNotTraditionalGetter(method)) {
 			log.warn("QueryResult interface method " + method.getName()
 					+ " doesn't appear to be a getter and therefore may not return the correct result.");
 		}
 
+		String key;
 		if (method.isAnnotationPresent(Property.class)) {
-			Property annotation = method.getAnnotation(Property.class);
-			return Utils.coerceTypes(method.getReturnType(), data.get(annotation.name()));
-		}
-
-		Matcher matcher = beanGetterPattern.matcher(method.getName());
-		if (matcher.matches()) {
-			String propertyKey = matcher.group(2);
-			propertyKey = propertyKey.substring(0, 1).toLowerCase().concat(propertyKey.substring(1));
-			return Utils.coerceTypes(method.getReturnType(), data.get(propertyKey));
+			key = method.getAnnotation(Property.class).name();
+		} else {
+			Matcher matcher = beanGetterPattern.matcher(method.getName());
+			if (matcher.matches()) {
+				String propertyKey = matcher.group(2);
+				key = propertyKey.substring(0, 1).toLowerCase().concat(propertyKey.substring(1));
+			} else {
+				key = method.getName();
+			}
 		}
 
-		return Utils.coerceTypes(method.getReturnType(), data.get(method.getName()));
+		// Neo4j-OGM only coerces values returned for primitives and their wrappers
+		Class<?> returnType = method.getReturnType();
+		UnaryOperator<Object> coercion = ClassUtils.isPrimitiveOrWrapper(returnType)
+				? value -> Utils.coerceTypes(returnType, value)
+				: UnaryOperator.identity();
+		return new ResolvedMethod(key, coercion);
 	}
 
-	private boolean isNotTraditionalGetter(Method method) {
+	private static boolean isNotTraditionalGetter(Method method) {
 		return method.getParameterTypes().length != 0 || Void.class.equals(method.getReturnType())
 				|| (!method.getName().startsWith("get") && !method.getName().startsWith("is"));
 	}
 
+	static final class ResolvedMethod {
+
+		private final String key;
+		private final UnaryOperator<Object> coercion;
+
+		ResolvedMethod(String key, UnaryOperator<Object> coercion) {
+			this.key = key;
+			this.coercion = coercion;
+		}
+
+		Object getValue(Map<String, ?> data) {
+			return coercion.apply(data.get(key));
+		}
+
+		Object getValue(Map<String, ?> data, Object defaultValue) {
+			Object value = data.get(key);
+			return value == null ? defaultValue : coercion.apply(value);
+		}
+	}
 }
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2011-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import java.util.Optional;
+
+import org.neo4j.ogm.session.Session;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.Sort;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Counterparts of the {@link GraphQueryExecution executions} for query methods returning {@link Flux} or {@link Mono}.
+ * Reads are run through a {@link ReactiveQueryRunner}, nothing is executed before the result is subscribed to. Derived
+ * delete queries are run through the blocking session as a {@link ReactiveQueryRunner#write(java.util.function.Supplier)
+ * write}.
+ *
+ * @author Michael J. Simons
+ */
+public interface ReactiveGraphQueryExecution extends GraphQueryExecution {
+
+	final class FluxExecution implements ReactiveGraphQueryExecution {
+
+		private final ReactiveQueryRunner queryRunner;
+
+		FluxExecution(ReactiveQueryRunner queryRunner) {
+			this.queryRunner = queryRunner;
+		}
+
+		@Override
+		public Flux<?> execute(Query query, Class<?> type, GraphParameterAccessor accessor) {
+
+			if (query.isFilterQuery()) {
+				Sort sort = Optional.of(accessor.getSort()).filter(Sort::isSorted).orElseGet(query::getOptionalSort);
+				return queryRunner.loadAll(type, query.getFilters(), sort == null ? Sort.unsorted() : sort,
+						query.getOptionalPagination(null, false), accessor.getDepth());
+			}
+			return queryRunner.query(type, query.getCypherQuery(accessor.getSort()), query.getParameters());
+		}
+	}
+
+	final class MonoExecution implements ReactiveGraphQueryExecution {
+
+		private final FluxExecution fluxExecution;
+
+		MonoExecution(ReactiveQueryRunner queryRunner) {
+			this.fluxExecution = new FluxExecution(queryRunner);
+		}
+
+		@Override
+		public Mono<?> execute(Query query, Class<?> type, GraphParameterAccessor accessor) {
+			return fluxExecution.execute(query, type, accessor).singleOrEmpty().onErrorMap(
+					IndexOutOfBoundsException.class,
+					e -> new IncorrectResultSizeDataAccessException("Incorrect result size: expected at most 1", 1, e));
+		}
+	}
+
+	final class CountByExecution implements ReactiveGraphQueryExecution {
+
+		private final ReactiveQueryRunner queryRunner;
+
+		CountByExecution(ReactiveQueryRunner queryRunner) {
+			this.queryRunner = queryRunner;
+		}
+
+		@Override
+		public Mono<Long> execute(Query query, Class<?> type, GraphParameterAccessor accessor) {
+			return queryRunner.count(type, query.getFilters());
+		}
+	}
+
+	final class ExistsByExecution implements ReactiveGraphQueryExecution {
+
+		private final ReactiveQueryRunner queryRunner;
+
+		ExistsByExecution(ReactiveQueryRunner queryRunner) {
+			this.queryRunner = queryRunner;
+		}
+
+		@Override
+		public Mono<Boolean> execute(Query query, Class<?> type, GraphParameterAccessor accessor) {
+
+			if (query.isFilterQuery()) {
+				return queryRunner.count(type, query.getFilters()).map(count -> count > 0);
+			}
+			return queryRunner.exists(query.getCypherQuery(), query.getParameters());
+		}
+	}
+
+	final class DeleteByExecution implements ReactiveGraphQueryExecution {
+
+		private final ReactiveQueryRunner queryRunner;
+		private final GraphQueryExecution.DeleteByExecution delegate;
+		private final boolean listResults;
+
+		DeleteByExecution(ReactiveQueryRunner queryRunner, Session session, GraphQueryMethod graphQueryMethod) {
+			this.queryRunner = queryRunner;
+			this.delegate = new GraphQueryExecution.DeleteByExecution(session, graphQueryMethod);
+			this.listResults = graphQueryMethod.isCollectionQuery();
+		}
+
+		@Override
+		public Object execute(Query query, Class<?> type, GraphParameterAccessor accessor) {
+
+			Mono<Object> result = queryRunner.write(() -> delegate.execute(query, type, accessor));
+			return listResults ? result.flatMapIterable(ids -> (Iterable<?>) ids) : result;
+		}
+	}
+}
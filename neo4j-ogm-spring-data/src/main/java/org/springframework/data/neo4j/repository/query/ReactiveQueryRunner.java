@@ -0,0 +1,481 @@
+/*
+ * Copyright 2011-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.jspecify.annotations.Nullable;
+import org.neo4j.driver.AccessMode;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.SessionConfig;
+import org.neo4j.driver.exceptions.RetryableException;
+import org.neo4j.driver.reactivestreams.ReactiveResult;
+import org.neo4j.driver.reactivestreams.ReactiveSession;
+import org.neo4j.driver.reactivestreams.ReactiveTransaction;
+import org.neo4j.ogm.annotation.RelationshipEntity;
+import org.neo4j.ogm.config.Configuration;
+import org.neo4j.ogm.config.DatabaseSelectionProvider;
+import org.neo4j.ogm.config.UserSelectionProvider;
+import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.cypher.query.CypherQuery;
+import org.neo4j.ogm.cypher.query.Pagination;
+import org.neo4j.ogm.cypher.query.PagingAndSortingQuery;
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.FieldInfo;
+import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.Utils;
+import org.neo4j.ogm.session.request.strategy.impl.CountStatements;
+import org.neo4j.ogm.transaction.Transaction;
+import org.neo4j.ogm.utils.EntityUtils;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.neo4j.transaction.Neo4jTransactionManager;
+import org.springframework.data.neo4j.util.PagingAndSortingUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+/**
+ * Runs read-only queries through the reactive session of the Neo4j Java driver that backs the Bolt transport of a
+ * {@link SessionFactory} and maps the records one by one with the Neo4j-OGM metadata of that factory. Records are only
+ * pulled from the server as fast as they are requested downstream.
+ * <p>
+ * Each record is mapped into a mapping context of its own, so entities are neither shared between records nor with the
+ * session bound to a Spring transaction. Database and impersonated user are taken from the Neo4j-OGM
+ * {@link Configuration} and resolved when an execution is subscribed to. Reads don't take part in the bookmark
+ * management of {@link org.springframework.data.neo4j.annotation.UseBookmark @UseBookmark}. Derived finders whose
+ * filters traverse relationships as well as derived finders on relationship entities are not supported.
+ * <p>
+ * Neo4j-OGM can only write through a blocking session. {@link #write(Supplier)} therefore runs writes on
+ * {@link Schedulers#boundedElastic()}, each in a transaction of its own.
+ *
+ * @author Michael J. Simons
+ */
+public class ReactiveQueryRunner {
+
+	private static final int MAX_RETRIES = 5;
+	private static final Duration FIRST_RETRY_DELAY = Duration.ofMillis(100);
+
+	private final SessionFactory sessionFactory;
+	private final org.neo4j.ogm.driver.Driver ogmDriver;
+	private final DriverRecordMapper recordMapper;
+	private final CountStatements countStatements = new CountStatements();
+	private volatile @Nullable Driver driver;
+	private volatile TransactionTemplate transactionTemplate;
+
+	/**
+	 * @param sessionFactory The session factory providing metadata and driver, must use the Bolt transport
+	 */
+	public ReactiveQueryRunner(SessionFactory sessionFactory) {
+		Assert.notNull(sessionFactory, "SessionFactory must not be null!");
+
+		this.sessionFactory = sessionFactory;
+		this.ogmDriver = sessionFactory.unwrap(org.neo4j.ogm.driver.Driver.class);
+		this.recordMapper = new DriverRecordMapper(ogmDriver);
+		this.transactionTemplate = new TransactionTemplate(new Neo4jTransactionManager(sessionFactory));
+	}
+
+	/**
+	 * Configures the transaction manager in whose transactions {@link #write(Supplier) writes} are run. Defaults to a
+	 * {@link Neo4jTransactionManager} on the session factory of this runner.
+	 *
+	 * @param transactionManager The transaction manager to use, {@literal null} restores the default
+	 */
+	public void setTransactionManager(@Nullable PlatformTransactionManager transactionManager) {
+		this.transactionTemplate = new TransactionTemplate(
+				transactionManager == null ? new Neo4jTransactionManager(sessionFactory) : transactionManager);
+	}
+
+	/**
+	 * Runs a blocking write on {@link Schedulers#boundedElastic()} in a new or the surrounding transaction of the
+	 * configured transaction manager. Nothing is written before the result is subscribed to.
+	 *
+	 * @param write The write to run, usually through a Neo4j-OGM session bound to the transaction
+	 * @param <T>   The type of the result of the write
+	 * @return A mono emitting the result of the write if there is one
+	 */
+	public <T> Mono<T> write(Supplier<@Nullable T> write) {
+
+		TransactionTemplate currentTransactionTemplate = this.transactionTemplate;
+		return Mono.fromSupplier(() -> currentTransactionTemplate.execute(status -> write.get()))
+				.subscribeOn(Schedulers.boundedElastic())
+				.onErrorMap(RuntimeException.class, this::translateException);
+	}
+
+	/**
+	 * Runs an arbitrary read-only statement. Records are mapped to entities if the given type is a Neo4j-OGM entity, to
+	 * maps of their columns if the type is a {@link Map}, an interface or a class annotated with {@link QueryResult}. For
+	 * any other type, the first column is converted into the type. Columns of rows are not mapped to entities.
+	 *
+	 * @param type       The type of the elements to return
+	 * @param cypher     The statement to run
+	 * @param parameters The parameters of the statement
+	 * @param <T>        The type of the elements to return
+	 * @return A flux of the mapped records
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> Flux<T> query(Class<T> type, String cypher, Map<String, ?> parameters) {
+
+		if (sessionFactory.metaData().classInfo(type.getName()) != null) {
+			return run(cypher, parameters,
+					session -> entityMapper(session, new MappingContext(session.metaData()), type, false));
+		}
+		if (ResultKind.of(type).returnsRows() || type.isInterface()) {
+			return run(cypher, parameters,
+					session -> record -> Collections.singleton((T) record.asMap(recordMapper::toMapped)));
+		}
+		return run(cypher, parameters, session -> record -> {
+			Object value = record.size() == 0 ? null : recordMapper.toMapped(record.get(0));
+			return value == null ? Collections.emptyList() : Collections.singleton((T) Utils.coerceTypes(type, value));
+		});
+	}
+
+	/**
+	 * @param cypher     The statement to run
+	 * @param parameters The parameters of the statement
+	 * @return A mono emitting {@literal true} if the statement returns at least one record
+	 */
+	public Mono<Boolean> exists(String cypher, Map<String, ?> parameters) {
+		return run(cypher, parameters, session -> record -> Collections.singleton(Boolean.TRUE)).hasElements();
+	}
+
+	/**
+	 * Loads the node entities matching the given filters in the same way
+	 * {@link org.neo4j.ogm.session.Session#loadAll(Class, Filters, org.neo4j.ogm.cypher.query.SortOrder, Pagination, int)}
+	 * would do.
+	 *
+	 * @param type       The type of the entities
+	 * @param filters    The filters, may be empty
+	 * @param sort       The sort order, referring to the fields of the entities
+	 * @param pagination Optional pagination
+	 * @param depth      The depth to load
+	 * @param <T>        The type of the entities
+	 * @return A flux of the matching entities
+	 */
+	public <T> Flux<T> loadAll(Class<T> type, Filters filters, Sort sort, @Nullable Pagination pagination, int depth) {
+
+		return Flux.defer(() -> {
+			Neo4jSession session = (Neo4jSession) sessionFactory.openSession();
+			ClassInfo classInfo = getNodeEntityClassInfo(session, type, filters);
+			Optional<String> label = session.determineLabelsOrTypeForLoading(type);
+			if (label.isEmpty()) {
+				return Flux.empty();
+			}
+
+			CompiledQueryCache.resolveFilters(session.metaData(), classInfo, type, filters);
+			PagingAndSortingQuery query = filters.isEmpty()
+					? session.queryStatementsFor(type, depth).findByType(label.get(), depth)
+					: session.queryStatementsFor(type, depth).findByType(label.get(), filters, depth);
+			query.setSortOrder(PagingAndSortingUtils.convert(CompiledQueryCache.resolveSort(classInfo, sort)))
+					.setPagination(pagination);
+			return run(session, query, type);
+		});
+	}
+
+	/**
+	 * Loads a single entity by its id in the same way {@link org.neo4j.ogm.session.Session#load(Class, java.io.Serializable, int)}
+	 * would do.
+	 *
+	 * @param type  The type of the entity
+	 * @param id    The primary index or, if there's none, the native id
+	 * @param depth The depth to load
+	 * @param <T>   The type of the entity
+	 * @return A mono emitting the entity if it exists
+	 */
+	public <T> Mono<T> load(Class<T> type, Object id, int depth) {
+
+		return Mono.defer(() -> {
+			Neo4jSession session = (Neo4jSession) sessionFactory.openSession();
+			ClassInfo classInfo = getClassInfo(session, type);
+			Optional<String> labelOrType = session.determineLabelsOrTypeForLoading(type);
+			if (labelOrType.isEmpty()) {
+				return Mono.empty();
+			}
+
+			// The statement returns a single record, whose entities are kept in the context after it has been mapped
+			PagingAndSortingQuery query = session.queryStatementsFor(type, depth)
+					.findOneByType(labelOrType.get(), toGraphId(classInfo, id), depth);
+			MappingContext context = new MappingContext(session.metaData());
+			return run(session, query.getStatement(), query.getParameters(),
+					entityMapper(session, context, type, query.needsRowResult()))
+					.then(Mono.fromSupplier(() -> lookup(context, classInfo, type, id)));
+		});
+	}
+
+	/**
+	 * Loads the entities with the given ids in the same way
+	 * {@link org.neo4j.ogm.session.Session#loadAll(Class, Collection, org.neo4j.ogm.cypher.query.SortOrder, int)} would
+	 * do. Entities are emitted in the order they are returned from the database, not in the order of the ids.
+	 *
+	 * @param type  The type of the entities
+	 * @param ids   The primary indexes or, if there are none, the native ids
+	 * @param sort  The sort order, referring to the fields of the entities
+	 * @param depth The depth to load
+	 * @param <T>   The type of the entities
+	 * @return A flux of the entities that exist
+	 */
+	public <T> Flux<T> loadAll(Class<T> type, Collection<?> ids, Sort sort, int depth) {
+
+		return Flux.defer(() -> {
+			Neo4jSession session = (Neo4jSession) sessionFactory.openSession();
+			ClassInfo classInfo = getClassInfo(session, type);
+			Optional<String> labelOrType = session.determineLabelsOrTypeForLoading(type);
+			if (labelOrType.isEmpty() || ids.isEmpty()) {
+				return Flux.empty();
+			}
+
+			List<Serializable> graphIds = ids.stream().map(id -> toGraphId(classInfo, id)).collect(Collectors.toList());
+			PagingAndSortingQuery query = session.queryStatementsFor(type, depth)
+					.findAllByType(labelOrType.get(), graphIds, depth)
+					.setSortOrder(PagingAndSortingUtils.convert(CompiledQueryCache.resolveSort(classInfo, sort)));
+			return run(session, query, type)
+					.filter(entity -> isOneOf(session, entity, ids));
+		});
+	}
+
+	/**
+	 * Counts the entities matching the given filters.
+	 *
+	 * @param type    The type of the entities
+	 * @param filters The filters, may be empty
+	 * @return A mono emitting the number of matching entities
+	 */
+	public Mono<Long> count(Class<?> type, Filters filters) {
+
+		return Mono.defer(() -> {
+			Neo4jSession session = (Neo4jSession) sessionFactory.openSession();
+			ClassInfo classInfo = getClassInfo(session, type);
+			Optional<String> labelOrType = session.determineLabelsOrTypeForLoading(type);
+			if (labelOrType.isEmpty()) {
+				return Mono.just(0L);
+			}
+
+			CypherQuery query;
+			if (classInfo.isRelationshipEntity()) {
+				if (!filters.isEmpty()) {
+					throw unsupportedFilters(type);
+				}
+				query = countStatements.countEdges(labelOrType.get(), filters);
+			} else {
+				getNodeEntityClassInfo(session, type, filters);
+				CompiledQueryCache.resolveFilters(session.metaData(), classInfo, type, filters);
+				query = countStatements.countNodes(labelOrType.get(), filters);
+			}
+			return query(Long.class, query.getStatement(), query.getParameters()).single(0L);
+		});
+	}
+
+	private <T> Flux<T> run(Neo4jSession session, PagingAndSortingQuery query, Class<T> type) {
+		return run(session, query.getStatement(), query.getParameters(),
+				entityMapper(session, new MappingContext(session.metaData()), type, query.needsRowResult()));
+	}
+
+	private static ClassInfo getClassInfo(Neo4jSession session, Class<?> type) {
+
+		ClassInfo classInfo = session.metaData().classInfo(type.getName());
+		if (classInfo == null) {
+			throw new IllegalArgumentException(type + " is not a managed entity.");
+		}
+		return classInfo;
+	}
+
+	private static ClassInfo getNodeEntityClassInfo(Neo4jSession session, Class<?> type, Filters filters) {
+
+		ClassInfo classInfo = getClassInfo(session, type);
+		if (classInfo.isRelationshipEntity() || CompiledQueryCache.countFilters(filters) < 0) {
+			throw unsupportedFilters(type);
+		}
+		return classInfo;
+	}
+
+	private static InvalidDataAccessApiUsageException unsupportedFilters(Class<?> type) {
+		return new InvalidDataAccessApiUsageException("Derived finders on relationship entities or traversing "
+				+ "relationships are not supported reactively, use a custom query for " + type.getName());
+	}
+
+	private static Serializable toGraphId(ClassInfo classInfo, Object id) {
+
+		FieldInfo primaryIndexField = classInfo.hasPrimaryIndexField() ? classInfo.primaryIndexField() : null;
+		if (primaryIndexField == null) {
+			if (!(id instanceof Long)) {
+				throw new IllegalArgumentException(
+						"Supplied id must be of type Long (native graph id) when supplied class does not have primary id "
+								+ classInfo.name());
+			}
+			return (Long) id;
+		}
+		Object graphId = id;
+		if (primaryIndexField.hasPropertyConverter()) {
+			graphId = primaryIndexField.getPropertyConverter().toGraphProperty(id);
+		} else if (primaryIndexField.hasCompositeConverter()) {
+			graphId = primaryIndexField.getCompositeConverter().toGraphProperties(id);
+		}
+		return (Serializable) graphId;
+	}
+
+	@Nullable
+	private static <T> T lookup(MappingContext context, ClassInfo classInfo, Class<T> type, Object id) {
+
+		boolean isRelationshipEntity = classInfo.annotationsInfo().get(RelationshipEntity.class) != null;
+		Object entity;
+		if (classInfo.primaryIndexField() == null) {
+			entity = isRelationshipEntity ? context.getRelationshipEntity((Long) id) : context.getNodeEntity((Long) id);
+		} else {
+			entity = isRelationshipEntity ? context.getRelationshipEntityById(classInfo, id)
+					: context.getNodeEntityById(classInfo, id);
+		}
+		return type.isInstance(entity) ? type.cast(entity) : null;
+	}
+
+	private static boolean isOneOf(Neo4jSession session, Object entity, Collection<?> ids) {
+
+		ClassInfo classInfo = session.metaData().classInfo(entity);
+		if (classInfo.hasPrimaryIndexField() && ids.contains(classInfo.readPrimaryIndexValueOf(entity))) {
+			return true;
+		}
+		return ids.contains(EntityUtils.identity(entity, session.metaData()));
+	}
+
+	private <T> Flux<T> run(String cypher, Map<String, ?> parameters,
+			Function<Neo4jSession, Function<Record, Iterable<T>>> mapperFactory) {
+
+		return Flux.defer(() -> {
+			Neo4jSession session = (Neo4jSession) sessionFactory.openSession();
+			return run(session, cypher, parameters, mapperFactory.apply(session));
+		});
+	}
+
+	/**
+	 * Runs the statement in a transaction of its own and maps the records as they arrive. A managed transaction of the
+	 * driver would run the whole unit of work again on transient errors, emitting records twice. The statement is
+	 * therefore only retried on transient errors as long as no record has been emitted.
+	 */
+	private <T> Flux<T> run(Neo4jSession session, String cypher, Map<String, ?> parameters,
+			Function<Record, Iterable<T>> mapper) {
+
+		String statement = recordMapper.applyCypherModification(cypher);
+		Map<String, Object> convertedParameters = recordMapper.convertParameters(parameters);
+		return Flux.defer(() -> {
+			AtomicBoolean emitted = new AtomicBoolean();
+			return getDriver()
+					.flatMapMany(nativeDriver -> Flux.usingWhen(
+							Mono.fromSupplier(() -> nativeDriver.session(ReactiveSession.class, getSessionConfig())),
+							reactiveSession -> Flux.usingWhen(reactiveSession.beginTransaction(),
+									tx -> Flux.from(tx.run(statement, convertedParameters)).flatMap(ReactiveResult::records),
+									ReactiveTransaction::commit, (tx, e) -> tx.rollback(), ReactiveTransaction::rollback),
+							ReactiveSession::close))
+					.doOnNext(record -> emitted.set(true))
+					.retryWhen(Retry.backoff(MAX_RETRIES, FIRST_RETRY_DELAY)
+							.filter(e -> e instanceof RetryableException && !emitted.get())
+							.onRetryExhaustedThrow((retrySpec, retrySignal) -> retrySignal.failure()));
+		})
+				.concatMapIterable(mapper)
+				.onErrorMap(RuntimeException.class, this::translateException);
+	}
+
+	/**
+	 * The native driver is created lazily by Neo4j-OGM, if the Bolt driver has been configured with an URI. Beginning a
+	 * transaction through a session creates it, which must not happen on a non-blocking thread.
+	 */
+	private Mono<Driver> getDriver() {
+
+		Driver resolvedDriver = this.driver;
+		if (resolvedDriver != null) {
+			return Mono.just(resolvedDriver);
+		}
+		return Mono.fromSupplier(() -> {
+			Driver nativeDriver = unwrapDriver();
+			if (nativeDriver == null) {
+				sessionFactory.openSession().beginTransaction(Transaction.Type.READ_ONLY).close();
+				nativeDriver = Objects.requireNonNull(unwrapDriver(), "The native driver has not been created");
+			}
+			this.driver = nativeDriver;
+			return nativeDriver;
+		}).subscribeOn(Schedulers.boundedElastic());
+	}
+
+	@Nullable
+	private Driver unwrapDriver() {
+
+		try {
+			return sessionFactory.unwrap(Driver.class);
+		} catch (IllegalArgumentException e) {
+			throw new IllegalStateException("Reactive queries are only supported with the Bolt transport", e);
+		}
+	}
+
+	private SessionConfig getSessionConfig() {
+
+		SessionConfig.Builder builder = SessionConfig.builder().withDefaultAccessMode(AccessMode.READ);
+		Configuration configuration = ogmDriver.getConfiguration();
+		if (configuration == null) {
+			return builder.build();
+		}
+		if (configuration.getDatabase() != null) {
+			builder.withDatabase(configuration.getDatabase());
+		}
+		DatabaseSelectionProvider databaseSelectionProvider = configuration.getDatabaseSelectionProvider();
+		if (databaseSelectionProvider != null
+				&& databaseSelectionProvider != DatabaseSelectionProvider.getDefaultSelectionProvider()) {
+			builder.withDatabase(databaseSelectionProvider.getDatabaseSelection().getValue());
+		}
+		UserSelectionProvider userSelectionProvider = configuration.getUserSelectionProvider();
+		if (userSelectionProvider != null
+				&& userSelectionProvider != UserSelectionProvider.getDefaultSelectionProvider()) {
+			builder.withImpersonatedUser(userSelectionProvider.getUserSelection().getValue());
+		}
+		return builder.build();
+	}
+
+	private RuntimeException translateException(RuntimeException e) {
+		return recordMapper.translateException(e);
+	}
+
+	/**
+	 * Maps the entities of single records into the given context of one execution. The context is cleared before each
+	 * record, so that the heap doesn't grow with the number of records. Entities are therefore not shared between
+	 * records.
+	 */
+	private <T> Function<Record, Iterable<T>> entityMapper(Neo4jSession session, MappingContext context, Class<T> type,
+			boolean rowResult) {
+
+		Function<Record, Iterable<T>> mapper = recordMapper.entities(session.metaData(), context,
+				session.getEntityInstantiator(), type, rowResult);
+		return record -> {
+			context.clear();
+			return mapper.apply(record);
+		};
+	}
+}
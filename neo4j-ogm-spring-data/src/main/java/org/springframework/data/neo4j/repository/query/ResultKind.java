@@ -0,0 +1,69 @@
+/*
+ * Copyright 2011-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import java.util.Map;
+
+import org.springframework.data.neo4j.annotation.QueryResult;
+
+/**
+ * Describes how the rows of a string based query are turned into the type returned by a query method. The kind is
+ * resolved once per type, so that executions don't need to look at annotations again.
+ *
+ * @author Michael J. Simons
+ */
+enum ResultKind {
+
+	/**
+	 * Classes and interfaces annotated with {@link QueryResult}, the rows are returned as is and mapped later on.
+	 */
+	QUERY_RESULT,
+
+	/**
+	 * Maps, the rows are returned as is.
+	 */
+	MAP,
+
+	/**
+	 * Anything else, usually entities, which are mapped by Neo4j-OGM.
+	 */
+	OTHER;
+
+	private static final ClassValue<ResultKind> KINDS = new ClassValue<>() {
+		@Override
+		protected ResultKind computeValue(Class<?> type) {
+			if (type.getAnnotation(QueryResult.class) != null) {
+				return QUERY_RESULT;
+			}
+			return Map.class.isAssignableFrom(type) ? MAP : OTHER;
+		}
+	};
+
+	static ResultKind of(Class<?> type) {
+		return KINDS.get(type);
+	}
+
+	boolean isQueryResult() {
+		return this == QUERY_RESULT;
+	}
+
+	/**
+	 * @return {@literal true} if the rows are returned as is
+	 */
+	boolean returnsRows() {
+		return this != OTHER;
+	}
+}
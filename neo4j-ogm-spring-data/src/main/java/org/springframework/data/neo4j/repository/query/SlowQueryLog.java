@@ -0,0 +1,138 @@
+/*
+ * Copyright 2011-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.jspecify.annotations.Nullable;
+import org.neo4j.ogm.cypher.Filter;
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.MetaData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Logs repository queries that took longer than a threshold, together with their Cypher, the names and types of their
+ * parameters and the number of returned rows. Parameter values are never logged. The log is written with level
+ * {@literal WARN} to the category {@code org.springframework.data.neo4j.repository.query.SlowQueryLog}, so that it can
+ * be enabled independently of the debug logging of the rest of the module.
+ *
+ * @author Michael J. Simons
+ */
+final class SlowQueryLog {
+
+	private static final Logger LOG = LoggerFactory.getLogger(SlowQueryLog.class);
+
+	private final long thresholdNanos;
+
+	SlowQueryLog(Duration threshold) {
+
+		Assert.isTrue(!threshold.isNegative(), "Slow query threshold must not be negative!");
+		this.thresholdNanos = threshold.toNanos();
+	}
+
+	/**
+	 * @param queryMethod  The executed method
+	 * @param metaData     Used to render the match clause of derived finders
+	 * @param query        The executed query
+	 * @param elapsedNanos The duration of the execution
+	 * @param rows         The number of returned rows, {@literal null} if unknown
+	 */
+	void logIfSlow(GraphQueryMethod queryMethod, MetaData metaData, Query query, long elapsedNanos,
+			@Nullable Long rows) {
+
+		if (elapsedNanos < thresholdNanos || !LOG.isWarnEnabled()) {
+			return;
+		}
+
+		CompiledQueryCache.BoundStatement statement = query.isFilterQuery() ? query.getBoundStatement() : null;
+		String cypher;
+		Map<String, ?> parameters;
+		try {
+			if (statement != null) {
+				cypher = statement.getStatement();
+				parameters = statement.getParameters();
+			} else {
+				cypher = query.isFilterQuery() ? renderFilters(queryMethod, metaData, query) : query.getCypherQuery();
+				parameters = query.isFilterQuery() ? getParameters(query) : query.getParameters();
+			}
+		} catch (RuntimeException e) {
+			LOG.debug("Could not render slow query {}", query, e);
+			cypher = query.toString();
+			parameters = Map.of();
+		}
+		LOG.warn("Slow query: {}.{} took {} ms and returned {} rows\n\t{}\n\tParameters: {}",
+				queryMethod.getRepositoryInterface().getSimpleName(), queryMethod.getName(),
+				TimeUnit.NANOSECONDS.toMillis(elapsedNanos), rows == null ? "an unknown number of" : rows, cypher,
+				redact(parameters));
+	}
+
+	/**
+	 * Renders the match clause of a derived finder whose filters have been handed to Neo4j-OGM instead of being run with
+	 * a compiled statement. The statement actually executed by Neo4j-OGM contains the return clause for the requested
+	 * depth as well.
+	 */
+	private static String renderFilters(GraphQueryMethod queryMethod, MetaData metaData, Query query) {
+
+		for (Filter filter : query.getFilters()) {
+			if (filter.isNested() || filter.isDeepNested()) {
+				return query.getFilters().toString();
+			}
+		}
+
+		ClassInfo classInfo = metaData.classInfo(queryMethod.getEntityInformation().getJavaType().getName());
+		if (classInfo == null) {
+			return query.getFilters().toString();
+		}
+
+		String variable;
+		StringBuilder cypher = new StringBuilder();
+		if (classInfo.isRelationshipEntity()) {
+			variable = "r0";
+			cypher.append("MATCH (n)-[r0:`").append(classInfo.neo4jName()).append("`]->(m)");
+		} else {
+			variable = "n";
+			cypher.append("MATCH (n:`").append(classInfo.neo4jName()).append("`)");
+		}
+		boolean first = true;
+		for (Filter filter : query.getFilters()) {
+			cypher.append(' ').append(filter.toCypher(variable, first).trim());
+			first = false;
+		}
+		return cypher.toString();
+	}
+
+	private static Map<String, ?> getParameters(Query query) {
+
+		Map<String, Object> parameters = new TreeMap<>();
+		for (Filter filter : query.getFilters()) {
+			parameters.putAll(filter.parameters());
+		}
+		return parameters;
+	}
+
+	private static Map<String, String> redact(Map<String, ?> parameters) {
+
+		Map<String, String> redacted = new TreeMap<>();
+		parameters.forEach((name, value) -> redacted.put(name,
+				value == null ? "null" : "<" + value.getClass().getSimpleName() + ">"));
+		return redacted;
+	}
+}
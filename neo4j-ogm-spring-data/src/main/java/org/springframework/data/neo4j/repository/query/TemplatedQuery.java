@@ -40,6 +40,7 @@ import org.jspecify.annotations.Nullable;
 class TemplatedQuery {
 
 	private final List<FilterBuilder> filterBuilders;
+	private final CompiledQueryCache compiledQueries;
 
 	static TemplatedQuery unfiltered() {
 		return new TemplatedQuery(Collections.emptyList());
@@ -47,6 +48,8 @@ class TemplatedQuery {
 
 	TemplatedQuery(List<FilterBuilder> filterBuilders) {
 		this.filterBuilders = filterBuilders;
+		this.compiledQueries = new CompiledQueryCache(
+				filterBuilders.stream().allMatch(FilterBuilder::rendersSameCypherForAllValues));
 	}
 
 	Query createExecutableQuery(Map<Integer, Object> resolvedParameters, @Nullable Integer optionalLimit, @Nullable
@@ -68,6 +71,6 @@ class TemplatedQuery {
 			filters.addAll(filterBuilder.build(parametersStack));
 		}
 
-		return new Query(new Filters(filters), optionalLimit, optionalSort);
+		return new Query(new Filters(filters), optionalLimit, optionalSort, compiledQueries);
 	}
 }
@@ -39,6 +39,12 @@ class BetweenComparisonBuilder extends FilterBuilder {
 		super(part, booleanOperator, entityType);
 	}
 
+	@Override
+	public boolean rendersSameCypherForAllValues() {
+		// Comparison operators depend on the bounds of a range
+		return false;
+	}
+
 	@Override
 	public List<Filter> build(Stack<Object> params) {
 
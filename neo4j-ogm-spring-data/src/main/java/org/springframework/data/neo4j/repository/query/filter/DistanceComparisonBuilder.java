@@ -64,6 +64,12 @@ class DistanceComparisonBuilder extends FilterBuilder {
 		}
 	}
 
+	@Override
+	public boolean rendersSameCypherForAllValues() {
+		// The function depends on the type of the point
+		return false;
+	}
+
 	@Override
 	public List<Filter> build(Stack<Object> params) {
 
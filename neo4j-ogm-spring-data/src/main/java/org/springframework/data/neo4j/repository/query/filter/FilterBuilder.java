@@ -87,6 +87,14 @@ public abstract class FilterBuilder {
 
 	public abstract List<Filter> build(Stack<Object> params);
 
+	/**
+	 * @return {@literal true} if the Cypher rendered for the filters of this builder depends only on the part and not
+	 * on the values of the parameters, so that the statement of a derived finder can be compiled once
+	 */
+	public boolean rendersSameCypherForAllValues() {
+		return true;
+	}
+
 	boolean isNegated() {
 		return part.getType().name().startsWith("NOT");
 	}
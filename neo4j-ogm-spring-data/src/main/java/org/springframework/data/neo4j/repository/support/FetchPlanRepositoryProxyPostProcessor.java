@@ -0,0 +1,125 @@
+/*
+ * Copyright 2011-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.support;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.jspecify.annotations.Nullable;
+import org.neo4j.ogm.metadata.MetaData;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.neo4j.annotation.FetchPlan;
+import org.springframework.data.neo4j.repository.query.FetchPlanLoader;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.support.RepositoryProxyPostProcessor;
+
+/**
+ * Makes the {@link FetchPlan} of a redeclared {@code findById(ID)} or {@code findAllById(Iterable)} available to the
+ * {@link SimpleNeo4jRepository} while the method is invoked. The plan is only handed out to the repository it has been
+ * declared on, so that other repositories called on the same thread meanwhile, for example by an event listener, don't
+ * pick it up. Fetch plans of derived finders are handled by the query itself. The paths are resolved when the
+ * repository is created, so that invalid paths are reported early.
+ *
+ * @author Michael J. Simons
+ */
+final class FetchPlanRepositoryProxyPostProcessor implements RepositoryProxyPostProcessor {
+
+	private static final ThreadLocal<CurrentFetchPlan> currentFetchPlan = new ThreadLocal<>();
+
+	private final MetaData metaData;
+
+	FetchPlanRepositoryProxyPostProcessor(MetaData metaData) {
+		this.metaData = metaData;
+	}
+
+	/**
+	 * @param repository The repository asking for its fetch plan
+	 * @return The fetch plan of the method of the given repository invoked on the current thread, if any
+	 */
+	@Nullable
+	static FetchPlanLoader currentFetchPlan(Object repository) {
+
+		CurrentFetchPlan current = currentFetchPlan.get();
+		return current == null || current.repository != repository ? null : current.fetchPlan;
+	}
+
+	@Override
+	public void postProcess(ProxyFactory factory, RepositoryInformation repositoryInformation) {
+
+		Map<Method, FetchPlanLoader> fetchPlans = new HashMap<>();
+		for (Method method : repositoryInformation.getRepositoryInterface().getMethods()) {
+			FetchPlan fetchPlan = AnnotatedElementUtils.findMergedAnnotation(method, FetchPlan.class);
+			if (fetchPlan == null || !repositoryInformation.isBaseClassMethod(method)) {
+				continue;
+			}
+			if (method.getParameterCount() != 1
+					|| !("findById".equals(method.getName()) || "findAllById".equals(method.getName()))) {
+				throw new IllegalArgumentException("@FetchPlan is only supported on derived finders, findById(ID) and "
+						+ "findAllById(Iterable), not on " + method.getName());
+			}
+			fetchPlans.put(method, new FetchPlanLoader(metaData, repositoryInformation.getDomainType(), fetchPlan.paths()));
+		}
+
+		if (!fetchPlans.isEmpty()) {
+			factory.addAdvice(new FetchPlanInterceptor(fetchPlans));
+		}
+	}
+
+	private static final class FetchPlanInterceptor implements MethodInterceptor {
+
+		private final Map<Method, FetchPlanLoader> fetchPlans;
+
+		FetchPlanInterceptor(Map<Method, FetchPlanLoader> fetchPlans) {
+			this.fetchPlans = fetchPlans;
+		}
+
+		@Override
+		public @Nullable Object invoke(MethodInvocation invocation) throws Throwable {
+
+			FetchPlanLoader fetchPlan = fetchPlans.get(invocation.getMethod());
+			if (fetchPlan == null) {
+				return invocation.proceed();
+			}
+
+			CurrentFetchPlan previousFetchPlan = currentFetchPlan.get();
+			currentFetchPlan.set(new CurrentFetchPlan(invocation.getThis(), fetchPlan));
+			try {
+				return invocation.proceed();
+			} finally {
+				if (previousFetchPlan == null) {
+					currentFetchPlan.remove();
+				} else {
+					currentFetchPlan.set(previousFetchPlan);
+				}
+			}
+		}
+	}
+
+	private static final class CurrentFetchPlan {
+
+		private final @Nullable Object repository;
+		private final FetchPlanLoader fetchPlan;
+
+		private CurrentFetchPlan(@Nullable Object repository, FetchPlanLoader fetchPlan) {
+			this.repository = repository;
+			this.fetchPlan = fetchPlan;
+		}
+	}
+}
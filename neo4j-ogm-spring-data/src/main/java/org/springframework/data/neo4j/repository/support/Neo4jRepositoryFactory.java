@@ -15,15 +15,22 @@
  */
 package org.springframework.data.neo4j.repository.support;
 
+import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+
+import io.micrometer.observation.ObservationRegistry;
 
 import org.jspecify.annotations.Nullable;
+import org.neo4j.ogm.metadata.MetaData;
 import org.neo4j.ogm.session.Neo4jSession;
 import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.neo4j.mapping.MetaDataProvider;
 import org.springframework.data.neo4j.mapping.Neo4jMappingContext;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentEntity;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
@@ -51,10 +58,19 @@ public class Neo4jRepositoryFactory extends RepositoryFactorySupport {
 	private static final Logger logger = LoggerFactory.getLogger(Neo4jRepositoryFactory.class);
 
 	private final Session session;
+	private @Nullable SessionFactory sessionFactory;
 
 	@Nullable
 	private final MappingContext<Neo4jPersistentEntity<?>, Neo4jPersistentProperty> mappingContext;
 
+	private int deleteBatchSize = SimpleNeo4jRepository.DEFAULT_DELETE_BATCH_SIZE;
+	private int bulkSaveBatchSize;
+	private int findAllByIdChunkSize;
+	private @Nullable Executor findAllByIdExecutor;
+	private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+	private @Nullable Duration slowQueryThreshold;
+	private @Nullable Duration pageCountTtl;
+
 	public Neo4jRepositoryFactory(Session session, MappingContext<Neo4jPersistentEntity<?>, Neo4jPersistentProperty> mappingContext) {
 		Assert.notNull(session, "Session must not be null!");
 
@@ -69,6 +85,11 @@ public class Neo4jRepositoryFactory extends RepositoryFactorySupport {
 			logger.warn("No mapping context present, some operations won't support persistence constructors");
 			this.mappingContext = null;
 		}
+		MetaData metaData = session instanceof MetaDataProvider metaDataProvider ? metaDataProvider.getMetaData()
+				: session instanceof Neo4jSession neo4jSession ? neo4jSession.metaData() : null;
+		if (metaData != null) {
+			addRepositoryProxyPostProcessor(new FetchPlanRepositoryProxyPostProcessor(metaData));
+		}
 	}
 
 	/*
@@ -80,6 +101,106 @@ public class Neo4jRepositoryFactory extends RepositoryFactorySupport {
 		super.setBeanClassLoader(classLoader);
 	}
 
+	/**
+	 * Configures the session factory the session belongs to. Without it, query methods returning a
+	 * {@link java.util.stream.Stream} load all results upfront and pages of entities always need a separate count query.
+	 *
+	 * @param sessionFactory The session factory of the session, must use the same driver
+	 * @see GraphQueryLookupStrategy#setSessionFactory(SessionFactory)
+	 */
+	public void setSessionFactory(@Nullable SessionFactory sessionFactory) {
+		this.sessionFactory = sessionFactory;
+	}
+
+	/**
+	 * Configures the number of entities the created repositories delete with one statement.
+	 *
+	 * @param deleteBatchSize must be greater than zero
+	 * @see SimpleNeo4jRepository#setDeleteBatchSize(int)
+	 */
+	public void setDeleteBatchSize(int deleteBatchSize) {
+		Assert.isTrue(deleteBatchSize > 0, "Delete batch size must be greater than zero!");
+
+		this.deleteBatchSize = deleteBatchSize;
+	}
+
+	/**
+	 * Configures the number of new entities the created repositories save with one statement in
+	 * {@link SimpleNeo4jRepository#saveAll(Iterable)}.
+	 *
+	 * @param bulkSaveBatchSize must not be negative, {@literal 0} disables bulk saves
+	 * @see SimpleNeo4jRepository#setBulkSaveBatchSize(int)
+	 */
+	public void setBulkSaveBatchSize(int bulkSaveBatchSize) {
+		Assert.isTrue(bulkSaveBatchSize >= 0, "Bulk save batch size must not be negative!");
+
+		this.bulkSaveBatchSize = bulkSaveBatchSize;
+	}
+
+	/**
+	 * Configures the maximum number of ids the created repositories load with one statement in
+	 * {@link SimpleNeo4jRepository#findAllById(Iterable, int)}.
+	 *
+	 * @param findAllByIdChunkSize must not be negative, {@literal 0} disables chunking
+	 * @see SimpleNeo4jRepository#setFindAllByIdChunkSize(int)
+	 */
+	public void setFindAllByIdChunkSize(int findAllByIdChunkSize) {
+		Assert.isTrue(findAllByIdChunkSize >= 0, "Chunk size must not be negative!");
+
+		this.findAllByIdChunkSize = findAllByIdChunkSize;
+	}
+
+	/**
+	 * Configures the executor on which the created repositories load chunks of ids concurrently.
+	 *
+	 * @param findAllByIdExecutor the executor to use, {@literal null} loads the chunks one after another
+	 * @see SimpleNeo4jRepository#setFindAllByIdExecutor(Executor)
+	 */
+	public void setFindAllByIdExecutor(@Nullable Executor findAllByIdExecutor) {
+		this.findAllByIdExecutor = findAllByIdExecutor;
+	}
+
+	/**
+	 * Configures the registry in which the query methods of the created repositories are observed. Nothing is observed
+	 * by default.
+	 *
+	 * @param observationRegistry must not be {@literal null}
+	 * @see org.springframework.data.neo4j.observation.Neo4jObservation#REPOSITORY_QUERY
+	 */
+	public void setObservationRegistry(ObservationRegistry observationRegistry) {
+		Assert.notNull(observationRegistry, "ObservationRegistry must not be null!");
+
+		this.observationRegistry = observationRegistry;
+	}
+
+	/**
+	 * Configures the duration after which executions of query methods of the created repositories are logged with
+	 * level {@literal WARN} to the category {@code org.springframework.data.neo4j.repository.query.SlowQueryLog}.
+	 * Nothing is logged by default.
+	 *
+	 * @param slowQueryThreshold must not be negative, {@literal null} disables the slow query log
+	 */
+	public void setSlowQueryThreshold(@Nullable Duration slowQueryThreshold) {
+		Assert.isTrue(slowQueryThreshold == null || !slowQueryThreshold.isNegative(),
+				"Slow query threshold must not be negative!");
+
+		this.slowQueryThreshold = slowQueryThreshold;
+	}
+
+	/**
+	 * Configures how long the created repositories may reuse the total number of entities for
+	 * {@link SimpleNeo4jRepository#findAll(org.springframework.data.domain.Pageable) pages}. Only writes through the CRUD
+	 * methods of a repository drop its count before the time to live expires.
+	 *
+	 * @param pageCountTtl must not be negative, {@literal null} counts the entities for every page
+	 * @see SimpleNeo4jRepository#setPageCountTtl(Duration)
+	 */
+	public void setPageCountTtl(@Nullable Duration pageCountTtl) {
+		Assert.isTrue(pageCountTtl == null || !pageCountTtl.isNegative(), "Page count TTL must not be negative!");
+
+		this.pageCountTtl = pageCountTtl;
+	}
+
 	@Override
 	public EntityInformation<?, ?> getEntityInformation(RepositoryMetadata metadata) {
 
@@ -88,7 +209,15 @@ public class Neo4jRepositoryFactory extends RepositoryFactorySupport {
 
 	@Override
 	protected Object getTargetRepository(RepositoryInformation information) {
-		return getTargetRepositoryViaReflection(information, information.getDomainType(), session);
+		Object repository = getTargetRepositoryViaReflection(information, information.getDomainType(), session);
+		if (repository instanceof SimpleNeo4jRepository<?, ?> simpleNeo4jRepository) {
+			simpleNeo4jRepository.setDeleteBatchSize(deleteBatchSize);
+			simpleNeo4jRepository.setBulkSaveBatchSize(bulkSaveBatchSize);
+			simpleNeo4jRepository.setFindAllByIdChunkSize(findAllByIdChunkSize);
+			simpleNeo4jRepository.setFindAllByIdExecutor(findAllByIdExecutor);
+			simpleNeo4jRepository.setPageCountTtl(pageCountTtl);
+		}
+		return repository;
 	}
 
 	@Override
@@ -99,6 +228,10 @@ public class Neo4jRepositoryFactory extends RepositoryFactorySupport {
 	@Override
 	protected Optional<QueryLookupStrategy> getQueryLookupStrategy(QueryLookupStrategy.Key key,
 	                                                               ValueExpressionDelegate valueExpressionDelegate) {
-		return Optional.of(new GraphQueryLookupStrategy(session, valueExpressionDelegate.getEvaluationContextAccessor(), this.mappingContext));
+		GraphQueryLookupStrategy lookupStrategy = new GraphQueryLookupStrategy(session,
+				valueExpressionDelegate.getEvaluationContextAccessor(), this.mappingContext, this.observationRegistry);
+		lookupStrategy.setSlowQueryThreshold(this.slowQueryThreshold);
+		lookupStrategy.setSessionFactory(this.sessionFactory);
+		return Optional.of(lookupStrategy);
 	}
 }
@@ -16,8 +16,14 @@
 package org.springframework.data.neo4j.repository.support;
 
 import java.io.Serializable;
+import java.time.Duration;
+import java.util.concurrent.Executor;
 
+import io.micrometer.observation.ObservationRegistry;
+
+import org.jspecify.annotations.Nullable;
 import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.neo4j.mapping.Neo4jMappingContext;
@@ -40,7 +46,15 @@ public class Neo4jRepositoryFactoryBean<T extends Repository<S, ID>, S, ID exten
 		extends TransactionalRepositoryFactoryBeanSupport<T, S, ID> {
 
 	private Session session;
+	private @Nullable SessionFactory sessionFactory;
 	private Neo4jMappingContext mappingContext;
+	private int deleteBatchSize = SimpleNeo4jRepository.DEFAULT_DELETE_BATCH_SIZE;
+	private int bulkSaveBatchSize;
+	private int findAllByIdChunkSize;
+	private @Nullable Executor findAllByIdExecutor;
+	private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+	private @Nullable Duration slowQueryThreshold;
+	private @Nullable Duration pageCountTtl;
 
 	/**
 	 * Creates a new {@link Neo4jRepositoryFactoryBean} for the given repository interface.
@@ -56,6 +70,14 @@ public class Neo4jRepositoryFactoryBean<T extends Repository<S, ID>, S, ID exten
 		this.session = session;
 	}
 
+	/**
+	 * @param sessionFactory the session factory the session belongs to
+	 * @see Neo4jRepositoryFactory#setSessionFactory(SessionFactory)
+	 */
+	public void setSessionFactory(@Nullable SessionFactory sessionFactory) {
+		this.sessionFactory = sessionFactory;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport#setMappingContext(org.springframework.data.mapping.context.MappingContext)
@@ -69,6 +91,66 @@ public class Neo4jRepositoryFactoryBean<T extends Repository<S, ID>, S, ID exten
 		}
 	}
 
+	/**
+	 * @param deleteBatchSize the number of entities the repository deletes with one statement
+	 * @see SimpleNeo4jRepository#setDeleteBatchSize(int)
+	 */
+	public void setDeleteBatchSize(int deleteBatchSize) {
+		this.deleteBatchSize = deleteBatchSize;
+	}
+
+	/**
+	 * @param bulkSaveBatchSize the number of new entities the repository saves with one statement, {@literal 0}
+	 *          disables bulk saves
+	 * @see SimpleNeo4jRepository#setBulkSaveBatchSize(int)
+	 */
+	public void setBulkSaveBatchSize(int bulkSaveBatchSize) {
+		this.bulkSaveBatchSize = bulkSaveBatchSize;
+	}
+
+	/**
+	 * @param findAllByIdChunkSize the maximum number of ids the repository loads with one statement, {@literal 0}
+	 *          disables chunking
+	 * @see SimpleNeo4jRepository#setFindAllByIdChunkSize(int)
+	 */
+	public void setFindAllByIdChunkSize(int findAllByIdChunkSize) {
+		this.findAllByIdChunkSize = findAllByIdChunkSize;
+	}
+
+	/**
+	 * @param findAllByIdExecutor the executor on which the repository loads chunks of ids concurrently
+	 * @see SimpleNeo4jRepository#setFindAllByIdExecutor(Executor)
+	 */
+	public void setFindAllByIdExecutor(@Nullable Executor findAllByIdExecutor) {
+		this.findAllByIdExecutor = findAllByIdExecutor;
+	}
+
+	/**
+	 * @param observationRegistry the registry in which the query methods of the repository are observed
+	 * @see Neo4jRepositoryFactory#setObservationRegistry(ObservationRegistry)
+	 */
+	public void setObservationRegistry(ObservationRegistry observationRegistry) {
+		this.observationRegistry = observationRegistry;
+	}
+
+	/**
+	 * @param slowQueryThreshold the duration after which executions of query methods are logged, {@literal null}
+	 *          disables the slow query log
+	 * @see Neo4jRepositoryFactory#setSlowQueryThreshold(Duration)
+	 */
+	public void setSlowQueryThreshold(@Nullable Duration slowQueryThreshold) {
+		this.slowQueryThreshold = slowQueryThreshold;
+	}
+
+	/**
+	 * @param pageCountTtl how long the total number of entities is reused for pages, {@literal null} counts the
+	 *          entities for every page
+	 * @see SimpleNeo4jRepository#setPageCountTtl(Duration)
+	 */
+	public void setPageCountTtl(@Nullable Duration pageCountTtl) {
+		this.pageCountTtl = pageCountTtl;
+	}
+
 	@Override
 	public void afterPropertiesSet() {
 		Assert.notNull(session, "Session must not be null!");
@@ -81,7 +163,16 @@ public class Neo4jRepositoryFactoryBean<T extends Repository<S, ID>, S, ID exten
 	 */
 	@Override
 	protected RepositoryFactorySupport doCreateRepositoryFactory() {
-		return new Neo4jRepositoryFactory(session, mappingContext);
+		Neo4jRepositoryFactory factory = new Neo4jRepositoryFactory(session, mappingContext);
+		factory.setSessionFactory(sessionFactory);
+		factory.setDeleteBatchSize(deleteBatchSize);
+		factory.setBulkSaveBatchSize(bulkSaveBatchSize);
+		factory.setFindAllByIdChunkSize(findAllByIdChunkSize);
+		factory.setFindAllByIdExecutor(findAllByIdExecutor);
+		factory.setObservationRegistry(observationRegistry);
+		factory.setSlowQueryThreshold(slowQueryThreshold);
+		factory.setPageCountTtl(pageCountTtl);
+		return factory;
 	}
 
 }
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2011-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.support;
+
+import java.util.Optional;
+
+import org.jspecify.annotations.Nullable;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.neo4j.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
+import org.springframework.data.neo4j.repository.query.GraphQueryLookupStrategy;
+import org.springframework.data.neo4j.repository.query.ReactiveQueryRunner;
+import org.springframework.data.neo4j.transaction.SharedSessionCreator;
+import org.springframework.data.repository.core.EntityInformation;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.core.support.ReactiveRepositoryFactorySupport;
+import org.springframework.data.repository.query.QueryLookupStrategy;
+import org.springframework.data.repository.query.ValueExpressionDelegate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.Assert;
+
+/**
+ * Neo4j OGM specific repository factory creating {@link org.springframework.data.neo4j.repository.ReactiveNeo4jRepository
+ * reactive repositories}. Query methods returning {@link reactor.core.publisher.Flux} or
+ * {@link reactor.core.publisher.Mono} are run through a {@link ReactiveQueryRunner} on the given session factory.
+ *
+ * @author Michael J. Simons
+ */
+public class ReactiveNeo4jRepositoryFactory extends ReactiveRepositoryFactorySupport {
+
+	private final SessionFactory sessionFactory;
+	private final Session session;
+	private final ReactiveQueryRunner queryRunner;
+	private final MappingContext<Neo4jPersistentEntity<?>, Neo4jPersistentProperty> mappingContext;
+
+	private int deleteBatchSize = SimpleNeo4jRepository.DEFAULT_DELETE_BATCH_SIZE;
+
+	public ReactiveNeo4jRepositoryFactory(SessionFactory sessionFactory,
+			@Nullable MappingContext<Neo4jPersistentEntity<?>, Neo4jPersistentProperty> mappingContext) {
+		this(sessionFactory, SharedSessionCreator.createSharedSession(sessionFactory), mappingContext);
+	}
+
+	/**
+	 * @param sessionFactory the session factory the reactive reads are run against
+	 * @param session a session bound to the given session factory, used for writing
+	 * @param mappingContext an optional mapping context, a new one is created from the session factory if absent
+	 */
+	public ReactiveNeo4jRepositoryFactory(SessionFactory sessionFactory, Session session,
+			@Nullable MappingContext<Neo4jPersistentEntity<?>, Neo4jPersistentProperty> mappingContext) {
+		Assert.notNull(sessionFactory, "SessionFactory must not be null!");
+		Assert.notNull(session, "Session must not be null!");
+
+		this.sessionFactory = sessionFactory;
+		this.session = session;
+		this.queryRunner = new ReactiveQueryRunner(sessionFactory);
+		if (mappingContext != null) {
+			this.mappingContext = mappingContext;
+		} else {
+			Neo4jMappingContext newMappingContext = new Neo4jMappingContext(sessionFactory.metaData());
+			newMappingContext.initialize();
+			this.mappingContext = newMappingContext;
+		}
+	}
+
+	/**
+	 * Configures the transaction manager in whose transactions the created repositories write.
+	 *
+	 * @param transactionManager The transaction manager to use, defaults to a
+	 *          {@link org.springframework.data.neo4j.transaction.Neo4jTransactionManager} on the session factory
+	 * @see ReactiveQueryRunner#setTransactionManager(PlatformTransactionManager)
+	 */
+	public void setTransactionManager(@Nullable PlatformTransactionManager transactionManager) {
+		this.queryRunner.setTransactionManager(transactionManager);
+	}
+
+	/**
+	 * Configures the number of entities the created repositories delete with one statement.
+	 *
+	 * @param deleteBatchSize must be greater than zero
+	 * @see SimpleNeo4jRepository#setDeleteBatchSize(int)
+	 */
+	public void setDeleteBatchSize(int deleteBatchSize) {
+		Assert.isTrue(deleteBatchSize > 0, "Delete batch size must be greater than zero!");
+
+		this.deleteBatchSize = deleteBatchSize;
+	}
+
+	@Override
+	public EntityInformation<?, ?> getEntityInformation(RepositoryMetadata metadata) {
+		return new GraphEntityInformation<>(sessionFactory.metaData(), metadata.getDomainType());
+	}
+
+	@Override
+	protected Object getTargetRepository(RepositoryInformation information) {
+		Object repository = getTargetRepositoryViaReflection(information, information.getDomainType(), session,
+				queryRunner);
+		if (repository instanceof SimpleReactiveNeo4jRepository<?, ?> simpleReactiveNeo4jRepository) {
+			simpleReactiveNeo4jRepository.setDeleteBatchSize(deleteBatchSize);
+		}
+		return repository;
+	}
+
+	@Override
+	protected Class<?> getRepositoryBaseClass(RepositoryMetadata repositoryMetadata) {
+		return SimpleReactiveNeo4jRepository.class;
+	}
+
+	@Override
+	protected Optional<QueryLookupStrategy> getQueryLookupStrategy(QueryLookupStrategy.@Nullable Key key,
+			ValueExpressionDelegate valueExpressionDelegate) {
+		GraphQueryLookupStrategy lookupStrategy = new GraphQueryLookupStrategy(session,
+				valueExpressionDelegate.getEvaluationContextAccessor(), this.mappingContext);
+		lookupStrategy.setReactiveQueryRunner(queryRunner);
+		lookupStrategy.setSessionFactory(sessionFactory);
+		return Optional.of(lookupStrategy);
+	}
+}
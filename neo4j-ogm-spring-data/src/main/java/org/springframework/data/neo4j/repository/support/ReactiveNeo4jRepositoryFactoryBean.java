@@ -0,0 +1,127 @@
+/*
+ * Copyright 2011-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.support;
+
+import java.io.Serializable;
+
+import org.jspecify.annotations.Nullable;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.neo4j.mapping.Neo4jMappingContext;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.data.repository.core.support.RepositoryFactorySupport;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.Assert;
+
+/**
+ * Special adapter for Springs {@link org.springframework.beans.factory.FactoryBean} interface to allow easy setup of
+ * {@link org.springframework.data.neo4j.repository.ReactiveNeo4jRepository reactive repository} factories via Spring
+ * configuration.
+ *
+ * @param <T> the type of the repository
+ * @author Michael J. Simons
+ */
+public class ReactiveNeo4jRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extends Serializable>
+		extends RepositoryFactoryBeanSupport<T, S, ID> {
+
+	private SessionFactory sessionFactory;
+	private @Nullable Session session;
+	private @Nullable Neo4jMappingContext mappingContext;
+	private @Nullable String transactionManagerName;
+	private int deleteBatchSize = SimpleNeo4jRepository.DEFAULT_DELETE_BATCH_SIZE;
+	private @Nullable BeanFactory beanFactory;
+
+	/**
+	 * Creates a new {@link ReactiveNeo4jRepositoryFactoryBean} for the given repository interface.
+	 *
+	 * @param repositoryInterface must not be {@literal null}.
+	 */
+	public ReactiveNeo4jRepositoryFactoryBean(Class<? extends T> repositoryInterface) {
+		super(repositoryInterface);
+	}
+
+	public void setSessionFactory(SessionFactory sessionFactory) {
+		this.sessionFactory = sessionFactory;
+	}
+
+	/**
+	 * @param session the session the repository writes through, defaults to a shared session on the session factory
+	 */
+	public void setSession(@Nullable Session session) {
+		this.session = session;
+	}
+
+	@Override
+	public void setMappingContext(MappingContext<?, ?> mappingContext) {
+		super.setMappingContext(mappingContext);
+
+		if (mappingContext instanceof Neo4jMappingContext) {
+			this.mappingContext = (Neo4jMappingContext) mappingContext;
+		}
+	}
+
+	/**
+	 * @param transactionManager the name of the transaction manager in whose transactions the repository writes. A
+	 *          {@link org.springframework.data.neo4j.transaction.Neo4jTransactionManager} on the session factory is used
+	 *          if there is no such bean.
+	 */
+	public void setTransactionManager(@Nullable String transactionManager) {
+		this.transactionManagerName = transactionManager;
+	}
+
+	/**
+	 * @param deleteBatchSize the number of entities the repository deletes with one statement
+	 * @see SimpleNeo4jRepository#setDeleteBatchSize(int)
+	 */
+	public void setDeleteBatchSize(int deleteBatchSize) {
+		this.deleteBatchSize = deleteBatchSize;
+	}
+
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) {
+		super.setBeanFactory(beanFactory);
+		this.beanFactory = beanFactory;
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		Assert.notNull(sessionFactory, "SessionFactory must not be null!");
+		super.afterPropertiesSet();
+	}
+
+	@Override
+	protected RepositoryFactorySupport createRepositoryFactory() {
+		ReactiveNeo4jRepositoryFactory factory = session == null
+				? new ReactiveNeo4jRepositoryFactory(sessionFactory, mappingContext)
+				: new ReactiveNeo4jRepositoryFactory(sessionFactory, session, mappingContext);
+		factory.setTransactionManager(getTransactionManager());
+		factory.setDeleteBatchSize(deleteBatchSize);
+		return factory;
+	}
+
+	private @Nullable PlatformTransactionManager getTransactionManager() {
+
+		if (transactionManagerName == null || !(beanFactory instanceof ListableBeanFactory listableBeanFactory)
+				|| !listableBeanFactory.containsBean(transactionManagerName)) {
+			return null;
+		}
+		return listableBeanFactory.getBean(transactionManagerName, PlatformTransactionManager.class);
+	}
+}
@@ -16,21 +16,53 @@
 package org.springframework.data.neo4j.repository.support;
 
 import java.io.Serializable;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
+import org.jspecify.annotations.Nullable;
+import org.neo4j.ogm.context.MappingContext;
 import org.neo4j.ogm.cypher.query.Pagination;
+import org.neo4j.ogm.id.IdStrategy;
+import org.neo4j.ogm.id.InternalIdStrategy;
+import org.neo4j.ogm.id.UuidStrategy;
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.FieldInfo;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.session.Neo4jSession;
 import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.typeconversion.AttributeConverter;
+import org.neo4j.ogm.utils.EntityUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.neo4j.mapping.MetaDataProvider;
 import org.springframework.data.neo4j.repository.Neo4jRepository;
+import org.springframework.data.neo4j.repository.query.FetchPlanLoader;
+import org.springframework.data.neo4j.transaction.SessionProxy;
+import org.springframework.data.neo4j.transaction.WriteBehindQueue;
 import org.springframework.data.neo4j.util.PagingAndSortingUtils;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 
 /**
@@ -50,11 +82,41 @@ import org.springframework.util.Assert;
 @Transactional(readOnly = true)
 public class SimpleNeo4jRepository<T, ID extends Serializable> implements Neo4jRepository<T, ID> {
 
+	/**
+	 * The default number of ids deleted with one statement by {@link #deleteAllById(Iterable)} and
+	 * {@link #deleteAll(Iterable)}.
+	 */
+	public static final int DEFAULT_DELETE_BATCH_SIZE = 1000;
+
 	private static final int DEFAULT_QUERY_DEPTH = 1;
 	private static final String ID_MUST_NOT_BE_NULL = "The given id must not be null!";
 
+	// The hint keeps Neo4j-OGM from clearing the whole session, the deleted entities are detached one by one instead.
+	private static final String DELETE_BY_NATIVE_ID = "/*+ OGM READ_ONLY */ UNWIND $ids AS key "
+			+ "MATCH (n:`%s`) WHERE ID(n) = key DETACH DELETE n RETURN ID(n) AS id";
+	private static final String DELETE_BY_PRIMARY_INDEX = "/*+ OGM READ_ONLY */ UNWIND $ids AS key "
+			+ "MATCH (n:`%s`) WHERE n.`%s` = key DETACH DELETE n RETURN ID(n) AS id";
+
+	// One statement per batch of new nodes, the row number is used to write the ids back to the entities.
+	private static final String CREATE_NODES = "/*+ OGM READ_ONLY */ UNWIND $rows AS row "
+			+ "CREATE (n:%s) SET n += row.props RETURN row.ref AS ref, ID(n) AS id";
+	private static final String MERGE_NODES = "/*+ OGM READ_ONLY */ UNWIND $rows AS row "
+			+ "MERGE (n:%s {`%s`: row.key}) SET n += row.props RETURN row.ref AS ref, ID(n) AS id";
+
+	private static final String EXISTS_NODE = "MATCH (n:`%s`) WHERE %s = $id RETURN count(n) > 0";
+	private static final String EXISTS_RELATIONSHIP = "MATCH ()-[n:`%s`]->() WHERE %s = $id RETURN count(n) > 0";
+
 	private final Class<T> clazz;
 	private final Session session;
+	private int deleteBatchSize = DEFAULT_DELETE_BATCH_SIZE;
+	private int bulkSaveBatchSize;
+	private int findAllByIdChunkSize;
+	private @Nullable Executor findAllByIdExecutor;
+	private @Nullable Duration pageCountTtl;
+	private volatile @Nullable CachedCount cachedCount;
+	private final Object cachedCountKey = new Object();
+	private final Consumer<List<Object>> queuedDeletes = this::deleteEntities;
+	private @Nullable String existsByIdQuery;
 
 	/**
 	 * Creates a new {@link SimpleNeo4jRepository} to manage objects of the given domain type.
@@ -70,29 +132,160 @@ public class SimpleNeo4jRepository<T, ID extends Serializable> implements Neo4jR
 		this.session = session;
 	}
 
+	/**
+	 * Configures how many entities are deleted with one statement by {@link #deleteAllById(Iterable)} and
+	 * {@link #deleteAll(Iterable)}.
+	 *
+	 * @param deleteBatchSize must be greater than zero, defaults to {@link #DEFAULT_DELETE_BATCH_SIZE}
+	 */
+	public void setDeleteBatchSize(int deleteBatchSize) {
+		Assert.isTrue(deleteBatchSize > 0, "Delete batch size must be greater than zero!");
+
+		this.deleteBatchSize = deleteBatchSize;
+	}
+
+	/**
+	 * Enables the bulk save mode of {@link #saveAll(Iterable)}: New entities without relationships, labels fields,
+	 * composite properties and optimistic locking are not passed through the object graph mapping of Neo4j-OGM but are
+	 * written with one {@code UNWIND $rows CREATE ...} statement per batch, entities with an assigned or generated
+	 * {@link org.neo4j.ogm.annotation.Id @Id} with {@code UNWIND $rows MERGE ...}. The ids are written back to the
+	 * entities and the entities are registered with the session afterwards. All other entities are saved as usual.
+	 * <p>
+	 * Bulk saves are only done if no event listener is registered on the session. Write protection configured on the
+	 * session is not applied to entities saved in bulk.
+	 *
+	 * @param bulkSaveBatchSize the number of entities written with one statement, {@literal 0} (the default) disables
+	 *          bulk saves
+	 */
+	public void setBulkSaveBatchSize(int bulkSaveBatchSize) {
+		Assert.isTrue(bulkSaveBatchSize >= 0, "Bulk save batch size must not be negative!");
+
+		this.bulkSaveBatchSize = bulkSaveBatchSize;
+	}
+
+	/**
+	 * Enables the chunked mode of {@link #findAllById(Iterable, int)}: The distinct ids are split into chunks of the
+	 * given size and each chunk is loaded with a statement of its own, so that the size of the parameters stays bounded.
+	 * The entities are returned in the order of the requested ids.
+	 * <p>
+	 * The chunks are loaded concurrently if an {@link #setFindAllByIdExecutor(Executor) executor} is configured, the
+	 * repository uses a shared session and there is no transaction. Each chunk is loaded on the executor in a session of
+	 * its own, so related entities loaded by different chunks are different instances. Inside a transaction, the chunks
+	 * are always loaded one after another in the session of the transaction.
+	 *
+	 * @param findAllByIdChunkSize the maximum number of ids loaded with one statement, {@literal 0} (the default)
+	 *          disables chunking
+	 */
+	public void setFindAllByIdChunkSize(int findAllByIdChunkSize) {
+		Assert.isTrue(findAllByIdChunkSize >= 0, "Chunk size must not be negative!");
+
+		this.findAllByIdChunkSize = findAllByIdChunkSize;
+	}
+
+	/**
+	 * @param findAllByIdExecutor the executor on which chunks of ids are loaded concurrently, {@literal null} (the
+	 *          default) loads them one after another on the calling thread
+	 * @see #setFindAllByIdChunkSize(int)
+	 */
+	public void setFindAllByIdExecutor(@Nullable Executor findAllByIdExecutor) {
+		this.findAllByIdExecutor = findAllByIdExecutor;
+	}
+
+	/**
+	 * Enables caching of the total number of entities that {@link #findAll(Pageable)} needs for all pages but the last.
+	 * The count is computed at most once per time to live and dropped by every save and delete through the CRUD methods
+	 * of this repository, as well as after the transaction of such a write completed. All other writes, including derived
+	 * {@code deleteBy...} methods and writing {@link org.springframework.data.neo4j.annotation.Query @Query} methods of the
+	 * same repository, are only reflected after the time to live, so the total of a page may be off by that much.
+	 * {@link #count()} is always exact.
+	 *
+	 * @param pageCountTtl must not be negative, {@literal null} (the default) counts the entities for every page
+	 */
+	public void setPageCountTtl(@Nullable Duration pageCountTtl) {
+		Assert.isTrue(pageCountTtl == null || !pageCountTtl.isNegative(), "Page count TTL must not be negative!");
+
+		this.pageCountTtl = pageCountTtl;
+		this.cachedCount = null;
+	}
+
 	@Transactional
 	@Override
 	public <S extends T> S save(S entity) {
-		session.save(entity);
+		invalidateCachedCount();
+		WriteBehindQueue writeBehindQueue = getWriteBehindQueue();
+		if (writeBehindQueue != null && hasId(entity)) {
+			writeBehindQueue.save(entity);
+		} else {
+			session.save(entity);
+		}
 		return entity;
 	}
 
 	@Transactional
 	@Override
 	public <S extends T> Iterable<S> saveAll(Iterable<S> entities) {
-		session.save(entities);
+
+		invalidateCachedCount();
+		WriteBehindQueue writeBehindQueue = getWriteBehindQueue();
+		if (writeBehindQueue != null && hasIds(entities)) {
+			writeBehindQueue.save(entities);
+			return entities;
+		}
+
+		Session targetSession = bulkSaveBatchSize == 0 ? null
+				: session instanceof SessionProxy ? ((SessionProxy) session).getTargetSession() : session;
+		if (!(targetSession instanceof Neo4jSession neo4jSession) || neo4jSession.eventsEnabled()) {
+			session.save(entities);
+			return entities;
+		}
+
+		List<Object> remainingEntities = saveInBulk(neo4jSession, entities);
+		if (!remainingEntities.isEmpty()) {
+			session.save(remainingEntities);
+		}
 		return entities;
 	}
 
 	@Override
 	public Optional<T> findById(ID id) {
 		Assert.notNull(id, ID_MUST_NOT_BE_NULL);
+
+		FetchPlanLoader fetchPlan = FetchPlanRepositoryProxyPostProcessor.currentFetchPlan(this);
+		if (fetchPlan != null) {
+			return loadWithFetchPlan(fetchPlan, Collections.singletonList(id)).stream().findFirst();
+		}
 		return Optional.ofNullable(session.load(clazz, id));
 	}
 
 	@Override
 	public boolean existsById(ID id) {
-		return findById(id).isPresent();
+		Assert.notNull(id, ID_MUST_NOT_BE_NULL);
+
+		MetaData metaData = getMetaData();
+		ClassInfo classInfo = metaData == null ? null : metaData.classInfo(clazz.getName());
+		String labelOrType = metaData == null ? null : metaData.entityType(clazz.getName());
+		if (classInfo == null || labelOrType == null) {
+			return findById(id).isPresent();
+		}
+
+		FieldInfo primaryIndexField = classInfo.hasPrimaryIndexField() ? classInfo.primaryIndexField() : null;
+		if (primaryIndexField == null ? !(id instanceof Long) : primaryIndexField.hasCompositeConverter()) {
+			return findById(id).isPresent();
+		}
+
+		String query = existsByIdQuery;
+		if (query == null) {
+			String idExpression = primaryIndexField == null ? "ID(n)" : "n.`" + primaryIndexField.property() + "`";
+			query = String.format(classInfo.isRelationshipEntity() ? EXISTS_RELATIONSHIP : EXISTS_NODE, labelOrType,
+					idExpression);
+			existsByIdQuery = query;
+		}
+
+		Object graphId = id;
+		if (primaryIndexField != null && primaryIndexField.hasPropertyConverter()) {
+			graphId = primaryIndexField.getPropertyConverter().toGraphProperty(id);
+		}
+		return Boolean.TRUE.equals(session.queryForObject(Boolean.class, query, Collections.singletonMap("id", graphId)));
 	}
 
 	@Override
@@ -103,47 +296,84 @@ public class SimpleNeo4jRepository<T, ID extends Serializable> implements Neo4jR
 	@Transactional
 	@Override
 	public void deleteById(ID id) {
-		findById(id).ifPresent(session::delete);
+		invalidateCachedCount();
+		WriteBehindQueue writeBehindQueue = getWriteBehindQueue();
+		findById(id).ifPresent(writeBehindQueue == null ? session::delete
+				: entity -> writeBehindQueue.delete(entity, queuedDeletes));
 	}
 
 	@Transactional
 	@Override
 	public void deleteAllById(Iterable<? extends ID> ids) {
-		StreamSupport.stream(ids.spliterator(), false)
-				.forEachOrdered(this::deleteById);
+
+		invalidateCachedCount();
+		Neo4jSession targetSession = getSessionForDeletingInBatches();
+		if (targetSession == null) {
+			StreamSupport.stream(ids.spliterator(), false)
+					.forEachOrdered(this::deleteById);
+			return;
+		}
+
+		List<Object> allIds = new ArrayList<>();
+		ids.forEach(allIds::add);
+		deleteInBatches(targetSession, allIds);
 	}
 
 	@Transactional
 	@Override
 	public void delete(T t) {
-		session.delete(t);
+		invalidateCachedCount();
+		WriteBehindQueue writeBehindQueue = getWriteBehindQueue();
+		if (writeBehindQueue != null) {
+			writeBehindQueue.delete(t, queuedDeletes);
+		} else {
+			session.delete(t);
+		}
 	}
 
 	@Transactional
 	@Override
 	public void deleteAll(Iterable<? extends T> ts) {
-		for (T t : ts) {
-			session.delete(t);
+
+		invalidateCachedCount();
+		WriteBehindQueue writeBehindQueue = getWriteBehindQueue();
+		if (writeBehindQueue != null) {
+			writeBehindQueue.delete(ts, queuedDeletes);
+		} else {
+			deleteEntities(ts);
 		}
 	}
 
 	@Transactional
 	@Override
 	public void deleteAll() {
+		invalidateCachedCount();
 		session.deleteAll(clazz);
 	}
 
 	@Transactional
 	@Override
 	public <S extends T> S save(S s, int depth) {
-		session.save(s, depth);
+		invalidateCachedCount();
+		WriteBehindQueue writeBehindQueue = getWriteBehindQueue();
+		if (writeBehindQueue != null && hasId(s)) {
+			writeBehindQueue.save(s, depth);
+		} else {
+			session.save(s, depth);
+		}
 		return s;
 	}
 
 	@Transactional
 	@Override
 	public <S extends T> Iterable<S> save(Iterable<S> ses, int depth) {
-		session.save(ses, depth);
+		invalidateCachedCount();
+		WriteBehindQueue writeBehindQueue = getWriteBehindQueue();
+		if (writeBehindQueue != null && hasIds(ses)) {
+			writeBehindQueue.save(ses, depth);
+		} else {
+			session.save(ses, depth);
+		}
 		return ses;
 	}
 
@@ -166,12 +396,32 @@ public class SimpleNeo4jRepository<T, ID extends Serializable> implements Neo4jR
 
 	@Override
 	public Iterable<T> findAllById(Iterable<ID> longs) {
+
+		FetchPlanLoader fetchPlan = FetchPlanRepositoryProxyPostProcessor.currentFetchPlan(this);
+		if (fetchPlan != null) {
+			return loadAllById(longs, ids -> loadWithFetchPlan(fetchPlan, ids));
+		}
 		return findAllById(longs, DEFAULT_QUERY_DEPTH);
 	}
 
 	@Override
 	public Iterable<T> findAllById(Iterable<ID> ids, int depth) {
-		return session.loadAll(clazz, (Collection<ID>) ids, depth);
+		return loadAllById(ids, idsToLoad -> session.loadAll(clazz, idsToLoad, depth));
+	}
+
+	private Iterable<T> loadAllById(Iterable<ID> ids, Function<Collection<ID>, Collection<T>> loader) {
+
+		if (findAllByIdChunkSize == 0) {
+			return loader.apply((Collection<ID>) ids);
+		}
+
+		Set<ID> distinctIds = new LinkedHashSet<>();
+		ids.forEach(distinctIds::add);
+		List<ID> requestedIds = new ArrayList<>(distinctIds);
+		List<Collection<T>> loadedChunks = distinctIds.size() <= findAllByIdChunkSize
+				? List.of(loader.apply(distinctIds))
+				: loadInChunks(requestedIds, loader);
+		return inRequestedOrder(requestedIds, loadedChunks);
 	}
 
 	@Override
@@ -204,6 +454,369 @@ public class SimpleNeo4jRepository<T, ID extends Serializable> implements Neo4jR
 		Pagination pagination = new Pagination(pageable.getPageNumber(), pageable.getPageSize());
 		Collection<T> data = session.loadAll(clazz, PagingAndSortingUtils.convert(pageable.getSort()), pagination, depth);
 
-		return PageableExecutionUtils.getPage(new ArrayList<>(data), pageable, () -> session.countEntitiesOfType(clazz));
+		return PageableExecutionUtils.getPage(new ArrayList<>(data), pageable, this::countForPage);
+	}
+
+	private long countForPage() {
+
+		Duration ttl = pageCountTtl;
+		if (ttl == null) {
+			return session.countEntitiesOfType(clazz);
+		}
+
+		CachedCount currentCount = cachedCount;
+		long now = System.nanoTime();
+		if (currentCount != null && now - currentCount.expiresAt < 0) {
+			return currentCount.count;
+		}
+
+		long count = session.countEntitiesOfType(clazz);
+		cachedCount = new CachedCount(count, now + ttl.toNanos());
+		return count;
+	}
+
+	/**
+	 * Drops the cached count right away and once more after the current transaction completed, so that a count computed
+	 * while the write was not yet visible to other transactions is not kept.
+	 */
+	private void invalidateCachedCount() {
+
+		if (pageCountTtl == null) {
+			return;
+		}
+
+		cachedCount = null;
+		if (TransactionSynchronizationManager.isSynchronizationActive()
+				&& !TransactionSynchronizationManager.hasResource(cachedCountKey)) {
+			TransactionSynchronizationManager.bindResource(cachedCountKey, Boolean.TRUE);
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					TransactionSynchronizationManager.unbindResourceIfPossible(cachedCountKey);
+					cachedCount = null;
+				}
+			});
+		}
+	}
+
+	/**
+	 * Loads the relationships of the fetch plan only if the session bound to the current transaction can be used,
+	 * otherwise the entities are loaded with the depth of the longest path of the plan.
+	 */
+	private Collection<T> loadWithFetchPlan(FetchPlanLoader fetchPlan, Collection<ID> ids) {
+
+		Session targetSession = session instanceof SessionProxy ? ((SessionProxy) session).getTargetSession() : session;
+		List<T> entities = targetSession instanceof Neo4jSession neo4jSession
+				? fetchPlan.loadAllById(neo4jSession, clazz, ids)
+				: null;
+		return entities == null ? session.loadAll(clazz, ids, fetchPlan.getDepth()) : entities;
+	}
+
+	private List<Collection<T>> loadInChunks(List<ID> ids, Function<Collection<ID>, Collection<T>> loader) {
+
+		List<List<ID>> chunks = new ArrayList<>();
+		for (int start = 0; start < ids.size(); start += findAllByIdChunkSize) {
+			chunks.add(ids.subList(start, Math.min(start + findAllByIdChunkSize, ids.size())));
+		}
+
+		List<Collection<T>> loadedChunks = new ArrayList<>(chunks.size());
+		Executor executor = canLoadConcurrently() ? findAllByIdExecutor : null;
+		if (executor == null) {
+			chunks.forEach(chunk -> loadedChunks.add(loader.apply(chunk)));
+		} else {
+			List<CompletableFuture<Collection<T>>> futures = chunks.stream()
+					.map(chunk -> CompletableFuture.supplyAsync(() -> loader.apply(chunk), executor))
+					.toList();
+			try {
+				futures.forEach(future -> loadedChunks.add(future.join()));
+			} catch (CompletionException e) {
+				futures.forEach(future -> future.cancel(false));
+				if (e.getCause() instanceof RuntimeException cause) {
+					throw cause;
+				}
+				throw e;
+			}
+		}
+		return loadedChunks;
+	}
+
+	/**
+	 * Restores the order of the requested ids, entities that can't be matched to one of them are added at the end.
+	 */
+	private List<T> inRequestedOrder(List<ID> ids, List<Collection<T>> loadedChunks) {
+
+		MetaData metaData = getMetaData();
+		ClassInfo classInfo = metaData == null ? null : metaData.classInfo(clazz.getName());
+		Map<Object, T> entitiesById = new LinkedHashMap<>();
+		List<T> unidentifiedEntities = new ArrayList<>();
+		for (Collection<T> loadedChunk : loadedChunks) {
+			for (T entity : loadedChunk) {
+				Optional<Object> id = classInfo == null ? Optional.empty()
+						: classInfo.getPrimaryIndexOrIdReader().apply(entity);
+				id.ifPresentOrElse(value -> entitiesById.put(value, entity), () -> unidentifiedEntities.add(entity));
+			}
+		}
+
+		List<T> result = new ArrayList<>(entitiesById.size() + unidentifiedEntities.size());
+		for (ID id : ids) {
+			T entity = entitiesById.remove(id);
+			if (entity != null) {
+				result.add(entity);
+			}
+		}
+		result.addAll(entitiesById.values());
+		result.addAll(unidentifiedEntities);
+		return result;
+	}
+
+	/**
+	 * A shared session opens a new session for each call on a thread without transaction. Entities loaded that way are
+	 * different instances than the ones the session of a transaction of the caller holds, even in read-only
+	 * transactions.
+	 */
+	private boolean canLoadConcurrently() {
+		return session instanceof SessionProxy && !TransactionSynchronizationManager.isActualTransactionActive();
+	}
+
+	@Nullable
+	private MetaData getMetaData() {
+
+		if (session instanceof MetaDataProvider metaDataProvider) {
+			return metaDataProvider.getMetaData();
+		}
+		return session instanceof Neo4jSession neo4jSession ? neo4jSession.metaData() : null;
+	}
+
+	/**
+	 * Entities can be deleted in batches if they are plain nodes without optimistic locking and nobody listens to the
+	 * events of single entities.
+	 *
+	 * @return the session to delete with or {@literal null} if the entities must be deleted one by one
+	 */
+	@Nullable
+	private Neo4jSession getSessionForDeletingInBatches() {
+
+		Session targetSession = session instanceof SessionProxy ? ((SessionProxy) session).getTargetSession() : session;
+		if (!(targetSession instanceof Neo4jSession neo4jSession) || neo4jSession.eventsEnabled()) {
+			return null;
+		}
+
+		ClassInfo classInfo = neo4jSession.metaData().classInfo(clazz.getName());
+		if (classInfo == null || classInfo.isRelationshipEntity() || classInfo.hasVersionField()
+				|| (classInfo.hasPrimaryIndexField() && classInfo.primaryIndexField().hasCompositeConverter())
+				|| neo4jSession.determineLabelsOrTypeForLoading(clazz).isEmpty()) {
+			return null;
+		}
+		return neo4jSession;
+	}
+
+	/**
+	 * Writes all new entities that can be saved without the object graph mapping of Neo4j-OGM. Entities of the same
+	 * class share their labels and property keys and are therefore written with the same statement.
+	 *
+	 * @return the entities that must be saved through the session
+	 */
+	private List<Object> saveInBulk(Neo4jSession targetSession, Iterable<?> entities) {
+
+		MetaData metaData = targetSession.metaData();
+		MappingContext mappingContext = targetSession.context();
+		Map<ClassInfo, List<Object>> entitiesByClass = new LinkedHashMap<>();
+		Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+		List<Object> remainingEntities = new ArrayList<>();
+		for (Object entity : entities) {
+			if (!visited.add(entity)) {
+				continue;
+			}
+			ClassInfo classInfo = metaData.classInfo(entity);
+			if (classInfo == null || !canBeSavedInBulk(classInfo) || !isNew(mappingContext, classInfo, entity)) {
+				remainingEntities.add(entity);
+			} else {
+				entitiesByClass.computeIfAbsent(classInfo, k -> new ArrayList<>()).add(entity);
+			}
+		}
+
+		entitiesByClass.forEach((classInfo, entitiesOfClass) -> {
+			FieldInfo primaryIndexField = classInfo.hasPrimaryIndexField() ? classInfo.primaryIndexField() : null;
+			String labels = classInfo.staticLabels().stream().map(label -> "`" + label + "`")
+					.collect(Collectors.joining(":"));
+			String cypher = primaryIndexField == null ? String.format(CREATE_NODES, labels)
+					: String.format(MERGE_NODES, labels, primaryIndexField.property());
+
+			for (int start = 0; start < entitiesOfClass.size(); start += bulkSaveBatchSize) {
+				List<Object> batch = entitiesOfClass.subList(start,
+						Math.min(start + bulkSaveBatchSize, entitiesOfClass.size()));
+				List<Map<String, Object>> rows = new ArrayList<>(batch.size());
+				for (Object entity : batch) {
+					Map<String, Object> properties = new HashMap<>();
+					for (FieldInfo fieldInfo : classInfo.propertyFields()) {
+						if (!fieldInfo.isReadOnly()) {
+							properties.put(fieldInfo.propertyName(), fieldInfo.readProperty(entity));
+						}
+					}
+					Map<String, Object> row = new HashMap<>();
+					row.put("ref", rows.size());
+					row.put("props", properties);
+					if (primaryIndexField != null) {
+						row.put("key", primaryIndexField.readProperty(entity));
+					}
+					rows.add(row);
+				}
+
+				Map<String, Object> parameters = Collections.singletonMap("rows", rows);
+				for (Map<String, Object> result : targetSession.query(cypher, parameters).queryResults()) {
+					Object entity = batch.get(((Number) result.get("ref")).intValue());
+					Long id = ((Number) result.get("id")).longValue();
+					if (classInfo.hasIdentityField()) {
+						EntityUtils.setIdentity(entity, id, metaData);
+					}
+					mappingContext.addNodeEntity(entity, id);
+				}
+			}
+		});
+		return remainingEntities;
+	}
+
+	private static boolean canBeSavedInBulk(ClassInfo classInfo) {
+
+		if (classInfo.isRelationshipEntity() || !classInfo.relationshipFields().isEmpty() || classInfo.hasVersionField()
+				|| classInfo.labelFieldOrNull() != null || classInfo.staticLabels().isEmpty()) {
+			return false;
+		}
+		for (FieldInfo fieldInfo : classInfo.propertyFields()) {
+			if (fieldInfo.hasCompositeConverter()) {
+				return false;
+			}
+		}
+		return !classInfo.hasPrimaryIndexField() || classInfo.idStrategyClass() == null
+				|| InternalIdStrategy.class.equals(classInfo.idStrategyClass()) || classInfo.idStrategy() != null;
+	}
+
+	/**
+	 * Generates the {@link org.neo4j.ogm.annotation.Id @Id} of the entity if necessary, the same way Neo4j-OGM does.
+	 *
+	 * @return {@literal true} if the entity is not known to the session and has not been loaded from the database
+	 */
+	private static boolean isNew(MappingContext mappingContext, ClassInfo classInfo, Object entity) {
+
+		if (!classInfo.hasPrimaryIndexField()) {
+			return classInfo.hasIdentityField() && classInfo.identityField().readProperty(entity) == null;
+		}
+
+		FieldInfo primaryIndexField = classInfo.primaryIndexField();
+		generateIdIfNecessary(classInfo, primaryIndexField, entity);
+		return primaryIndexField.readProperty(entity) != null && mappingContext.optionalNativeId(entity).isEmpty();
+	}
+
+	/**
+	 * Assigns an id generated on the client to the {@link org.neo4j.ogm.annotation.Id @Id} of the entity if it has none
+	 * yet, the same way Neo4j-OGM does when saving the entity. Ids generated by the database are not assigned.
+	 */
+	private static void generateIdIfNecessary(ClassInfo classInfo, FieldInfo primaryIndexField, Object entity) {
+
+		IdStrategy idStrategy = classInfo.idStrategy();
+		if (primaryIndexField.readProperty(entity) != null || idStrategy == null
+				|| InternalIdStrategy.class.equals(classInfo.idStrategyClass())) {
+			return;
+		}
+		Object id = idStrategy.generateId(entity);
+		if (idStrategy instanceof UuidStrategy && primaryIndexField.isTypeOf(String.class)) {
+			id = id.toString();
+		}
+		primaryIndexField.writeDirect(entity, id);
+	}
+
+	/**
+	 * Deletes the given entities in batches if possible, otherwise one by one. Used for queued deletes as well.
+	 */
+	private void deleteEntities(Iterable<?> entities) {
+
+		Neo4jSession targetSession = getSessionForDeletingInBatches();
+		if (targetSession == null) {
+			for (Object entity : entities) {
+				session.delete(entity);
+			}
+			return;
+		}
+
+		ClassInfo classInfo = targetSession.metaData().classInfo(clazz.getName());
+		List<Object> allIds = new ArrayList<>();
+		for (Object entity : entities) {
+			classInfo.getPrimaryIndexOrIdReader().apply(entity).ifPresent(allIds::add);
+		}
+		deleteInBatches(targetSession, allIds);
+	}
+
+	/**
+	 * Only saves of entities that have an id are queued, as the caller expects new entities to have one when
+	 * {@code save} returns. New entities whose {@link org.neo4j.ogm.annotation.Id @Id} is generated on the client get it
+	 * assigned here, saving a new entity whose id is generated by the database runs all queued writes before it.
+	 *
+	 * @return {@literal true} if the id of the entity can be read without saving it
+	 */
+	private boolean hasId(Object entity) {
+
+		MetaData metaData = getMetaData();
+		ClassInfo classInfo = metaData == null ? null : metaData.classInfo(entity);
+		if (classInfo == null) {
+			return false;
+		}
+		if (classInfo.hasPrimaryIndexField()) {
+			generateIdIfNecessary(classInfo, classInfo.primaryIndexField(), entity);
+			return classInfo.readPrimaryIndexValueOf(entity) != null;
+		}
+		FieldInfo identityField = classInfo.identityFieldOrNull();
+		return identityField == null || identityField.readProperty(entity) != null;
+	}
+
+	private boolean hasIds(Iterable<?> entities) {
+
+		for (Object entity : entities) {
+			if (!hasId(entity)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return the queue of the current transaction if the transaction manager runs in write-behind mode
+	 */
+	@Nullable
+	private WriteBehindQueue getWriteBehindQueue() {
+		return session instanceof SessionProxy ? ((SessionProxy) session).getWriteBehindQueue() : null;
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private void deleteInBatches(Neo4jSession targetSession, List<Object> ids) {
+
+		ClassInfo classInfo = targetSession.metaData().classInfo(clazz.getName());
+		String label = targetSession.determineLabelsOrTypeForLoading(clazz).get();
+		FieldInfo primaryIndexField = classInfo.hasPrimaryIndexField() ? classInfo.primaryIndexField() : null;
+		String cypher = primaryIndexField == null ? String.format(DELETE_BY_NATIVE_ID, label)
+				: String.format(DELETE_BY_PRIMARY_INDEX, label, primaryIndexField.property());
+		AttributeConverter converter = primaryIndexField == null ? null : primaryIndexField.getPropertyConverter();
+
+		for (int start = 0; start < ids.size(); start += deleteBatchSize) {
+			List<Object> batch = new ArrayList<>(ids.subList(start, Math.min(start + deleteBatchSize, ids.size())));
+			if (converter != null) {
+				batch.replaceAll(converter::toGraphProperty);
+			}
+
+			Map<String, Object> parameters = Collections.singletonMap("ids", batch);
+			for (Map<String, Object> row : targetSession.query(cypher, parameters).queryResults()) {
+				targetSession.detachNodeEntity(((Number) row.get("id")).longValue());
+			}
+		}
+	}
+
+	private static final class CachedCount {
+
+		private final long count;
+		private final long expiresAt;
+
+		CachedCount(long count, long expiresAt) {
+			this.count = count;
+			this.expiresAt = expiresAt;
+		}
 	}
 }
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2011-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.support;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.session.Session;
+import org.reactivestreams.Publisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.neo4j.repository.ReactiveNeo4jRepository;
+import org.springframework.data.neo4j.repository.query.ReactiveQueryRunner;
+import org.springframework.util.Assert;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Default implementation of the {@link ReactiveNeo4jRepository} interface. Reads are run through a
+ * {@link ReactiveQueryRunner}. Writes are delegated to a {@link SimpleNeo4jRepository} and run as
+ * {@link ReactiveQueryRunner#write(Supplier) writes} of that runner, as Neo4j-OGM can only write through a blocking
+ * session.
+ *
+ * @param <T> the type of the entity to handle
+ * @author Michael J. Simons
+ */
+public class SimpleReactiveNeo4jRepository<T, ID extends Serializable> implements ReactiveNeo4jRepository<T, ID> {
+
+	private static final int DEFAULT_QUERY_DEPTH = 1;
+	private static final String ID_MUST_NOT_BE_NULL = "The given id must not be null!";
+
+	private final Class<T> clazz;
+	private final ReactiveQueryRunner queryRunner;
+	private final SimpleNeo4jRepository<T, ID> blockingRepository;
+
+	/**
+	 * Creates a new {@link SimpleReactiveNeo4jRepository} to manage objects of the given domain type.
+	 *
+	 * @param domainClass must not be {@literal null}.
+	 * @param session     must not be {@literal null}, used for writing.
+	 * @param queryRunner must not be {@literal null}, used for reading.
+	 */
+	public SimpleReactiveNeo4jRepository(Class<T> domainClass, Session session, ReactiveQueryRunner queryRunner) {
+		Assert.notNull(domainClass, "Domain class must not be null!");
+		Assert.notNull(session, "Session must not be null!");
+		Assert.notNull(queryRunner, "Query runner must not be null!");
+
+		this.clazz = domainClass;
+		this.queryRunner = queryRunner;
+		this.blockingRepository = new SimpleNeo4jRepository<>(domainClass, session);
+	}
+
+	/**
+	 * @param deleteBatchSize the number of entities deleted with one statement
+	 * @see SimpleNeo4jRepository#setDeleteBatchSize(int)
+	 */
+	public void setDeleteBatchSize(int deleteBatchSize) {
+		blockingRepository.setDeleteBatchSize(deleteBatchSize);
+	}
+
+	@Override
+	public <S extends T> Mono<S> save(S entity) {
+		return queryRunner.write(() -> blockingRepository.save(entity));
+	}
+
+	@Override
+	public <S extends T> Mono<S> save(S entity, int depth) {
+		return queryRunner.write(() -> blockingRepository.save(entity, depth));
+	}
+
+	@Override
+	public <S extends T> Flux<S> saveAll(Iterable<S> entities) {
+		return queryRunner.write(() -> blockingRepository.saveAll(entities)).flatMapIterable(savedEntities -> savedEntities);
+	}
+
+	@Override
+	public <S extends T> Flux<S> saveAll(Publisher<S> entityStream) {
+		return Flux.from(entityStream).concatMap(this::save);
+	}
+
+	@Override
+	public Mono<T> findById(ID id) {
+		return findById(id, DEFAULT_QUERY_DEPTH);
+	}
+
+	@Override
+	public Mono<T> findById(ID id, int depth) {
+		Assert.notNull(id, ID_MUST_NOT_BE_NULL);
+		return queryRunner.load(clazz, id, depth);
+	}
+
+	@Override
+	public Mono<T> findById(Publisher<ID> id) {
+		return Mono.from(id).flatMap(this::findById);
+	}
+
+	@Override
+	public Mono<Boolean> existsById(ID id) {
+		return findById(id, 0).hasElement();
+	}
+
+	@Override
+	public Mono<Boolean> existsById(Publisher<ID> id) {
+		return Mono.from(id).flatMap(this::existsById);
+	}
+
+	@Override
+	public Flux<T> findAll() {
+		return findAll(DEFAULT_QUERY_DEPTH);
+	}
+
+	@Override
+	public Flux<T> findAll(int depth) {
+		return findAll(Sort.unsorted(), depth);
+	}
+
+	@Override
+	public Flux<T> findAll(Sort sort) {
+		return findAll(sort, DEFAULT_QUERY_DEPTH);
+	}
+
+	@Override
+	public Flux<T> findAll(Sort sort, int depth) {
+		return queryRunner.loadAll(clazz, new Filters(), sort, null, depth);
+	}
+
+	@Override
+	public Flux<T> findAllById(Iterable<ID> ids) {
+		return findAllById(ids, DEFAULT_QUERY_DEPTH);
+	}
+
+	@Override
+	public Flux<T> findAllById(Iterable<ID> ids, int depth) {
+
+		List<ID> allIds = new ArrayList<>();
+		ids.forEach(allIds::add);
+		return queryRunner.loadAll(clazz, allIds, Sort.unsorted(), depth);
+	}
+
+	@Override
+	public Flux<T> findAllById(Publisher<ID> idStream) {
+		return Flux.from(idStream).collectList().flatMapMany(this::findAllById);
+	}
+
+	@Override
+	public Mono<Long> count() {
+		return queryRunner.count(clazz, new Filters());
+	}
+
+	@Override
+	public Mono<Void> deleteById(ID id) {
+		Assert.notNull(id, ID_MUST_NOT_BE_NULL);
+		return writeWithoutResult(() -> blockingRepository.deleteById(id));
+	}
+
+	@Override
+	public Mono<Void> deleteById(Publisher<ID> id) {
+		return Mono.from(id).flatMap(this::deleteById);
+	}
+
+	@Override
+	public Mono<Void> delete(T entity) {
+		return writeWithoutResult(() -> blockingRepository.delete(entity));
+	}
+
+	@Override
+	public Mono<Void> deleteAllById(Iterable<? extends ID> ids) {
+		return writeWithoutResult(() -> blockingRepository.deleteAllById(ids));
+	}
+
+	@Override
+	public Mono<Void> deleteAll(Iterable<? extends T> entities) {
+		return writeWithoutResult(() -> blockingRepository.deleteAll(entities));
+	}
+
+	@Override
+	public Mono<Void> deleteAll(Publisher<? extends T> entityStream) {
+		return Flux.from(entityStream).collectList().flatMap(this::deleteAll);
+	}
+
+	@Override
+	public Mono<Void> deleteAll() {
+		return writeWithoutResult(blockingRepository::deleteAll);
+	}
+
+	private Mono<Void> writeWithoutResult(Runnable runnable) {
+		return queryRunner.write(() -> {
+			runnable.run();
+			return null;
+		}).then();
+	}
+}
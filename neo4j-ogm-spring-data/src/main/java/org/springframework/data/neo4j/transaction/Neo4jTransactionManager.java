@@ -18,6 +18,9 @@ package org.springframework.data.neo4j.transaction;
 import static java.util.Collections.*;
 
 import java.util.Collection;
+import java.util.function.Supplier;
+
+import io.micrometer.observation.ObservationRegistry;
 
 import org.neo4j.ogm.session.Session;
 import org.neo4j.ogm.session.SessionFactory;
@@ -33,6 +36,10 @@ import org.springframework.dao.DataAccessException;
 import org.springframework.data.neo4j.bookmark.BookmarkInfo;
 import org.springframework.data.neo4j.bookmark.BookmarkManager;
 import org.springframework.data.neo4j.bookmark.BookmarkSupport;
+import org.springframework.data.neo4j.observation.DefaultTransactionObservationConvention;
+import org.springframework.data.neo4j.observation.Neo4jObservation;
+import org.springframework.data.neo4j.observation.TransactionObservationContext;
+import org.springframework.data.neo4j.observation.TransactionObservationContext.AccessMode;
 import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.transaction.IllegalTransactionStateException;
 import org.springframework.transaction.InvalidIsolationLevelException;
@@ -55,6 +62,14 @@ import org.springframework.transaction.support.TransactionSynchronizationManager
  * tested or considered at the moment.
  * <p>
  * This transaction manager does not support nested transactions or requires new propagation.
+ * <p>
+ * Read-only transactions are begun in read access mode, so that the Bolt driver routes them to followers or read
+ * replicas of a cluster. A pre-bound Session that already committed a write keeps using the leader for its read-only
+ * transactions, so that it sees its own writes.
+ * <p>
+ * In {@link #setWriteBehind(boolean) write-behind mode} the deletes of repositories and the saves of entities that
+ * already have an id are queued and flushed as batched statements when the transaction commits or when anything else is
+ * run on the session of the transaction.
  *
  * @author Mark Angrish
  * @see #setSessionFactory
@@ -66,6 +81,8 @@ public class Neo4jTransactionManager extends AbstractPlatformTransactionManager
 
 	private SessionFactory sessionFactory;
 	private BookmarkManager bookmarkManager;
+	private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+	private boolean writeBehind;
 
 	/**
 	 * Create a new Neo4jTransactionManager instance.
@@ -106,6 +123,30 @@ public class Neo4jTransactionManager extends AbstractPlatformTransactionManager
 		return this.sessionFactory;
 	}
 
+	/**
+	 * Set the registry in which begin, commit and rollback of transactions are observed. Nothing is observed by
+	 * default.
+	 *
+	 * @see Neo4jObservation#TRANSACTION
+	 */
+	public void setObservationRegistry(ObservationRegistry observationRegistry) {
+		this.observationRegistry = observationRegistry;
+	}
+
+	/**
+	 * Set whether the saves and deletes of repositories are queued in read-write transactions instead of being run right
+	 * away, similar to the automatic flush mode of JPA. Consecutive saves and deletes are then run as batched statements.
+	 * The queue is flushed before the transaction commits and before any other call through a shared session, including
+	 * reads and query methods. New entities with an {@link org.neo4j.ogm.annotation.Id @Id} generated on the client get
+	 * their id when queued, saves of other new entities are not queued but flush the queue, so that the entities have
+	 * their id when the save returns. Off by default.
+	 *
+	 * @see WriteBehindQueue
+	 */
+	public void setWriteBehind(boolean writeBehind) {
+		this.writeBehind = writeBehind;
+	}
+
 	/**
 	 * Retrieves a default SessionFactory bean.
 	 */
@@ -155,6 +196,15 @@ public class Neo4jTransactionManager extends AbstractPlatformTransactionManager
 
 	@Override
 	protected void doBegin(Object transaction, TransactionDefinition definition) throws TransactionException {
+		if (observationRegistry.isNoop()) {
+			begin(transaction, definition);
+		} else {
+			observe(TransactionObservationContext.Operation.BEGIN, definition.isReadOnly(), definition.getName(),
+					() -> begin(transaction, definition));
+		}
+	}
+
+	private Transaction.Type begin(Object transaction, TransactionDefinition definition) {
 		Neo4jTransactionObject txObject = (Neo4jTransactionObject) transaction;
 
 		try {
@@ -179,7 +229,7 @@ public class Neo4jTransactionManager extends AbstractPlatformTransactionManager
 			}
 
 			Transaction.Type type = getTransactionType(definition, txObject);
-			Transaction transactionData = session.beginTransaction(type, getBookmarks());
+			Transaction transactionData = session.beginTransaction(type, getBookmarks(txObject));
 
 			txObject.setTransactionData(transactionData);
 			if (logger.isDebugEnabled()) {
@@ -195,7 +245,12 @@ public class Neo4jTransactionManager extends AbstractPlatformTransactionManager
 				TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
 			}
 
+			if (writeBehind && !definition.isReadOnly()) {
+				txObject.getSessionHolder().setWriteBehindQueue(new WriteBehindQueue(session));
+			}
+
 			txObject.getSessionHolder().setSynchronizedWithTransaction(true);
+			return type;
 		} catch (TransactionException ex) {
 			closeSessionAfterFailedBegin(txObject);
 			throw ex;
@@ -205,9 +260,14 @@ public class Neo4jTransactionManager extends AbstractPlatformTransactionManager
 		}
 	}
 
+	/**
+	 * Read-only transactions are begun as {@link Transaction.Type#READ_ONLY}, which makes the Bolt driver open a session
+	 * in read access mode that is routed to followers or read replicas of a cluster. This includes transactions on a
+	 * pre-bound session, unless that session already committed a write.
+	 */
 	private Transaction.Type getTransactionType(TransactionDefinition definition, Neo4jTransactionObject txObject) {
 		Transaction.Type type;
-		if (definition.isReadOnly() && txObject.isNewSessionHolder()) {
+		if (definition.isReadOnly() && !txObject.getSessionHolder().isPinnedToLeader()) {
 			type = Transaction.Type.READ_ONLY;
 		} else if (txObject.transactionData != null) {
 			type = txObject.transactionData.type();
@@ -217,12 +277,20 @@ public class Neo4jTransactionManager extends AbstractPlatformTransactionManager
 		return type;
 	}
 
-	private Iterable<String> getBookmarks() {
+	/**
+	 * Returns the bookmarks the transaction has to wait for. Only these bookmarks are superseded by the bookmark of the
+	 * transaction on commit. A transaction not using bookmarks didn't wait for any, so its bookmark is stored in addition
+	 * to the current ones.
+	 */
+	private Iterable<String> getBookmarks(Neo4jTransactionObject txObject) {
 		BookmarkInfo bookmarkInfo = BookmarkSupport.currentBookmarkInfo();
 		if (bookmarkInfo != null && bookmarkInfo.shouldUseBookmark()) {
 			if (bookmarkManager != null) {
-				Collection<String> bookmarks = bookmarkManager.getBookmarks();
+				String key = bookmarkInfo.getKey();
+				Collection<String> bookmarks = key == null ? bookmarkManager.getBookmarks()
+						: bookmarkManager.getBookmarks(key);
 				bookmarkInfo.setBookmarks(bookmarks);
+				txObject.setPreviousBookmarks(bookmarks);
 				return bookmarks;
 
 			} else {
@@ -274,6 +342,15 @@ public class Neo4jTransactionManager extends AbstractPlatformTransactionManager
 
 	@Override
 	protected void doCommit(DefaultTransactionStatus status) {
+		if (observationRegistry.isNoop()) {
+			commit(status);
+		} else {
+			observe(TransactionObservationContext.Operation.COMMIT, status.isReadOnly(), status.getTransactionName(),
+					() -> commit(status));
+		}
+	}
+
+	private Transaction.Type commit(DefaultTransactionStatus status) {
 
 		Neo4jTransactionObject txObject = (Neo4jTransactionObject) status.getTransaction();
 		Session session = txObject.getSessionHolder().getSession();
@@ -284,23 +361,34 @@ public class Neo4jTransactionManager extends AbstractPlatformTransactionManager
 				logger.debug("Committing Neo4j OGM transaction [" + tx + "] on Session [" + session + "]");
 			}
 
-			if (tx != null) {
-				tx.commit();
+			if (tx == null) {
+				return null;
+			}
+
+			WriteBehindQueue writeBehindQueue = txObject.getSessionHolder().getWriteBehindQueue();
+			if (writeBehindQueue != null) {
+				writeBehindQueue.flush();
+			}
+
+			tx.commit();
+			if (tx.type() == Transaction.Type.READ_WRITE) {
+				txObject.getSessionHolder().setPinnedToLeader(true);
+			}
 
-				if (bookmarkManager != null) {
-					String lastBookmark = session.getLastBookmark();
+			if (bookmarkManager != null) {
+				String lastBookmark = session.getLastBookmark();
 
-					BookmarkInfo bookmarkInfo = BookmarkSupport.currentBookmarkInfo();
-					Collection<String> bookmarks;
-					if (bookmarkInfo != null && bookmarkInfo.getBookmarks() != null) {
-						bookmarks = bookmarkInfo.getBookmarks();
-					} else {
-						bookmarks = emptySet();
-					}
-					logger.debug("Found bookmarks {}, replacing with {}", bookmarks, lastBookmark);
+				BookmarkInfo bookmarkInfo = BookmarkSupport.currentBookmarkInfo();
+				Collection<String> bookmarks = txObject.getPreviousBookmarks();
+				String key = bookmarkInfo == null ? null : bookmarkInfo.getKey();
+				logger.debug("Found bookmarks {}, replacing with {}", bookmarks, lastBookmark);
+				if (key == null) {
 					bookmarkManager.storeBookmark(lastBookmark, bookmarks);
+				} else {
+					bookmarkManager.storeBookmark(key, lastBookmark, bookmarks);
 				}
 			}
+			return tx.type();
 		} catch (RuntimeException ex) {
 			DataAccessException dae = SessionFactoryUtils.convertOgmAccessException(ex);
 			throw (dae != null ? dae : ex);
@@ -309,18 +397,47 @@ public class Neo4jTransactionManager extends AbstractPlatformTransactionManager
 
 	@Override
 	protected void doRollback(DefaultTransactionStatus status) {
+		if (observationRegistry.isNoop()) {
+			rollback(status);
+		} else {
+			observe(TransactionObservationContext.Operation.ROLLBACK, status.isReadOnly(), status.getTransactionName(),
+					() -> rollback(status));
+		}
+	}
+
+	private void observe(TransactionObservationContext.Operation operation, boolean readOnly, String transactionName,
+			Supplier<Transaction.Type> action) {
+		TransactionObservationContext context = new TransactionObservationContext(operation, readOnly, transactionName);
+		Neo4jObservation.TRANSACTION.observation(null, DefaultTransactionObservationConvention.INSTANCE,
+				() -> context, observationRegistry)
+				.observe(() -> {
+					Transaction.Type type = action.get();
+					context.setAccessMode(type == null ? null
+							: type == Transaction.Type.READ_ONLY ? AccessMode.READ : AccessMode.WRITE);
+				});
+	}
+
+	private Transaction.Type rollback(DefaultTransactionStatus status) {
 		Neo4jTransactionObject txObject = (Neo4jTransactionObject) status.getTransaction();
 		Session session = txObject.getSessionHolder().getSession();
 
+		WriteBehindQueue writeBehindQueue = txObject.getSessionHolder().getWriteBehindQueue();
+		if (writeBehindQueue != null) {
+			writeBehindQueue.clear();
+		}
+
 		try (Transaction tx = session.getTransaction()) {
 
 			if (status.isDebug()) {
 				logger.debug("Rolling back Neo4j transaction [" + tx + "] on Session [" + session + "]");
 			}
 
-			if (tx != null) {
-				tx.rollback();
+			if (tx == null) {
+				return null;
 			}
+
+			tx.rollback();
+			return tx.type();
 		} catch (RuntimeException ex) {
 			DataAccessException dae = SessionFactoryUtils.convertOgmAccessException(ex);
 			throw (dae != null ? dae : ex);
@@ -381,6 +498,8 @@ public class Neo4jTransactionManager extends AbstractPlatformTransactionManager
 
 		private Transaction transactionData;
 
+		private Collection<String> previousBookmarks = emptySet();
+
 		void setSessionHolder(SessionHolder sessionHolder, boolean newSessionHolder) {
 			this.sessionHolder = sessionHolder;
 			this.newSessionHolder = newSessionHolder;
@@ -406,6 +525,14 @@ public class Neo4jTransactionManager extends AbstractPlatformTransactionManager
 		Transaction getTransactionData() {
 			return this.transactionData;
 		}
+
+		void setPreviousBookmarks(Collection<String> previousBookmarks) {
+			this.previousBookmarks = previousBookmarks;
+		}
+
+		Collection<String> getPreviousBookmarks() {
+			return this.previousBookmarks;
+		}
 	}
 
 	/**
@@ -15,6 +15,7 @@
  */
 package org.springframework.data.neo4j.transaction;
 
+import org.jspecify.annotations.Nullable;
 import org.neo4j.ogm.session.Session;
 import org.springframework.transaction.support.ResourceHolderSupport;
 import org.springframework.util.Assert;
@@ -35,6 +36,11 @@ public class SessionHolder extends ResourceHolderSupport {
 
 	private boolean transactionActive;
 
+	private boolean pinnedToLeader;
+
+	@Nullable
+	private WriteBehindQueue writeBehindQueue;
+
 	public SessionHolder(Session session) {
 		Assert.notNull(session, "Session must not be null");
 		this.session = session;
@@ -52,9 +58,35 @@ public class SessionHolder extends ResourceHolderSupport {
 		return this.transactionActive;
 	}
 
+	/**
+	 * Marks the session as having committed a write. Read-only transactions of such a session are not routed to
+	 * followers or read replicas anymore, so that they see their own writes. The mark survives {@link #clear()}, as it
+	 * is only relevant for sessions spanning several transactions, for example through open session in view.
+	 */
+	void setPinnedToLeader(boolean pinnedToLeader) {
+		this.pinnedToLeader = pinnedToLeader;
+	}
+
+	boolean isPinnedToLeader() {
+		return this.pinnedToLeader;
+	}
+
+	/**
+	 * Sets the queue of the repository writes of the current transaction. The queue is discarded by {@link #clear()}.
+	 */
+	void setWriteBehindQueue(@Nullable WriteBehindQueue writeBehindQueue) {
+		this.writeBehindQueue = writeBehindQueue;
+	}
+
+	@Nullable
+	WriteBehindQueue getWriteBehindQueue() {
+		return this.writeBehindQueue;
+	}
+
 	@Override
 	public void clear() {
 		super.clear();
 		this.transactionActive = false;
+		this.writeBehindQueue = null;
 	}
 }
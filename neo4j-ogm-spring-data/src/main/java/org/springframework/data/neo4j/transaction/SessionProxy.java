@@ -0,0 +1,50 @@
+/*
+ * Copyright 2011-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.transaction;
+
+import org.jspecify.annotations.Nullable;
+import org.neo4j.ogm.session.Session;
+
+/**
+ * Subinterface of {@link Session} to be implemented by Session proxies. Allows access to the underlying target Session,
+ * for example to keep a result cursor open for the lifetime of a Spring managed transaction.
+ *
+ * @author Michael J. Simons
+ * @see SharedSessionCreator
+ */
+public interface SessionProxy extends Session {
+
+	/**
+	 * Return the underlying Session that this proxy will delegate to. In case of a shared Session, this will be the
+	 * Session bound to the current transaction, if any.
+	 *
+	 * @return the underlying raw Session or {@literal null} if there is no Session bound to the current transaction
+	 */
+	@Nullable
+	Session getTargetSession();
+
+	/**
+	 * Return the queue of the repository writes of the current transaction. Writes are only queued when the transaction
+	 * manager runs in {@link Neo4jTransactionManager#setWriteBehind(boolean) write-behind mode}. Any other call through
+	 * the proxy, including {@link #getTargetSession()}, flushes the queue first.
+	 *
+	 * @return the queue of the current transaction or {@literal null} if writes are not to be queued
+	 */
+	@Nullable
+	default WriteBehindQueue getWriteBehindQueue() {
+		return null;
+	}
+}
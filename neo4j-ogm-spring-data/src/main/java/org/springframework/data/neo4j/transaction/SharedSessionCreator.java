@@ -28,6 +28,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
 
+import org.jspecify.annotations.Nullable;
 import org.neo4j.ogm.session.Session;
 import org.neo4j.ogm.session.SessionFactory;
 import org.slf4j.Logger;
@@ -41,7 +42,8 @@ import org.springframework.util.ReflectionUtils;
  * <p>
  * A shared Session will behave just like a Session fetched from an application SessionFactory. It will delegate all
  * calls to the current transactional Session, if any; otherwise it will fall back to a newly created Session per
- * operation.
+ * operation. Repository writes queued in a {@link WriteBehindQueue} are flushed before any call that reaches the
+ * target Session.
  *
  * @author Mark Angrish
  * @author Michael J. Simons
@@ -70,7 +72,7 @@ public class SharedSessionCreator {
 	 */
 	public static Session createSharedSession(SessionFactory sessionFactory) {
 		return (Session) Proxy.newProxyInstance(SharedSessionCreator.class.getClassLoader(),
-				new Class<?>[] { Session.class, MetaDataProvider.class }, new SharedSessionInvocationHandler(sessionFactory));
+				new Class<?>[] { SessionProxy.class, MetaDataProvider.class }, new SharedSessionInvocationHandler(sessionFactory));
 	}
 
 	/**
@@ -106,11 +108,19 @@ public class SharedSessionCreator {
 					return "Shared Session proxy for target factory [" + sessionFactory + "]";
 				case "getMetaData":
 					return this.sessionFactory.metaData();
+				case "getWriteBehindQueue":
+					return getWriteBehindQueue();
+				case "getTargetSession":
+					// Callers run their own statements on the target Session, so they must see the queued writes.
+					flushWriteBehindQueue();
+					// Only hand out the transactional Session, never a temporary one that nobody would close.
+					return SessionFactoryUtils.getSession(this.sessionFactory);
 				case "beginTransaction":
 					throw new IllegalStateException(
 							"Not allowed to create transaction on shared Session - "
 									+ "use Spring transactions instead");
 				default:
+					flushWriteBehindQueue();
 					Function<Session, Object> methodCall;
 					if (isGenericQueryMethod(method)) {
 						Object[] newArgs = new Object[args.length + 1];
@@ -124,6 +134,19 @@ public class SharedSessionCreator {
 			}
 		}
 
+		@Nullable
+		private WriteBehindQueue getWriteBehindQueue() {
+			SessionHolder sessionHolder = (SessionHolder) TransactionSynchronizationManager.getResource(this.sessionFactory);
+			return sessionHolder == null ? null : sessionHolder.getWriteBehindQueue();
+		}
+
+		private void flushWriteBehindQueue() {
+			WriteBehindQueue writeBehindQueue = getWriteBehindQueue();
+			if (writeBehindQueue != null) {
+				writeBehindQueue.flush();
+			}
+		}
+
 		private static boolean isGenericQueryMethod(Method method) {
 
 			Parameter[] parameters = method.getParameters();
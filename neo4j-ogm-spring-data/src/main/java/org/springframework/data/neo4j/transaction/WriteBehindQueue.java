@@ -0,0 +1,172 @@
+/*
+ * Copyright 2011-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.transaction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.jspecify.annotations.Nullable;
+import org.neo4j.ogm.session.Session;
+import org.springframework.util.Assert;
+
+/**
+ * Queue of the repository writes of a single transaction, created by a {@link Neo4jTransactionManager} running in
+ * {@link Neo4jTransactionManager#setWriteBehind(boolean) write-behind mode}. Consecutive saves with the same depth are
+ * flushed as one save of all entities, which Neo4j-OGM turns into batched statements. Consecutive deletes are handed
+ * as a whole to the deleter they were queued with. The order of saves and deletes is kept.
+ * <p>
+ * The queue is flushed before the transaction commits and before any other call through a
+ * {@link SharedSessionCreator shared session}, so that reads see the queued writes. Repositories only queue saves of
+ * entities that already have an id or whose id is generated on the client, Neo4j-OGM assigns the internal ids of
+ * related new entities when the queue is flushed.
+ * <p>
+ * Note: This is an SPI class, not intended to be used by applications.
+ *
+ * @author Michael J. Simons
+ * @see SessionProxy#getWriteBehindQueue()
+ */
+public final class WriteBehindQueue {
+
+	private static final int DEFAULT_DEPTH = -1;
+
+	private final Session session;
+
+	private final Consumer<List<Object>> sessionDeleter;
+
+	private final List<Operation> operations = new ArrayList<>();
+
+	WriteBehindQueue(Session session) {
+		Assert.notNull(session, "Session must not be null");
+		this.session = session;
+		this.sessionDeleter = session::delete;
+	}
+
+	/**
+	 * Queues saving the given entity or collection of entities with the default depth of Neo4j-OGM.
+	 *
+	 * @param entity the entity or entities to save
+	 */
+	public void save(Object entity) {
+		save(entity, DEFAULT_DEPTH);
+	}
+
+	/**
+	 * Queues saving the given entity or collection of entities.
+	 *
+	 * @param entity the entity or entities to save
+	 * @param depth the depth to save with
+	 */
+	public void save(Object entity, int depth) {
+		Assert.notNull(entity, "Entity must not be null");
+		add(entity, null, depth);
+	}
+
+	/**
+	 * Queues deleting the given entity or collection of entities through the session.
+	 *
+	 * @param entity the entity or entities to delete
+	 */
+	public void delete(Object entity) {
+		delete(entity, sessionDeleter);
+	}
+
+	/**
+	 * Queues deleting the given entity or collection of entities through the given deleter. Consecutive deletes queued
+	 * with the same deleter are passed to it at once, so that it can delete them in batches.
+	 *
+	 * @param entity the entity or entities to delete
+	 * @param deleter the deleter to flush the deletes with
+	 */
+	public void delete(Object entity, Consumer<List<Object>> deleter) {
+		Assert.notNull(entity, "Entity must not be null");
+		Assert.notNull(deleter, "Deleter must not be null");
+		add(entity, deleter, DEFAULT_DEPTH);
+	}
+
+	public boolean isEmpty() {
+		return operations.isEmpty();
+	}
+
+	/**
+	 * Runs all queued writes on the session of the transaction. The queue is empty afterwards, even if a write fails, as
+	 * the transaction is rolled back in that case anyway.
+	 */
+	public void flush() {
+
+		if (operations.isEmpty()) {
+			return;
+		}
+
+		List<Operation> pendingOperations = new ArrayList<>(operations);
+		operations.clear();
+
+		Operation batch = null;
+		for (Operation operation : pendingOperations) {
+			if (batch != null && batch.deleter == operation.deleter && batch.depth == operation.depth) {
+				batch.entities.addAll(operation.entities);
+			} else {
+				run(batch);
+				batch = operation;
+			}
+		}
+		run(batch);
+	}
+
+	/**
+	 * Discards all queued writes.
+	 */
+	void clear() {
+		operations.clear();
+	}
+
+	private void add(Object entity, @Nullable Consumer<List<Object>> deleter, int depth) {
+
+		Operation operation = new Operation(deleter, depth);
+		if (entity instanceof Iterable<?> entities) {
+			entities.forEach(operation.entities::add);
+		} else {
+			operation.entities.add(entity);
+		}
+		operations.add(operation);
+	}
+
+	private void run(@Nullable Operation batch) {
+
+		if (batch == null || batch.entities.isEmpty()) {
+			return;
+		}
+
+		if (batch.deleter != null) {
+			batch.deleter.accept(batch.entities);
+		} else {
+			session.save(batch.entities, batch.depth);
+		}
+	}
+
+	private static final class Operation {
+
+		@Nullable
+		private final Consumer<List<Object>> deleter;
+		private final int depth;
+		private final List<Object> entities = new ArrayList<>();
+
+		private Operation(@Nullable Consumer<List<Object>> deleter, int depth) {
+			this.deleter = deleter;
+			this.depth = depth;
+		}
+	}
+}
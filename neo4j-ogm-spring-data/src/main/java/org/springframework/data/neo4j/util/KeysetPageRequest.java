@@ -0,0 +1,204 @@
+/*
+ * Copyright 2011-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.util;
+
+import java.util.Objects;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link Pageable} that pages through results by keyset (also known as seek method) instead of skipping over an
+ * offset. Repository methods returning {@link org.springframework.data.domain.Page} or
+ * {@link org.springframework.data.domain.Slice} will turn the sort keys of the last element of the previous page into
+ * a predicate, so that loading a page deep into a result costs about the same as loading the first one.
+ * <p>
+ * Start with {@link #of(int, Sort)} and move on with {@code page.nextPageable()} or {@code page.previousPageable()}.
+ * The positions of the neighbouring pages are only known after a page has been loaded. The sort order must be unique,
+ * for derived finders a sort on the {@link org.neo4j.ogm.annotation.Id @Id} property is added if not present.
+ * Properties used in the sort order must not be {@literal null}.
+ *
+ * @author Michael J. Simons
+ */
+public final class KeysetPageRequest implements Pageable {
+
+	private final int pageNumber;
+	private final int pageSize;
+	private final Sort sort;
+	private final KeysetScrollPosition position;
+	private final @Nullable KeysetScrollPosition previousPosition;
+	private final @Nullable KeysetScrollPosition nextPosition;
+
+	private KeysetPageRequest(int pageNumber, int pageSize, Sort sort, KeysetScrollPosition position,
+			@Nullable KeysetScrollPosition previousPosition, @Nullable KeysetScrollPosition nextPosition) {
+
+		Assert.isTrue(pageNumber >= 0, "Page index must not be less than zero.");
+		Assert.isTrue(pageSize >= 1, "Page size must not be less than one.");
+		Assert.notNull(sort, "Sort must not be null.");
+		Assert.notNull(position, "Position must not be null.");
+		this.pageNumber = pageNumber;
+		this.pageSize = pageSize;
+		this.sort = sort;
+		this.position = position;
+		this.previousPosition = previousPosition;
+		this.nextPosition = nextPosition;
+	}
+
+	/**
+	 * Creates a request for the first page.
+	 *
+	 * @param pageSize the size of the page to be returned, must be greater than 0.
+	 * @param sort     the sort order, must not be {@literal null}.
+	 * @return a new request for the first page
+	 */
+	public static KeysetPageRequest of(int pageSize, Sort sort) {
+		return new KeysetPageRequest(0, pageSize, sort, ScrollPosition.keyset(), null, null);
+	}
+
+	/**
+	 * Creates a request for a page starting at a given position, for example restored from a token handed out to a
+	 * client.
+	 *
+	 * @param pageNumber zero-based page number, only used for the page meta data
+	 * @param pageSize   the size of the page to be returned, must be greater than 0.
+	 * @param sort       the sort order, must not be {@literal null}.
+	 * @param position   the keys of the element right before (or after, when scrolling backward) the requested page
+	 * @return a new request
+	 */
+	public static KeysetPageRequest of(int pageNumber, int pageSize, Sort sort, KeysetScrollPosition position) {
+		return new KeysetPageRequest(pageNumber, pageSize, sort, position, null, null);
+	}
+
+	/**
+	 * @return the position this page starts at
+	 */
+	public KeysetScrollPosition getPosition() {
+		return position;
+	}
+
+	/**
+	 * Returns a copy of this request that knows the positions of the neighbouring pages. This is called by the
+	 * repository infrastructure once a page has been loaded.
+	 *
+	 * @param previousPosition position of the page before this one
+	 * @param nextPosition     position of the page after this one
+	 * @return a new request
+	 */
+	public KeysetPageRequest withNeighbours(KeysetScrollPosition previousPosition, KeysetScrollPosition nextPosition) {
+		return new KeysetPageRequest(getPageNumber(), getPageSize(), sort, position, previousPosition, nextPosition);
+	}
+
+	@Override
+	public int getPageNumber() {
+		return pageNumber;
+	}
+
+	@Override
+	public int getPageSize() {
+		return pageSize;
+	}
+
+	/**
+	 * @return the logical offset of this page, only used for the page meta data and never sent to the database
+	 */
+	@Override
+	public long getOffset() {
+		return (long) pageNumber * (long) pageSize;
+	}
+
+	@Override
+	public Sort getSort() {
+		return sort;
+	}
+
+	@Override
+	public KeysetPageRequest next() {
+
+		Assert.state(nextPosition != null, "The position of the next page is not known before this page has been loaded.");
+		return new KeysetPageRequest(getPageNumber() + 1, getPageSize(), sort, nextPosition, null, null);
+	}
+
+	/**
+	 * @return a request for the previous page
+	 */
+	public KeysetPageRequest previous() {
+
+		if (getPageNumber() <= 1) {
+			return first();
+		}
+		Assert.state(previousPosition != null,
+				"The position of the previous page is not known before this page has been loaded.");
+		return new KeysetPageRequest(getPageNumber() - 1, getPageSize(), sort, previousPosition, null, null);
+	}
+
+	@Override
+	public KeysetPageRequest previousOrFirst() {
+		return hasPrevious() ? previous() : first();
+	}
+
+	@Override
+	public KeysetPageRequest first() {
+		return of(getPageSize(), sort);
+	}
+
+	@Override
+	public KeysetPageRequest withPage(int pageNumber) {
+
+		if (pageNumber == 0) {
+			return first();
+		} else if (pageNumber == getPageNumber()) {
+			return this;
+		} else if (pageNumber == getPageNumber() + 1) {
+			return next();
+		} else if (pageNumber == getPageNumber() - 1) {
+			return previous();
+		}
+		throw new UnsupportedOperationException(
+				"Keyset based pagination can only move to the first page or to neighbouring pages.");
+	}
+
+	@Override
+	public boolean hasPrevious() {
+		return pageNumber > 0;
+	}
+
+	@Override
+	public boolean equals(@Nullable Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof KeysetPageRequest that)) {
+			return false;
+		}
+		return pageNumber == that.pageNumber && pageSize == that.pageSize && sort.equals(that.sort)
+				&& position.equals(that.position);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(pageNumber, pageSize, sort, position);
+	}
+
+	@Override
+	public String toString() {
+		return "KeysetPageRequest{" + "page=" + pageNumber + ", size=" + pageSize + ", sort=" + sort
+				+ ", position=" + position + '}';
+	}
+}
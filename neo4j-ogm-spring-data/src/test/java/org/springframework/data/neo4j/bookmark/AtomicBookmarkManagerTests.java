@@ -0,0 +1,160 @@
+/*
+ * Copyright 2011-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.bookmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Michael J. Simons
+ */
+public class AtomicBookmarkManagerTests {
+
+	@Test
+	public void shouldStartWithoutBookmarks() {
+
+		assertThat(new AtomicBookmarkManager().getBookmarks()).isEmpty();
+	}
+
+	@Test
+	public void shouldReplaceSupersededBookmarks() {
+
+		BookmarkManager bookmarkManager = new AtomicBookmarkManager();
+
+		bookmarkManager.storeBookmark("bm1", bookmarkManager.getBookmarks());
+		assertThat(bookmarkManager.getBookmarks()).containsExactly("bm1");
+
+		bookmarkManager.storeBookmark("bm2", bookmarkManager.getBookmarks());
+		assertThat(bookmarkManager.getBookmarks()).containsExactly("bm2");
+	}
+
+	@Test
+	public void shouldKeepBookmarksOfConcurrentTransactions() {
+
+		BookmarkManager bookmarkManager = new AtomicBookmarkManager();
+		bookmarkManager.storeBookmark("bm1", Collections.emptySet());
+
+		Collection<String> first = bookmarkManager.getBookmarks();
+		Collection<String> second = bookmarkManager.getBookmarks();
+
+		bookmarkManager.storeBookmark("bm2", first);
+		bookmarkManager.storeBookmark("bm3", second);
+		assertThat(bookmarkManager.getBookmarks()).containsExactlyInAnyOrder("bm2", "bm3");
+
+		bookmarkManager.storeBookmark("bm4", bookmarkManager.getBookmarks());
+		assertThat(bookmarkManager.getBookmarks()).containsExactly("bm4");
+	}
+
+	@Test
+	public void shouldOnlyReplaceBookmarksKnownToTheTransaction() {
+
+		BookmarkManager bookmarkManager = new AtomicBookmarkManager();
+		bookmarkManager.storeBookmark("bm1", Collections.emptySet());
+		bookmarkManager.storeBookmark("bm2", Collections.emptySet());
+
+		bookmarkManager.storeBookmark("bm3", Collections.singleton("bm1"));
+		assertThat(bookmarkManager.getBookmarks()).containsExactlyInAnyOrder("bm2", "bm3");
+	}
+
+	@Test
+	public void shouldNotEvictBookmarksWithoutPreviousBookmarks() {
+
+		BookmarkManager bookmarkManager = new AtomicBookmarkManager();
+		bookmarkManager.storeBookmark("bm1", bookmarkManager.getBookmarks());
+
+		// A transaction that didn't wait for bm1 is not causally after it
+		bookmarkManager.storeBookmark("bm2", Collections.emptySet());
+		assertThat(bookmarkManager.getBookmarks()).containsExactlyInAnyOrder("bm1", "bm2");
+
+		bookmarkManager.storeBookmark("bm3", bookmarkManager.getBookmarks());
+		assertThat(bookmarkManager.getBookmarks()).containsExactly("bm3");
+	}
+
+	@Test
+	public void shouldKeepBookmarksOfConcurrentFirstTransactions() {
+
+		BookmarkManager bookmarkManager = new AtomicBookmarkManager();
+		Collection<String> first = bookmarkManager.getBookmarks();
+		Collection<String> second = bookmarkManager.getBookmarks();
+
+		bookmarkManager.storeBookmark("bm1", first);
+		bookmarkManager.storeBookmark("bm2", second);
+		assertThat(bookmarkManager.getBookmarks()).containsExactlyInAnyOrder("bm1", "bm2");
+	}
+
+	@Test
+	public void shouldDropTheOldestBookmarksBeyondTheMaximum() {
+
+		BookmarkManager bookmarkManager = new AtomicBookmarkManager(3);
+		for (int i = 0; i < 1_000; ++i) {
+			bookmarkManager.storeBookmark("bm" + i, Collections.emptySet());
+		}
+
+		assertThat(bookmarkManager.getBookmarks()).containsExactly("bm997", "bm998", "bm999");
+	}
+
+	@Test
+	public void shouldIgnoreMissingBookmarks() {
+
+		BookmarkManager bookmarkManager = new AtomicBookmarkManager();
+		bookmarkManager.storeBookmark("bm1", Collections.emptySet());
+
+		bookmarkManager.storeBookmark(null, bookmarkManager.getBookmarks());
+		assertThat(bookmarkManager.getBookmarks()).containsExactly("bm1");
+	}
+
+	@Test
+	public void shouldNotCopyBookmarks() {
+
+		BookmarkManager bookmarkManager = new AtomicBookmarkManager();
+		bookmarkManager.storeBookmark("bm1", Collections.emptySet());
+
+		assertThat(bookmarkManager.getBookmarks()).isSameAs(bookmarkManager.getBookmarks());
+	}
+
+	@Test
+	public void shouldNotGrowUnderConcurrentTransactions() throws InterruptedException {
+
+		BookmarkManager bookmarkManager = new AtomicBookmarkManager();
+		int numberOfThreads = 8;
+		ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads);
+		CountDownLatch start = new CountDownLatch(1);
+		for (int i = 0; i < numberOfThreads; ++i) {
+			int thread = i;
+			executor.submit(() -> {
+				start.await();
+				for (int j = 0; j < 1_000; ++j) {
+					Collection<String> previous = bookmarkManager.getBookmarks();
+					bookmarkManager.storeBookmark("bm" + thread + "-" + j, previous);
+				}
+				return null;
+			});
+		}
+		start.countDown();
+		executor.shutdown();
+		assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+		assertThat(bookmarkManager.getBookmarks()).hasSizeBetween(1, numberOfThreads);
+	}
+}
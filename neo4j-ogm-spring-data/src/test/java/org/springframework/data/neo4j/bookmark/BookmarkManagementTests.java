@@ -47,6 +47,8 @@ public class BookmarkManagementTests {
 
 	@Autowired private UseBookmarkWrapperOnMethodBean useBookmarkWrapperOnMethodBean;
 
+	@Autowired private UseKeyedBookmarkBean useKeyedBookmarkBean;
+
 	// Bookmark on method
 	@Test
 	public void givenUseBookmarkOnMethod_whenRun_thenShouldUseBookmarkIsSet() {
@@ -143,6 +145,45 @@ public class BookmarkManagementTests {
 		});
 	}
 
+	// Keyed bookmarks
+	@Test
+	public void givenUseBookmarkWithoutKey_whenRun_thenNoKeyIsSet() {
+		useBookmarkOnMethodBean.runWithBookmark(() -> {
+			BookmarkInfo bookmarkInfo = BookmarkSupport.currentBookmarkInfo();
+			assertThat(bookmarkInfo.getKey()).isNull();
+		});
+	}
+
+	@Test
+	public void givenUseBookmarkWithKey_whenRun_thenKeyIsEvaluatedAgainstArguments() {
+		useKeyedBookmarkBean.runWithTenant("tenant1", () -> {
+			BookmarkInfo bookmarkInfo = BookmarkSupport.currentBookmarkInfo();
+			assertThat(bookmarkInfo.shouldUseBookmark()).isTrue();
+			assertThat(bookmarkInfo.getKey()).isEqualTo("tenant1");
+		});
+		useKeyedBookmarkBean.runWithTenant("tenant2", () -> {
+			BookmarkInfo bookmarkInfo = BookmarkSupport.currentBookmarkInfo();
+			assertThat(bookmarkInfo.getKey()).isEqualTo("tenant2");
+		});
+	}
+
+	@Test
+	public void givenUseBookmarkWithKey_whenKeyIsNull_thenNoKeyIsSet() {
+		useKeyedBookmarkBean.runWithTenant(null, () -> {
+			BookmarkInfo bookmarkInfo = BookmarkSupport.currentBookmarkInfo();
+			assertThat(bookmarkInfo.shouldUseBookmark()).isTrue();
+			assertThat(bookmarkInfo.getKey()).isNull();
+		});
+	}
+
+	@Test
+	public void givenUseBookmarkWithKeyOnClass_whenRun_thenKeyCanReferenceBeans() {
+		useKeyedBookmarkBean.runWithDefaultTenant(() -> {
+			BookmarkInfo bookmarkInfo = BookmarkSupport.currentBookmarkInfo();
+			assertThat(bookmarkInfo.getKey()).isEqualTo("defaultTenant");
+		});
+	}
+
 	@Configuration
 	@EnableBookmarkManagement
 	@EnableTransactionManagement
@@ -177,6 +218,16 @@ public class BookmarkManagementTests {
 		public UseBookmarkWrapperOnMethodBean useBookmarkWrapperOnMethodBean() {
 			return new UseBookmarkWrapperOnMethodBean();
 		}
+
+		@Bean
+		public UseKeyedBookmarkBean useKeyedBookmarkBean() {
+			return new UseKeyedBookmarkBean();
+		}
+
+		@Bean
+		public TenantContext tenantContext() {
+			return new TenantContext();
+		}
 	}
 
 	static class UseBookmarkOnMethodBean {
@@ -236,4 +287,23 @@ public class BookmarkManagementTests {
 		}
 	}
 
+	@UseBookmark(key = "@tenantContext.currentTenant")
+	static class UseKeyedBookmarkBean {
+
+		@UseBookmark(key = "#tenant")
+		public void runWithTenant(String tenant, Runnable runnable) {
+			runnable.run();
+		}
+
+		public void runWithDefaultTenant(Runnable runnable) {
+			runnable.run();
+		}
+	}
+
+	static class TenantContext {
+
+		public String getCurrentTenant() {
+			return "defaultTenant";
+		}
+	}
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2011-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.bookmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Michael J. Simons
+ */
+public class BookmarkTaskDecoratorTests {
+
+	private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+	@AfterEach
+	void shutdownExecutor() {
+		executor.shutdownNow();
+		BookmarkSupport.bookmarkInfoHolder.remove();
+	}
+
+	@Test
+	public void shouldPropagateBookmarkInfo() throws ExecutionException, InterruptedException {
+
+		BookmarkInfo bookmarkInfo = new BookmarkInfo(true, "tenant1");
+		bookmarkInfo.setBookmarks(Collections.singleton("bm1"));
+		BookmarkSupport.bookmarkInfoHolder.set(bookmarkInfo);
+
+		AtomicReference<BookmarkInfo> propagatedBookmarkInfo = new AtomicReference<>();
+		Runnable task = new BookmarkTaskDecorator()
+				.decorate(() -> propagatedBookmarkInfo.set(BookmarkSupport.currentBookmarkInfo()));
+		BookmarkSupport.bookmarkInfoHolder.remove();
+
+		executor.submit(task).get();
+
+		assertThat(propagatedBookmarkInfo.get()).isNotNull().isNotSameAs(bookmarkInfo);
+		assertThat(propagatedBookmarkInfo.get().shouldUseBookmark()).isTrue();
+		assertThat(propagatedBookmarkInfo.get().getKey()).isEqualTo("tenant1");
+		assertThat(propagatedBookmarkInfo.get().getBookmarks()).isNull();
+
+		Future<BookmarkInfo> afterTask = executor.submit(BookmarkSupport::currentBookmarkInfo);
+		assertThat(afterTask.get()).isNull();
+	}
+
+	@Test
+	public void shouldNotDecorateWithoutBookmarkInfo() {
+
+		Runnable task = () -> {};
+		assertThat(new BookmarkTaskDecorator().decorate(task)).isSameAs(task);
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2011-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.bookmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Michael J. Simons
+ */
+public class KeyedBookmarkManagerTests {
+
+	@Test
+	public void shouldKeepBookmarksOfKeysApart() {
+
+		BookmarkManager bookmarkManager = new KeyedBookmarkManager();
+
+		bookmarkManager.storeBookmark("tenant1", "bm1", bookmarkManager.getBookmarks("tenant1"));
+		bookmarkManager.storeBookmark("tenant2", "bm2", bookmarkManager.getBookmarks("tenant2"));
+
+		assertThat(bookmarkManager.getBookmarks("tenant1")).containsExactly("bm1");
+		assertThat(bookmarkManager.getBookmarks("tenant2")).containsExactly("bm2");
+		assertThat(bookmarkManager.getBookmarks()).isEmpty();
+
+		bookmarkManager.storeBookmark("tenant1", "bm3", bookmarkManager.getBookmarks("tenant1"));
+		assertThat(bookmarkManager.getBookmarks("tenant1")).containsExactly("bm3");
+		assertThat(bookmarkManager.getBookmarks("tenant2")).containsExactly("bm2");
+	}
+
+	@Test
+	public void shouldKeepUnkeyedBookmarksApart() {
+
+		BookmarkManager bookmarkManager = new KeyedBookmarkManager();
+
+		bookmarkManager.storeBookmark("bm1", bookmarkManager.getBookmarks());
+		bookmarkManager.storeBookmark("tenant1", "bm2", Collections.emptySet());
+
+		assertThat(bookmarkManager.getBookmarks()).containsExactly("bm1");
+		assertThat(bookmarkManager.getBookmarks("tenant1")).containsExactly("bm2");
+	}
+
+	@Test
+	public void shouldNotCreateScopesWithoutBookmarks() {
+
+		AtomicInteger createdScopes = new AtomicInteger();
+		BookmarkManager bookmarkManager = new KeyedBookmarkManager(() -> {
+			createdScopes.incrementAndGet();
+			return new AtomicBookmarkManager();
+		});
+		assertThat(createdScopes).hasValue(1);
+
+		assertThat(bookmarkManager.getBookmarks("tenant1")).isEmpty();
+		bookmarkManager.storeBookmark("tenant1", null, Collections.emptySet());
+		assertThat(createdScopes).hasValue(1);
+
+		bookmarkManager.storeBookmark("tenant1", "bm1", Collections.emptySet());
+		bookmarkManager.storeBookmark("tenant1", "bm2", bookmarkManager.getBookmarks("tenant1"));
+		assertThat(createdScopes).hasValue(2);
+	}
+}
@@ -18,15 +18,20 @@ package org.springframework.data.neo4j.examples.movies.repo;
 import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.neo4j.annotation.Depth;
+import org.springframework.data.neo4j.annotation.FetchPlan;
 import org.springframework.data.neo4j.annotation.Query;
 import org.springframework.data.neo4j.examples.movies.domain.Cinema;
 import org.springframework.data.neo4j.examples.movies.domain.CinemaAndBlockbuster;
 import org.springframework.data.neo4j.examples.movies.domain.CinemaAndBlockbusterName;
+import org.springframework.data.neo4j.examples.movies.domain.CinemaSummary;
 import org.springframework.data.neo4j.examples.movies.domain.queryresult.CinemaQueryResult;
 import org.springframework.data.neo4j.examples.movies.domain.queryresult.CinemaQueryResultInterface;
 import org.springframework.data.neo4j.repository.Neo4jRepository;
@@ -88,6 +93,12 @@ public interface CinemaRepository extends Neo4jRepository<Cinema, Long> {
 
 	Cinema findByName(String name, @Depth int depth);
 
+	@FetchPlan(paths = { "visited", "visited.friends" })
+	List<Cinema> findAllByLocation(String location);
+
+	@FetchPlan
+	List<Cinema> findAllByName(String name);
+
 	@Query(value = "MATCH (n:Theatre) RETURN n;", countQuery = "MATCH (n:Theatre) return count(*);")
 	Page<Cinema> getPagedCinemas(Pageable pageable);
 
@@ -97,6 +108,15 @@ public interface CinemaRepository extends Neo4jRepository<Cinema, Long> {
 	@Query(value = "MATCH (n:Theatre) RETURN n", countQuery = "MATCH (n:Theatre) return count(*)")
 	Page<CinemaQueryResult> getPagedCinemaQueryResults(Pageable pageable);
 
+	@Query(value = "MATCH (n:Theatre) RETURN n", countInSameStatement = true)
+	Page<Cinema> getPagedCinemasCountedInSameStatement(Pageable pageable);
+
+	@Query(value = "MATCH (n:Theatre) RETURN n.name AS name, [n] AS cinemas", countInSameStatement = true)
+	Page<Cinema> getPagedCinemasInListsCountedInSameStatement(Pageable pageable);
+
+	@Query(value = "MATCH (n:Theatre) RETURN n.name AS name", countInSameStatement = true)
+	Page<CinemaQueryResult> getPagedCinemaQueryResultsCountedInSameStatement(Pageable pageable);
+
 	@Query("MATCH (n:Theatre) RETURN n")
 	Slice<CinemaQueryResult> getSlicedCinemaQueryResults(Pageable pageable);
 
@@ -110,6 +130,13 @@ public interface CinemaRepository extends Neo4jRepository<Cinema, Long> {
 	@Query("MATCH (n:Theatre) RETURN n")
 	Slice<Cinema> getSlicedCinemasByName(Pageable pageable);
 
+	@Query("MATCH (n:Theatre) RETURN n")
+	Window<Cinema> scrollCinemas(ScrollPosition position, Sort sort, Limit limit);
+
+	Window<Cinema> findTop4ByLocation(String location, ScrollPosition position, Sort sort);
+
+	Window<Cinema> findByLocation(String location, ScrollPosition position);
+
 	Page<Cinema> findByLocation(String city, Pageable pageable);
 
 	Page<Cinema> findByLocationAndVisitedName(String location, String name, Pageable pageable);
@@ -130,4 +157,8 @@ public interface CinemaRepository extends Neo4jRepository<Cinema, Long> {
 	List<CinemaAndBlockbusterName> findByNameStartingWith(String nameStart);
 
 	List<CinemaAndBlockbuster> findByNameLike(String name, @Depth int depth);
+
+	List<CinemaSummary> findByLocationOrderByNameDesc(String location);
+
+	<T> Page<T> findByCapacityGreaterThan(int capacity, Pageable pageable, Class<T> type);
 }
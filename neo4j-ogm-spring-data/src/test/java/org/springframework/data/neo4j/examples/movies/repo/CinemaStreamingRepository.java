@@ -16,6 +16,7 @@
 package org.springframework.data.neo4j.examples.movies.repo;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
@@ -36,12 +37,17 @@ public interface CinemaStreamingRepository extends Neo4jRepository<Cinema, Long>
 
 	Optional<Cinema> findByName(String name, @Depth int depth);
 
+	Stream<Cinema> findAllByLocation(String location, Sort sort);
+
 	@Query(value = "MATCH (n:Theatre) RETURN n;")
 	Stream<Cinema> getAllCinemas();
 
 	@Query("MATCH (n:Theatre) RETURN n")
 	Stream<Cinema> getCinemasSortedByName(Sort sort);
 
+	@Query("MATCH (n:Theatre) RETURN n.name AS name, n.capacity AS capacity")
+	Stream<Map<String, Object>> getAllCinemaNamesAndCapacities();
+
 	@Async
 	@Query(value = "MATCH (n:Theatre) RETURN n;")
 	CompletableFuture<List<Cinema>> getAllCinemasAsync();
@@ -28,6 +28,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
+import org.aopalliance.intercept.MethodInterceptor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -40,6 +41,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.neo4j.annotation.FetchPlan;
 import org.springframework.data.neo4j.examples.movies.domain.Cinema;
 import org.springframework.data.neo4j.examples.movies.domain.Director;
 import org.springframework.data.neo4j.examples.movies.domain.TempMovie;
@@ -48,6 +50,8 @@ import org.springframework.data.neo4j.examples.movies.domain.queryresult.EntityW
 import org.springframework.data.neo4j.examples.movies.repo.CinemaRepository;
 import org.springframework.data.neo4j.examples.movies.repo.DirectorRepository;
 import org.springframework.data.neo4j.examples.movies.repo.UserRepository;
+import org.springframework.data.neo4j.repository.Neo4jRepository;
+import org.springframework.data.neo4j.repository.support.Neo4jRepositoryFactory;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.transaction.TransactionStatus;
@@ -115,6 +119,72 @@ public class DerivedQueryTests {
 		assertThat(iterator.hasNext()).isFalse();
 	}
 
+	@Test
+	public void shouldOnlyLoadThePathsOfTheFetchPlan() {
+		executeUpdate("CREATE (p:Theatre {name:'Picturehouse', city:'London'})-[:BLOCKBUSTER]->(:Movie {name:'San Andreas'})"
+				+ " CREATE (m:User:Person {name:'Michal'})-[:VISITED]->(p)"
+				+ " CREATE (m)-[:FRIEND_OF]->(:User:Person {name:'Adam'})-[:VISITED]->(:Theatre {name:'Ritzy', city:'Brixton'})");
+
+		transactionTemplate.executeWithoutResult(status -> {
+			List<Cinema> theatres = cinemaRepository.findAllByLocation("London");
+			assertThat(theatres).extracting(Cinema::getName).containsExactly("Picturehouse");
+			Cinema cinema = theatres.get(0);
+			assertThat(cinema.getBlockbusterOfTheWeek()).isNull();
+			assertThat(cinema.getVisited()).extracting(User::getName).containsExactly("Michal");
+			User friend = cinema.getVisited().iterator().next().getFriends().iterator().next();
+			assertThat(friend.getName()).isEqualTo("Adam");
+			assertThat(friend.getFriends()).extracting(User::getName).containsExactly("Michal");
+
+			cinema = cinemaRepository.findAllByName("Ritzy").get(0);
+			assertThat(cinema.getVisited()).isEmpty();
+		});
+
+		transactionTemplate.executeWithoutResult(status -> {
+			CinemaWithBlockbusterRepository repository = new Neo4jRepositoryFactory(session, null)
+					.getRepository(CinemaWithBlockbusterRepository.class);
+			Long id = session.resolveGraphIdFor(cinemaRepository.findAllByName("Picturehouse").get(0));
+
+			Optional<Cinema> cinema = repository.findById(id);
+			assertThat(cinema).hasValueSatisfying(value -> {
+				assertThat(value.getBlockbusterOfTheWeek().getName()).isEqualTo("San Andreas");
+				assertThat(value.getVisited()).isEmpty();
+			});
+			assertThat(repository.findAllById(List.of(id))).extracting(Cinema::getName).containsExactly("Picturehouse");
+		});
+	}
+
+	@Test
+	public void fetchPlansShouldOnlyApplyToTheRepositoryDeclaringThem() {
+		executeUpdate("CREATE (p:Theatre {name:'Picturehouse', city:'London'})-[:BLOCKBUSTER]->(:Movie {name:'San Andreas'})"
+				+ " CREATE (:User:Person {name:'Michal'})-[:VISITED]->(p)");
+
+		transactionTemplate.executeWithoutResult(status -> {
+			Long id = session.resolveGraphIdFor(cinemaRepository.findAllByName("Picturehouse").get(0));
+
+			// Another repository called while the fetch plan is active, like an event listener would do
+			List<Cinema> loadedByOtherRepository = new ArrayList<>();
+			Neo4jRepositoryFactory factory = new Neo4jRepositoryFactory(session, null);
+			factory.addRepositoryProxyPostProcessor((proxyFactory, repositoryInformation) -> proxyFactory
+					.addAdvice((MethodInterceptor) invocation -> {
+						cinemaRepository.findById(id).ifPresent(loadedByOtherRepository::add);
+						return invocation.proceed();
+					}));
+			factory.getRepository(CinemaWithBlockbusterRepository.class).findById(id);
+
+			assertThat(loadedByOtherRepository).singleElement()
+					.satisfies(cinema -> assertThat(cinema.getVisited()).extracting(User::getName).containsExactly("Michal"));
+		});
+	}
+
+	@Test
+	public void shouldRejectFetchPlansWithUnknownPaths() {
+
+		Neo4jRepositoryFactory factory = new Neo4jRepositoryFactory(session, null);
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> factory.getRepository(CinemaWithInvalidFetchPlanRepository.class))
+				.withMessageContaining("'name' is none");
+	}
+
 	@Test // DATAGRAPH-628
 	public void shouldFindNodeEntitiesWithLabels() {
 		executeUpdate(
@@ -570,6 +640,31 @@ public class DerivedQueryTests {
 		executor.shutdownNow();
 	}
 
+	@Test
+	@Transactional
+	public void shouldBindNewValuesWhenReusingDerivedFinderQueries() {
+		for (int i = 0; i < 3; i++) {
+			userRepository.save(new User("A", "B"));
+		}
+		userRepository.save(new User("A", "C"));
+		userRepository.save(new User("D", "C"));
+
+		Pageable pageable = PageRequest.of(0, 2, Sort.by("surname"));
+		Page<User> page = userRepository.findByNameAndSurname("A", "B", pageable);
+		assertThat(page.getContent()).hasSize(2).extracting(User::getSurname).containsOnly("B");
+		assertThat(page.getTotalElements()).isEqualTo(3);
+
+		page = userRepository.findByNameAndSurname("A", "B", page.nextPageable());
+		assertThat(page.getContent()).hasSize(1).extracting(User::getSurname).containsOnly("B");
+
+		page = userRepository.findByNameAndSurname("A", "C", pageable);
+		assertThat(page.getContent()).extracting(User::getName).containsExactly("A");
+		assertThat(page.getTotalElements()).isEqualTo(1);
+
+		page = userRepository.findByNameAndSurname("D", "C", pageable);
+		assertThat(page.getContent()).extracting(User::getName).containsExactly("D");
+	}
+
 	@Test // DATAGRAPH-680
 	@Transactional
 	public void shouldPageDerivedFinderQueries() {
@@ -804,4 +899,22 @@ public class DerivedQueryTests {
 			}
 		}
 	}
+
+	interface CinemaWithBlockbusterRepository extends Neo4jRepository<Cinema, Long> {
+
+		@Override
+		@FetchPlan(paths = "blockbusterOfTheWeek")
+		Optional<Cinema> findById(Long id);
+
+		@Override
+		@FetchPlan(paths = "blockbusterOfTheWeek")
+		Iterable<Cinema> findAllById(Iterable<Long> ids);
+	}
+
+	interface CinemaWithInvalidFetchPlanRepository extends Neo4jRepository<Cinema, Long> {
+
+		@Override
+		@FetchPlan(paths = "visited.name")
+		Optional<Cinema> findById(Long id);
+	}
 }
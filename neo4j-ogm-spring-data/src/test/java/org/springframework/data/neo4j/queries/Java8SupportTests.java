@@ -16,6 +16,8 @@
 package org.springframework.data.neo4j.queries;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -24,10 +26,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.neo4j.harness.Neo4j;
+import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.Session;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.neo4j.examples.movies.domain.Cinema;
 import org.springframework.data.neo4j.examples.movies.repo.CinemaStreamingRepository;
+import org.springframework.data.neo4j.transaction.SessionProxy;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.transaction.annotation.Transactional;
@@ -47,6 +52,8 @@ public class Java8SupportTests {
 
 	@Autowired private CinemaStreamingRepository cinemaRepository;
 
+	@Autowired private Session session;
+
 	@BeforeEach
 	public void setup() {
 		neo4jTestServer.defaultDatabaseService().executeTransactionally("MATCH (n) OPTIONAL MATCH (n)-[r]-() DELETE r, n");
@@ -77,6 +84,23 @@ public class Java8SupportTests {
 		assertThat(allCinemas.count()).isEqualTo(10);
 	}
 
+	@Test
+	public void shouldStreamCinemasPartially() {
+		try (Stream<Cinema> allCinemas = cinemaRepository.getAllCinemas()) {
+			assertThat(allCinemas.limit(3).map(Cinema::getName)).hasSize(3).doesNotContainNull();
+		}
+	}
+
+	@Test
+	public void shouldStreamMaps() {
+		try (Stream<Map<String, Object>> rows = cinemaRepository.getAllCinemaNamesAndCapacities()) {
+			assertThat(rows).hasSize(10).allSatisfy(row -> {
+				assertThat(row).containsKey("name");
+				assertThat(((Number) row.get("capacity")).intValue()).isEqualTo(500);
+			});
+		}
+	}
+
 	@Test
 	public void shouldStreamCinemasWithSort() {
 		Collection<Cinema> allCinemas = cinemaRepository.getCinemasSortedByName(Sort.by("n.name"))
@@ -86,6 +110,19 @@ public class Java8SupportTests {
 		assertThat(allCinemas.iterator().next().getName()).isEqualTo("Cineplex");
 	}
 
+	@Test
+	public void shouldStreamDerivedFindersWithoutTrackingTheEntities() {
+
+		session.clear();
+		Neo4jSession targetSession = (Neo4jSession) ((SessionProxy) session).getTargetSession();
+		try (Stream<Cinema> cinemas = cinemaRepository.findAllByLocation("London", Sort.by("name"))) {
+			List<Cinema> result = cinemas.collect(Collectors.toList());
+			assertThat(result).extracting(Cinema::getName).hasSize(10).startsWith("Cineplex", "Inox");
+			assertThat(result).allSatisfy(cinema -> assertThat(targetSession.context()
+					.getNodeEntity(session.resolveGraphIdFor(cinema))).isNull());
+		}
+	}
+
 	@Test
 	public void shouldGetCinemasAsync() {
 		cinemaRepository.getAllCinemasAsync().thenAccept(cinemas -> {
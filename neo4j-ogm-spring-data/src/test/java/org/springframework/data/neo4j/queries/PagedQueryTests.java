@@ -18,6 +18,7 @@ package org.springframework.data.neo4j.queries;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -26,15 +27,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.neo4j.harness.Neo4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.AbstractPageRequest;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.neo4j.examples.movies.domain.Cinema;
 import org.springframework.data.neo4j.examples.movies.domain.queryresult.CinemaQueryResult;
 import org.springframework.data.neo4j.examples.movies.domain.queryresult.CinemaQueryResultInterface;
 import org.springframework.data.neo4j.examples.movies.repo.CinemaRepository;
+import org.springframework.data.neo4j.util.KeysetPageRequest;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.transaction.TransactionStatus;
@@ -615,4 +621,206 @@ public class PagedQueryTests {
 		assertThat(cinemas.get(8).getName()).isEqualTo("Regal");
 		assertThat(cinemas.get(9).getName()).isEqualTo("Ritzy");
 	}
+
+	@Test
+	@Transactional
+	public void keysetPaginationShouldWorkWithCustomQuery() {
+		setup();
+
+		Page<Cinema> page = cinemaRepository.getPagedCinemas(KeysetPageRequest.of(3, Sort.by("n.name")));
+		assertThat(page).extracting(Cinema::getName).containsExactly("Cineplex", "Inox", "Landmark");
+		assertThat(page.getTotalElements()).isEqualTo(10);
+		assertThat(page.hasNext()).isTrue();
+
+		page = cinemaRepository.getPagedCinemas(page.nextPageable());
+		assertThat(page).extracting(Cinema::getName).containsExactly("Metro", "Movietime", "PVR");
+		assertThat(page.getNumber()).isEqualTo(1);
+
+		page = cinemaRepository.getPagedCinemas(page.nextPageable());
+		assertThat(page).extracting(Cinema::getName).containsExactly("Picturehouse", "Rainbow", "Regal");
+
+		Page<Cinema> previousPage = cinemaRepository.getPagedCinemas(page.previousPageable());
+		assertThat(previousPage).extracting(Cinema::getName).containsExactly("Metro", "Movietime", "PVR");
+		assertThat(previousPage.getNumber()).isEqualTo(1);
+
+		page = cinemaRepository.getPagedCinemas(page.nextPageable());
+		assertThat(page).extracting(Cinema::getName).containsExactly("Ritzy");
+		assertThat(page.hasNext()).isFalse();
+		assertThat(page.getTotalPages()).isEqualTo(4);
+	}
+
+	@Test
+	@Transactional
+	public void keysetPaginationShouldWorkWithDerivedQuery() {
+		setup();
+
+		Page<Cinema> page = cinemaRepository.findByLocation("London",
+				KeysetPageRequest.of(4, Sort.by(Sort.Direction.DESC, "name")));
+		assertThat(page).extracting(Cinema::getName).containsExactly("Ritzy", "Regal", "Rainbow", "Picturehouse");
+		assertThat(page.getTotalElements()).isEqualTo(10);
+
+		page = cinemaRepository.findByLocation("London", page.nextPageable());
+		assertThat(page).extracting(Cinema::getName).containsExactly("PVR", "Movietime", "Metro", "Landmark");
+
+		Page<Cinema> previousPage = cinemaRepository.findByLocation("London", page.previousPageable());
+		assertThat(previousPage).extracting(Cinema::getName).containsExactly("Ritzy", "Regal", "Rainbow", "Picturehouse");
+
+		page = cinemaRepository.findByLocation("London", page.nextPageable());
+		assertThat(page).extracting(Cinema::getName).containsExactly("Inox", "Cineplex");
+		assertThat(page.hasNext()).isFalse();
+	}
+
+	@Test
+	@Transactional
+	public void keysetPaginationShouldUseTheNativeIdAsTiebreaker() {
+		setup();
+
+		List<String> names = new ArrayList<>();
+		List<Page<Cinema>> pages = new ArrayList<>();
+		Pageable pageable = KeysetPageRequest.of(3, Sort.by("capacity"));
+		do {
+			Page<Cinema> page = cinemaRepository.findByLocation("London", pageable);
+			page.forEach(cinema -> names.add(cinema.getName()));
+			pages.add(page);
+			pageable = page.nextPageable();
+		} while (pageable.isPaged());
+		assertThat(names).hasSize(10).doesNotHaveDuplicates();
+
+		Page<Cinema> previousPage = cinemaRepository.findByLocation("London", pages.get(2).previousPageable());
+		assertThat(previousPage).extracting(Cinema::getName)
+				.containsExactlyElementsOf(pages.get(1).map(Cinema::getName).toList());
+	}
+
+	@Test
+	@Transactional
+	public void keysetPaginationShouldWorkWithSlices() {
+		setup();
+
+		Slice<Cinema> slice = cinemaRepository.getSlicedCinemasByName(KeysetPageRequest.of(4, Sort.by("n.name")));
+		assertThat(slice).extracting(Cinema::getName).containsExactly("Cineplex", "Inox", "Landmark", "Metro");
+		assertThat(slice.hasNext()).isTrue();
+
+		slice = cinemaRepository.getSlicedCinemasByName(slice.nextPageable());
+		assertThat(slice).extracting(Cinema::getName).containsExactly("Movietime", "PVR", "Picturehouse", "Rainbow");
+		assertThat(slice.hasNext()).isTrue();
+
+		Slice<Cinema> lastSlice = cinemaRepository.getSlicedCinemasByName(slice.nextPageable());
+		assertThat(lastSlice).extracting(Cinema::getName).containsExactly("Regal", "Ritzy");
+		assertThat(lastSlice.hasNext()).isFalse();
+
+		slice = cinemaRepository.getSlicedCinemasByName(lastSlice.previousPageable());
+		assertThat(slice).extracting(Cinema::getName).containsExactly("Movietime", "PVR", "Picturehouse", "Rainbow");
+		assertThat(slice.hasNext()).isTrue();
+	}
+
+	@Test
+	@Transactional
+	public void offsetScrollingShouldWorkWithCustomQuery() {
+		setup();
+
+		Window<Cinema> window = cinemaRepository.scrollCinemas(ScrollPosition.offset(), Sort.by("n.name"), Limit.of(4));
+		assertThat(window).extracting(Cinema::getName).containsExactly("Cineplex", "Inox", "Landmark", "Metro");
+		assertThat(window.hasNext()).isTrue();
+
+		window = cinemaRepository.scrollCinemas(window.positionAt(window.size() - 1), Sort.by("n.name"), Limit.of(4));
+		assertThat(window).extracting(Cinema::getName).containsExactly("Movietime", "PVR", "Picturehouse", "Rainbow");
+		assertThat(window.hasNext()).isTrue();
+
+		window = cinemaRepository.scrollCinemas(window.positionAt(window.size() - 1), Sort.by("n.name"), Limit.of(4));
+		assertThat(window).extracting(Cinema::getName).containsExactly("Regal", "Ritzy");
+		assertThat(window.hasNext()).isFalse();
+	}
+
+	@Test
+	@Transactional
+	public void keysetScrollingShouldWorkWithCustomQuery() {
+		setup();
+
+		Window<Cinema> window = cinemaRepository.scrollCinemas(ScrollPosition.keyset(), Sort.by("n.name"), Limit.of(4));
+		assertThat(window).extracting(Cinema::getName).containsExactly("Cineplex", "Inox", "Landmark", "Metro");
+
+		window = cinemaRepository.scrollCinemas(window.positionAt(window.size() - 1), Sort.by("n.name"), Limit.of(4));
+		assertThat(window).extracting(Cinema::getName).containsExactly("Movietime", "PVR", "Picturehouse", "Rainbow");
+		assertThat(window.hasNext()).isTrue();
+
+		window = cinemaRepository.scrollCinemas(window.positionAt(window.size() - 1), Sort.by("n.name"), Limit.of(4));
+		assertThat(window).extracting(Cinema::getName).containsExactly("Regal", "Ritzy");
+		assertThat(window.hasNext()).isFalse();
+	}
+
+	@Test
+	@Transactional
+	public void keysetScrollingShouldWorkWithDerivedQuery() {
+		setup();
+
+		Sort sort = Sort.by(Sort.Direction.DESC, "name");
+		Window<Cinema> window = cinemaRepository.findTop4ByLocation("London", ScrollPosition.keyset(), sort);
+		assertThat(window).extracting(Cinema::getName).containsExactly("Ritzy", "Regal", "Rainbow", "Picturehouse");
+		assertThat(window.hasNext()).isTrue();
+
+		window = cinemaRepository.findTop4ByLocation("London", window.positionAt(window.size() - 1), sort);
+		assertThat(window).extracting(Cinema::getName).containsExactly("PVR", "Movietime", "Metro", "Landmark");
+
+		KeysetScrollPosition first = (KeysetScrollPosition) window.positionAt(0);
+		Window<Cinema> previous = cinemaRepository.findTop4ByLocation("London", first.backward(), sort);
+		assertThat(previous).extracting(Cinema::getName).containsExactly("Ritzy", "Regal", "Rainbow", "Picturehouse");
+
+		window = cinemaRepository.findTop4ByLocation("London", window.positionAt(window.size() - 1), sort);
+		assertThat(window).extracting(Cinema::getName).containsExactly("Inox", "Cineplex");
+		assertThat(window.hasNext()).isFalse();
+	}
+
+	@Test
+	@Transactional
+	public void scrollingWithoutLimitShouldReturnAllRemainingElements() {
+		setup();
+
+		Window<Cinema> window = cinemaRepository.findByLocation("London", ScrollPosition.offset(7));
+		assertThat(window).hasSize(2);
+		assertThat(window.hasNext()).isFalse();
+	}
+
+	@Test
+	@Transactional
+	public void shouldFindPagedCinemasCountedInSameStatement() {
+		setup();
+
+		Page<Cinema> page = cinemaRepository.getPagedCinemasCountedInSameStatement(PageRequest.of(0, 3, Sort.by("n.name")));
+		assertThat(page).extracting(Cinema::getName).containsExactly("Cineplex", "Inox", "Landmark");
+		assertThat(page.getTotalElements()).isEqualTo(10);
+		assertThat(page.hasNext()).isTrue();
+
+		page = cinemaRepository.getPagedCinemasCountedInSameStatement(PageRequest.of(3, 3, Sort.by("n.name")));
+		assertThat(page).extracting(Cinema::getName).containsExactly("Ritzy");
+		assertThat(page.getTotalElements()).isEqualTo(10);
+		assertThat(page.hasNext()).isFalse();
+
+		page = cinemaRepository.getPagedCinemasCountedInSameStatement(PageRequest.of(4, 3, Sort.by("n.name")));
+		assertThat(page).isEmpty();
+		assertThat(page.getTotalElements()).isEqualTo(10);
+	}
+
+	@Test
+	@Transactional
+	public void shouldFindPagedCinemasNestedInListsCountedInSameStatement() {
+		setup();
+
+		Page<Cinema> page = cinemaRepository
+				.getPagedCinemasInListsCountedInSameStatement(PageRequest.of(1, 3, Sort.by("name")));
+		assertThat(page).extracting(Cinema::getName).containsExactly("Metro", "Movietime", "PVR");
+		assertThat(page.getTotalElements()).isEqualTo(10);
+	}
+
+	@Test
+	@Transactional
+	public void shouldFindPagedQueryResultsCountedInSameStatement() {
+		setup();
+
+		Page<CinemaQueryResult> page = cinemaRepository
+				.getPagedCinemaQueryResultsCountedInSameStatement(PageRequest.of(1, 4, Sort.by("name")));
+		assertThat(page).extracting(CinemaQueryResult::getName).containsExactly("Movietime", "PVR", "Picturehouse",
+				"Rainbow");
+		assertThat(page.getTotalElements()).isEqualTo(10);
+		assertThat(page.getTotalPages()).isEqualTo(3);
+	}
 }
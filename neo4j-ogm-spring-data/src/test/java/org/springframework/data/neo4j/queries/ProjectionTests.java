@@ -19,16 +19,22 @@ import static org.assertj.core.api.Assertions.*;
 import static org.springframework.test.context.TestExecutionListeners.MergeMode.*;
 
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.neo4j.graphdb.GraphDatabaseService;
 import org.neo4j.harness.Neo4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.neo4j.examples.movies.domain.CinemaAndBlockbuster;
 import org.springframework.data.neo4j.examples.movies.domain.CinemaAndBlockbusterName;
+import org.springframework.data.neo4j.examples.movies.domain.CinemaNameAndCapacity;
+import org.springframework.data.neo4j.examples.movies.domain.CinemaSummary;
 import org.springframework.data.neo4j.examples.movies.repo.CinemaRepository;
+import org.springframework.data.projection.TargetAware;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.TestContext;
 import org.springframework.test.context.TestExecutionListener;
@@ -126,4 +132,35 @@ public class ProjectionTests {
 		assertThat(c1.getName()).isEqualTo("Picturehouse");
 		assertThat(c1.blockBusterOfTheWeekName()).isEqualTo("San Andreas");
 	}
+
+	@Test
+	@Transactional
+	public void shouldOnlySelectPropertiesOfClosedProjections() {
+
+		List<CinemaSummary> cinemas = cinemaRepository.findByLocationOrderByNameDesc("London");
+
+		assertThat(cinemas).extracting(CinemaSummary::getName).containsExactly("Ritzy", "Picturehouse");
+		assertThat(cinemas).extracting(CinemaSummary::getCapacity).containsExactly(7500, 5000);
+		assertThat(cinemas).extracting(CinemaSummary::getLocation).containsOnly("London");
+		assertThat(cinemas).extracting(CinemaSummary::getId).doesNotContainNull();
+		assertThat(((TargetAware) cinemas.get(0)).getTarget()).isInstanceOf(Map.class);
+	}
+
+	@Test
+	@Transactional
+	public void shouldOnlySelectPropertiesOfDtoProjections() {
+
+		Page<CinemaNameAndCapacity> page = cinemaRepository.findByCapacityGreaterThan(1000,
+				PageRequest.of(0, 1, Sort.by("capacity")), CinemaNameAndCapacity.class);
+
+		assertThat(page.getTotalElements()).isEqualTo(2);
+		assertThat(page.getContent()).hasSize(1);
+		assertThat(page.getContent().get(0).getName()).isEqualTo("Picturehouse");
+		assertThat(page.getContent().get(0).getCapacity()).isEqualTo(5000);
+
+		Page<CinemaSummary> summaries = cinemaRepository.findByCapacityGreaterThan(1000, page.nextPageable(),
+				CinemaSummary.class);
+
+		assertThat(summaries.getContent()).extracting(CinemaSummary::getName).containsExactly("Ritzy");
+	}
 }
@@ -18,9 +18,16 @@ package org.springframework.data.neo4j.repository;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.data.neo4j.test.GraphDatabaseServiceAssert.assertThat;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.StreamSupport;
 
 import org.assertj.core.api.Assertions;
@@ -33,12 +40,17 @@ import org.neo4j.harness.Neo4jBuilders;
 import org.neo4j.ogm.config.Configuration;
 import org.neo4j.ogm.session.Session;
 import org.neo4j.ogm.session.SessionFactory;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.neo4j.domain.sample.User;
 import org.springframework.data.neo4j.domain.sample.Movie;
+import org.springframework.data.neo4j.domain.sample.NodeWithUUIDAsId;
 import org.springframework.data.neo4j.repository.sample.repo.MovieRepository;
 import org.springframework.data.neo4j.repository.sample.repo.UserRepository;
 import org.springframework.data.neo4j.repository.support.Neo4jRepositoryFactory;
 import org.springframework.data.neo4j.transaction.Neo4jTransactionManager;
+import org.springframework.data.neo4j.transaction.SessionProxy;
+import org.springframework.data.neo4j.transaction.SharedSessionCreator;
+import org.springframework.data.neo4j.transaction.WriteBehindQueue;
 import org.springframework.data.repository.core.support.RepositoryFactorySupport;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionStatus;
@@ -135,6 +147,235 @@ public class ProgrammaticRepositoryTests {
 		assertThat(userRepository.count()).isEqualTo(0);
 	}
 
+	@Test
+	public void shouldDeleteInBatches() {
+
+		Neo4jRepositoryFactory factory = new Neo4jRepositoryFactory(session, null);
+		factory.setDeleteBatchSize(2);
+
+		UserRepository userRepository = factory.getRepository(UserRepository.class);
+
+		List<User> users = new ArrayList<>();
+		for (int i = 0; i < 6; ++i) {
+			users.add(userRepository.save(new User("U" + i)));
+		}
+
+		List<Long> ids = new ArrayList<>();
+		for (int i = 0; i < 3; ++i) {
+			ids.add(users.get(i).getId());
+		}
+		ids.add(4711L);
+		userRepository.deleteAllById(ids);
+
+		assertThat(userRepository.count()).isEqualTo(3);
+		assertThat(session.load(User.class, users.get(0).getId())).isNull();
+
+		userRepository.deleteAll(users.subList(3, 5));
+
+		assertThat(userRepository.count()).isEqualTo(1);
+		assertThat(session.load(User.class, users.get(3).getId())).isNull();
+		assertThat(userRepository.findById(users.get(5).getId())).isPresent();
+	}
+
+	@Test
+	public void shouldSaveFlatEntitiesInBulk() {
+
+		Neo4jRepositoryFactory factory = new Neo4jRepositoryFactory(session, null);
+		factory.setBulkSaveBatchSize(2);
+
+		MovieCrudRepository movieRepository = factory.getRepository(MovieCrudRepository.class);
+		List<Movie> movies = new ArrayList<>();
+		for (int i = 0; i < 5; ++i) {
+			movies.add(new Movie("M" + i));
+		}
+		movies.add(movies.get(0));
+		movieRepository.saveAll(movies);
+
+		assertThat(movieRepository.count()).isEqualTo(5);
+		for (Movie movie : movies) {
+			Long id = session.resolveGraphIdFor(movie);
+			assertThat(id).isNotNull();
+			assertThat(session.load(Movie.class, id)).isSameAs(movie);
+		}
+
+		NodeWithUUIDAsIdRepository nodeRepository = factory.getRepository(NodeWithUUIDAsIdRepository.class);
+		List<NodeWithUUIDAsId> nodes = new ArrayList<>();
+		for (int i = 0; i < 3; ++i) {
+			nodes.add(new NodeWithUUIDAsId("P" + i));
+		}
+		nodeRepository.saveAll(nodes);
+
+		assertThat(nodes).extracting(NodeWithUUIDAsId::getMyNiceId).doesNotContainNull();
+		assertThat(nodeRepository.count()).isEqualTo(3);
+
+		// Saved again with a fresh session, the existing nodes are updated
+		Session otherSession = sessionFactory.openSession();
+		Neo4jRepositoryFactory otherFactory = new Neo4jRepositoryFactory(otherSession, null);
+		otherFactory.setBulkSaveBatchSize(2);
+		otherFactory.getRepository(NodeWithUUIDAsIdRepository.class).saveAll(nodes);
+
+		assertThat(nodeRepository.count()).isEqualTo(3);
+		assertThat(otherSession.loadAll(NodeWithUUIDAsId.class)).extracting(NodeWithUUIDAsId::getSomeProperty)
+				.containsExactlyInAnyOrder("P0", "P1", "P2");
+	}
+
+	@Test
+	public void shouldFindAllByIdInChunksKeepingTheRequestedOrder() {
+
+		List<Long> ids = new ArrayList<>();
+		for (int i = 0; i < 10; ++i) {
+			Movie movie = new Movie("M" + i);
+			session.save(movie);
+			ids.add(session.resolveGraphIdFor(movie));
+		}
+		Collections.reverse(ids);
+		ids.add(ids.get(0));
+		ids.add(-1L);
+		List<String> expectedTitles = List.of("M9", "M8", "M7", "M6", "M5", "M4", "M3", "M2", "M1", "M0");
+
+		// Chunks are loaded one after another with a plain session
+		Neo4jRepositoryFactory factory = new Neo4jRepositoryFactory(session, null);
+		factory.setFindAllByIdChunkSize(3);
+		assertThat(factory.getRepository(MovieCrudRepository.class).findAllById(ids)).extracting(Movie::getTitle)
+				.containsExactlyElementsOf(expectedTitles);
+		// Ids fitting into one chunk are returned in the requested order as well
+		assertThat(factory.getRepository(MovieCrudRepository.class)
+				.findAllById(List.of(ids.get(2), ids.get(0), ids.get(1)))).extracting(Movie::getTitle)
+				.containsExactly("M7", "M9", "M8");
+
+		// and concurrently with a shared session
+		AtomicInteger submittedChunks = new AtomicInteger();
+		ExecutorService executorService = Executors.newFixedThreadPool(2);
+		Neo4jRepositoryFactory sharedSessionFactory = new Neo4jRepositoryFactory(
+				SharedSessionCreator.createSharedSession(sessionFactory), null);
+		sharedSessionFactory.setFindAllByIdChunkSize(3);
+		sharedSessionFactory.setFindAllByIdExecutor(command -> {
+			submittedChunks.incrementAndGet();
+			executorService.execute(command);
+		});
+		MovieCrudRepository sharedSessionRepository = sharedSessionFactory.getRepository(MovieCrudRepository.class);
+		try {
+			assertThat(sharedSessionRepository.findAllById(ids)).extracting(Movie::getTitle)
+					.containsExactlyElementsOf(expectedTitles);
+		} finally {
+			executorService.shutdown();
+		}
+		assertThat(submittedChunks.get()).isEqualTo(4);
+
+		// but not inside a transaction, not even a read-only one, as the entities must be the ones of its session
+		TransactionTemplate readOnlyTemplate = new TransactionTemplate(new Neo4jTransactionManager(sessionFactory));
+		readOnlyTemplate.setReadOnly(true);
+		readOnlyTemplate.executeWithoutResult(status -> {
+			Movie firstMovie = sharedSessionRepository.findById(ids.get(0)).orElseThrow();
+			List<Movie> movies = (List<Movie>) sharedSessionRepository.findAllById(ids);
+			assertThat(movies).extracting(Movie::getTitle).containsExactlyElementsOf(expectedTitles);
+			assertThat(movies.get(0)).isSameAs(firstMovie);
+		});
+		assertThat(submittedChunks.get()).isEqualTo(4);
+	}
+
+	@Test
+	public void shouldReuseThePageCountUntilTheRepositoryWrites() {
+
+		Neo4jRepositoryFactory factory = new Neo4jRepositoryFactory(session, null);
+		factory.setPageCountTtl(Duration.ofHours(1));
+		MovieCrudRepository movieRepository = factory.getRepository(MovieCrudRepository.class);
+		for (int i = 0; i < 5; ++i) {
+			movieRepository.save(new Movie("M" + i));
+		}
+		PageRequest firstPage = PageRequest.of(0, 2);
+		assertThat(movieRepository.findAll(firstPage).getTotalElements()).isEqualTo(5);
+
+		// Writes bypassing the repository are not visible before the count expired
+		session.save(new Movie("M5"));
+		assertThat(movieRepository.findAll(firstPage).getTotalElements()).isEqualTo(5);
+		assertThat(movieRepository.count()).isEqualTo(6);
+
+		movieRepository.save(new Movie("M6"));
+		assertThat(movieRepository.findAll(firstPage).getTotalElements()).isEqualTo(7);
+	}
+
+	@Test
+	public void shouldQueueRepositoryWritesUntilTheyAreNeeded() {
+
+		Neo4jTransactionManager writeBehindTransactionManager = new Neo4jTransactionManager(sessionFactory);
+		writeBehindTransactionManager.setWriteBehind(true);
+		TransactionTemplate writeBehindTemplate = new TransactionTemplate(writeBehindTransactionManager);
+
+		Session sharedSession = SharedSessionCreator.createSharedSession(sessionFactory);
+		Neo4jRepositoryFactory factory = new Neo4jRepositoryFactory(sharedSession, null);
+		UserRepository userRepository = factory.getRepository(UserRepository.class);
+
+		List<User> users = writeBehindTemplate.execute(status -> {
+			WriteBehindQueue writeBehindQueue = ((SessionProxy) sharedSession).getWriteBehindQueue();
+
+			// New entities are saved right away, so that they have an id
+			User userA = userRepository.save(new User("A"));
+			User userB = userRepository.save(new User("B"));
+			assertThat(userA.getId()).isNotNull();
+			assertThat(userB.getId()).isNotNull();
+			assertThat(writeBehindQueue.isEmpty()).isTrue();
+
+			userB.setFirstname("Bea");
+			userRepository.save(userB);
+			userRepository.delete(userA);
+			assertThat(writeBehindQueue.isEmpty()).isFalse();
+
+			// Reading flushes the queued writes
+			assertThat(userRepository.count()).isEqualTo(1);
+			assertThat(writeBehindQueue.isEmpty()).isTrue();
+
+			User userC = userRepository.save(new User("C"));
+			assertThat(userC.getId()).isNotNull();
+			return List.of(userA, userB, userC);
+		});
+
+		assertThat(session.load(User.class, users.get(0).getId())).isNull();
+		assertThat(session.load(User.class, users.get(1).getId()).getFirstname()).isEqualTo("Bea");
+		assertThat(session.load(User.class, users.get(2).getId())).isNotNull();
+
+		// Queued writes of transactions rolled back are never run
+		writeBehindTemplate.execute(status -> {
+			userRepository.save(new User("D"));
+			userRepository.deleteAll(users.subList(1, 3));
+			status.setRollbackOnly();
+			return null;
+		});
+		assertThat(session.countEntitiesOfType(User.class)).isEqualTo(2);
+	}
+
+	@Test
+	public void shouldQueueSavesOfNewEntitiesWithIdsGeneratedOnTheClient() {
+
+		Neo4jTransactionManager writeBehindTransactionManager = new Neo4jTransactionManager(sessionFactory);
+		writeBehindTransactionManager.setWriteBehind(true);
+		TransactionTemplate writeBehindTemplate = new TransactionTemplate(writeBehindTransactionManager);
+
+		Session sharedSession = SharedSessionCreator.createSharedSession(sessionFactory);
+		Neo4jRepositoryFactory factory = new Neo4jRepositoryFactory(sharedSession, null);
+		NodeWithUUIDAsIdRepository repository = factory.getRepository(NodeWithUUIDAsIdRepository.class);
+
+		List<NodeWithUUIDAsId> nodes = writeBehindTemplate.execute(status -> {
+			WriteBehindQueue writeBehindQueue = ((SessionProxy) sharedSession).getWriteBehindQueue();
+
+			NodeWithUUIDAsId node = repository.save(new NodeWithUUIDAsId("a"));
+			List<NodeWithUUIDAsId> moreNodes = (List<NodeWithUUIDAsId>) repository
+					.saveAll(List.of(new NodeWithUUIDAsId("b"), new NodeWithUUIDAsId("c")));
+			assertThat(node.getMyNiceId()).isNotNull();
+			assertThat(moreNodes).extracting(NodeWithUUIDAsId::getMyNiceId).doesNotContainNull();
+			assertThat(writeBehindQueue.isEmpty()).isFalse();
+
+			List<NodeWithUUIDAsId> allNodes = new ArrayList<>(moreNodes);
+			allNodes.add(0, node);
+			return allNodes;
+		});
+
+		Iterable<String> storedIds = session.query(String.class, "MATCH (n:NodeWithUUIDAsId) RETURN n.myNiceId",
+				Collections.emptyMap());
+		assertThat(storedIds).containsExactlyInAnyOrderElementsOf(
+				nodes.stream().map(node -> node.getMyNiceId().toString()).toList());
+	}
+
 	@Test // DATAGRAPH-813
 	public void shouldDeleteUserByNameAndReturnCountOfDeletedUsers() {
 
@@ -209,4 +450,8 @@ public class ProgrammaticRepositoryTests {
 
 		assertThat(userRepository.countByLastname("A")).isEqualTo(1L);
 	}
+
+	interface MovieCrudRepository extends Neo4jRepository<Movie, Long> {}
+
+	interface NodeWithUUIDAsIdRepository extends Neo4jRepository<NodeWithUUIDAsId, UUID> {}
 }
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2011-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.harness.Neo4j;
+import org.neo4j.harness.Neo4jBuilders;
+import org.neo4j.ogm.config.Configuration;
+import org.neo4j.ogm.session.SessionFactory;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.neo4j.annotation.Query;
+import org.springframework.data.neo4j.domain.sample.User;
+import org.springframework.data.neo4j.repository.config.EnableReactiveNeo4jRepositories;
+import org.springframework.data.neo4j.repository.support.ReactiveNeo4jRepositoryFactory;
+import org.springframework.data.repository.query.Param;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * @author Michael J. Simons
+ */
+public class ReactiveNeo4jRepositoryTests {
+
+	private static Neo4j serverControls;
+	private static SessionFactory sessionFactory;
+
+	private ReactiveUserRepository userRepository;
+
+	@BeforeAll
+	public static void oneTimeSetUp() {
+		serverControls = Neo4jBuilders.newInProcessBuilder().withDisabledServer().build();
+
+		Configuration configuration = new Configuration.Builder() //
+				.uri(serverControls.boltURI().toString()) //
+				.build();
+		sessionFactory = new SessionFactory(configuration, "org.springframework.data.neo4j.domain.sample");
+	}
+
+	@AfterAll
+	public static void shutdownTestServer() {
+
+		if (sessionFactory != null) {
+			sessionFactory.close();
+			sessionFactory = null;
+		}
+
+		if (serverControls != null) {
+			serverControls.close();
+			serverControls = null;
+		}
+	}
+
+	@BeforeEach
+	public void init() {
+		sessionFactory.openSession().purgeDatabase();
+
+		userRepository = new ReactiveNeo4jRepositoryFactory(sessionFactory, null)
+				.getRepository(ReactiveUserRepository.class);
+	}
+
+	@Test
+	public void shouldSaveAndFindById() {
+
+		User savedUser = userRepository.save(newUser("Dave", "Matthews", 42)).block();
+		assertThat(savedUser.getId()).isNotNull();
+
+		User loadedUser = userRepository.findById(savedUser.getId()).block();
+		assertThat(loadedUser).isNotNull();
+		assertThat(loadedUser.getFirstname()).isEqualTo("Dave");
+		assertThat(userRepository.existsById(savedUser.getId()).block()).isTrue();
+		assertThat(userRepository.findById(savedUser.getId() + 4711).blockOptional()).isEmpty();
+	}
+
+	@Test
+	public void shouldNotRunAnythingBeforeSubscription() {
+
+		Mono<User> pendingSave = userRepository.save(newUser("Dave", "Matthews", 42));
+		assertThat(userRepository.count().block()).isZero();
+
+		pendingSave.block();
+		assertThat(userRepository.count().block()).isOne();
+	}
+
+	@Test
+	public void shouldFindAllSortedAndById() {
+
+		List<User> users = userRepository.saveAll(Arrays.asList(newUser("Dave", "Matthews", 42),
+				newUser("Carter", "Beauford", 49), newUser("Stefan", "Lessard", 38))).collectList().block();
+
+		assertThat(userRepository.findAll(Sort.by("firstname")).map(User::getFirstname).collectList().block())
+				.containsExactly("Carter", "Dave", "Stefan");
+		assertThat(userRepository.findAllById(Arrays.asList(users.get(0).getId(), users.get(2).getId()))
+				.map(User::getFirstname).collectList().block()).containsExactlyInAnyOrder("Dave", "Stefan");
+		assertThat(userRepository.count().block()).isEqualTo(3L);
+	}
+
+	@Test
+	public void shouldRunDerivedQueries() {
+
+		userRepository.saveAll(Arrays.asList(newUser("Dave", "Matthews", 42), newUser("Carter", "Matthews", 49),
+				newUser("Stefan", "Lessard", 38))).blockLast();
+
+		assertThat(userRepository.findByLastname("Matthews").map(User::getFirstname).collectList().block())
+				.containsExactlyInAnyOrder("Dave", "Carter");
+		assertThat(userRepository.findByFirstname("Stefan").map(User::getLastname).block()).isEqualTo("Lessard");
+		assertThat(userRepository.countByLastname("Matthews").block()).isEqualTo(2L);
+		assertThat(userRepository.existsByLastname("Lessard").block()).isTrue();
+		assertThat(userRepository.existsByLastname("Reynolds").block()).isFalse();
+	}
+
+	@Test
+	public void shouldRunAnnotatedQueries() {
+
+		userRepository.saveAll(Arrays.asList(newUser("Dave", "Matthews", 42), newUser("Carter", "Beauford", 49),
+				newUser("Stefan", "Lessard", 38))).blockLast();
+
+		assertThat(userRepository.findAllOlderThan(40).map(User::getFirstname).collectList().block())
+				.containsExactly("Dave", "Carter");
+		assertThat(userRepository.findAllFirstnames().collectList().block()).containsExactly("Carter", "Dave", "Stefan");
+	}
+
+	@Test
+	public void shouldDelete() {
+
+		User dave = userRepository.save(newUser("Dave", "Matthews", 42)).block();
+		userRepository.saveAll(Arrays.asList(newUser("Carter", "Beauford", 49), newUser("Stefan", "Lessard", 38)))
+				.blockLast();
+
+		userRepository.delete(dave).block();
+		assertThat(userRepository.count().block()).isEqualTo(2L);
+
+		assertThat(userRepository.deleteByLastname("Lessard").block()).isOne();
+		assertThat(userRepository.findAll().map(User::getFirstname).collectList().block()).containsExactly("Carter");
+
+		userRepository.deleteAll().block();
+		assertThat(userRepository.count().block()).isZero();
+	}
+
+	@Test
+	public void shouldBeConfigurableThroughAnnotation() {
+
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(
+				ReactiveConfig.class)) {
+
+			ReactiveUserRepository repository = context.getBean(ReactiveUserRepository.class);
+			repository.save(newUser("Dave", "Matthews", 42)).block();
+			assertThat(repository.findByLastname("Matthews").map(User::getFirstname).collectList().block())
+					.containsExactly("Dave");
+		}
+	}
+
+	private static User newUser(String firstname, String lastname, int age) {
+
+		User user = new User(firstname, lastname, firstname.toLowerCase() + "@example.com");
+		user.setAge(age);
+		return user;
+	}
+
+	interface ReactiveUserRepository extends ReactiveNeo4jRepository<User, Long> {
+
+		Flux<User> findByLastname(String lastname);
+
+		Mono<User> findByFirstname(String firstname);
+
+		Mono<Long> countByLastname(String lastname);
+
+		Mono<Boolean> existsByLastname(String lastname);
+
+		Mono<Long> deleteByLastname(String lastname);
+
+		@Query("MATCH (u:User) WHERE u.age > $age RETURN u ORDER BY u.age")
+		Flux<User> findAllOlderThan(@Param("age") int age);
+
+		@Query("MATCH (u:User) RETURN u.firstname ORDER BY u.firstname")
+		Flux<String> findAllFirstnames();
+	}
+
+	@org.springframework.context.annotation.Configuration
+	@EnableReactiveNeo4jRepositories(considerNestedRepositories = true,
+			includeFilters = @org.springframework.context.annotation.ComponentScan.Filter(
+					type = org.springframework.context.annotation.FilterType.ASSIGNABLE_TYPE,
+					classes = ReactiveUserRepository.class))
+	static class ReactiveConfig {
+
+		@Bean
+		public SessionFactory sessionFactory() {
+			return ReactiveNeo4jRepositoryTests.sessionFactory;
+		}
+	}
+}
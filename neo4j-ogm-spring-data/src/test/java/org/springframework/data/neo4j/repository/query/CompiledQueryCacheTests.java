@@ -0,0 +1,94 @@
+/*
+ * Copyright 2011-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.ogm.cypher.ComparisonOperator;
+import org.neo4j.ogm.cypher.Filter;
+import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.drivers.bolt.driver.BoltDriver;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.neo4j.domain.sample.User;
+
+/**
+ * Pins the statements compiled for derived finders, especially the parameterized paging that replaces the pagination
+ * rendered by Neo4j-OGM.
+ *
+ * @author Michael J. Simons
+ */
+public class CompiledQueryCacheTests {
+
+	private final Session session = new SessionFactory(new BoltDriver(mock(org.neo4j.driver.Driver.class)),
+			User.class.getPackage().getName()).openSession();
+
+	@Test
+	public void pagedStatementsShouldBeParameterized() {
+
+		Query query = new Query(new Filters(new Filter("firstname", ComparisonOperator.EQUALS, "Jane")), null,
+				Sort.unsorted(), new CompiledQueryCache(true));
+		CompiledQueryCache.BoundStatement statement = query.bindLoadAll(session, User.class, Sort.by("lastname"),
+				new Query.OffsetPagination(2, 10, 20), 1);
+
+		assertThat(statement).isNotNull();
+		assertThat(statement.getStatement())
+				.contains(" ORDER BY n.`lastname` SKIP $sdnSkip LIMIT $sdnLimit RETURN ")
+				.doesNotContain("SKIP 0");
+		assertThat(statement.getParameters())
+				.containsEntry(Query.SKIP_PARAM, 20)
+				.containsEntry(Query.LIMIT_PARAM, 10);
+	}
+
+	@Test
+	public void statementsWithDifferentPagesShouldBeTheSame() {
+
+		Query query = new Query(new Filters(new Filter("firstname", ComparisonOperator.EQUALS, "Jane")), null,
+				Sort.unsorted(), new CompiledQueryCache(true));
+		CompiledQueryCache.BoundStatement first = query.bindLoadAll(session, User.class, Sort.unsorted(),
+				new Query.OffsetPagination(0, 10, 0), 1);
+		CompiledQueryCache.BoundStatement second = query.bindLoadAll(session, User.class, Sort.unsorted(),
+				new Query.OffsetPagination(3, 10, 30), 1);
+
+		assertThat(first).isNotNull();
+		assertThat(second).isNotNull();
+		assertThat(second.getStatement()).isEqualTo(first.getStatement());
+	}
+
+	@Test
+	public void unpagedStatementsShouldNotBeParameterized() {
+
+		Query query = new Query(new Filters(new Filter("firstname", ComparisonOperator.EQUALS, "Jane")), null,
+				Sort.unsorted(), new CompiledQueryCache(true));
+		CompiledQueryCache.BoundStatement statement = query.bindLoadAll(session, User.class, Sort.unsorted(), null, 1);
+
+		assertThat(statement).isNotNull();
+		assertThat(statement.getStatement()).doesNotContain("SKIP").doesNotContain("LIMIT");
+		assertThat(statement.getParameters()).doesNotContainKeys(Query.SKIP_PARAM, Query.LIMIT_PARAM);
+	}
+
+	@Test
+	public void statementsWithoutRenderedPaginationShouldNotBeParameterized() {
+
+		assertThat(CompiledQueryCache.withParameterizedPagination("MATCH (n:`User`) RETURN n")).isNull();
+		assertThat(CompiledQueryCache
+				.withParameterizedPagination("MATCH (n) WITH n SKIP 0 LIMIT 1 MATCH (n) SKIP 0 LIMIT 1 RETURN n"))
+				.isNull();
+	}
+}
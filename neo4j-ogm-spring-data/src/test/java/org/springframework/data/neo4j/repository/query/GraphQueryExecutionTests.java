@@ -15,28 +15,51 @@
  */
 package org.springframework.data.neo4j.repository.query;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.anyMap;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.eq;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Result;
+import org.neo4j.ogm.driver.Driver;
+import org.neo4j.ogm.drivers.bolt.transaction.BoltTransaction;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.session.Neo4jSession;
 import org.neo4j.ogm.session.Session;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.neo4j.domain.sample.User;
+import org.springframework.data.neo4j.observation.RepositoryQueryObservationContext;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.NoRepositoryBean;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+import org.springframework.data.repository.query.QueryMethodValueEvaluationContextAccessor;
 import org.springframework.util.ReflectionUtils;
 
 @ExtendWith(MockitoExtension.class)
@@ -57,17 +80,179 @@ public class GraphQueryExecutionTests {
 				factory);
 		GraphParameterAccessor accessor = new GraphParametersParameterAccessor(queryMethod,
 				new Object[] { "", PageRequest.of(0, 1) });
-		GraphQueryExecution.PagedExecution execution = new GraphQueryExecution.PagedExecution(sessionMock, accessor);
+		GraphQueryExecution.PagedExecution execution = new GraphQueryExecution.PagedExecution(sessionMock);
 		Query query = new Query("", "noop", new HashMap<>());
-		execution.execute(query, User.class);
+		execution.execute(query, User.class, accessor);
 
 		verify(sessionMock).query(eq(User.class), anyString(), anyMap());
 		verify(sessionMock, never()).queryForObject(eq(Integer.class), any(String.class), anyMap());
 	}
 
+	@Test
+	public void pagedExecutionShouldNotGenerateCountQueryIfTotalCanBeInferred() {
+
+		when(sessionMock.query(eq(User.class), anyString(), anyMap())).thenReturn(Arrays.asList(new User(), new User()));
+
+		GraphQueryMethod queryMethod = new GraphQueryMethod(method, new DefaultRepositoryMetadata(UserRepository.class),
+				factory);
+		GraphParameterAccessor accessor = new GraphParametersParameterAccessor(queryMethod,
+				new Object[] { "", PageRequest.of(0, 5) });
+		GraphQueryExecution.PagedExecution execution = new GraphQueryExecution.PagedExecution(sessionMock);
+		Query query = new Query("", "noop", new HashMap<>());
+		Page<?> page = (Page<?>) execution.execute(query, User.class, accessor);
+
+		assertThat(page.getTotalElements()).isEqualTo(2);
+		verify(sessionMock, never()).queryForObject(eq(Integer.class), any(String.class), anyMap());
+	}
+
+	@Test
+	public void streamExecutionShouldFallBackToCollectionWithoutTransactionalSession() {
+
+		when(sessionMock.query(eq(User.class), anyString(), anyMap())).thenReturn(Collections.<User> emptyList());
+
+		GraphQueryMethod queryMethod = new GraphQueryMethod(method, new DefaultRepositoryMetadata(UserRepository.class),
+				factory);
+		GraphParameterAccessor accessor = new GraphParametersParameterAccessor(queryMethod,
+				new Object[] { "", PageRequest.of(0, 1) });
+		GraphQueryExecution.StreamExecution execution = new GraphQueryExecution.StreamExecution(sessionMock);
+		Query query = new Query("MATCH (u:User) RETURN u", null, new HashMap<>());
+		execution.execute(query, User.class, accessor);
+
+		verify(sessionMock).query(eq(User.class), anyString(), anyMap());
+	}
+
+	@Test
+	public void streamExecutionShouldPullRecordsOnlyWhileTheStreamIsConsumed() {
+
+		Neo4jSession targetSession = mock(Neo4jSession.class);
+		BoltTransaction transaction = mock(BoltTransaction.class);
+		org.neo4j.driver.Transaction nativeTransaction = mock(org.neo4j.driver.Transaction.class);
+		Result result = mock(Result.class);
+		Driver ogmDriver = mock(Driver.class);
+		Record record = mock(Record.class);
+		when(targetSession.metaData()).thenReturn(new MetaData(User.class.getPackage().getName()));
+		when(targetSession.getTransaction()).thenReturn(transaction);
+		when(transaction.nativeBoltTransaction()).thenReturn(nativeTransaction);
+		when(ogmDriver.getCypherModification()).thenReturn(Function.identity());
+		when(nativeTransaction.run(anyString(), anyMap())).thenReturn(result);
+		when(result.hasNext()).thenReturn(true, true, true, false);
+		when(result.next()).thenReturn(record);
+		when(record.asMap()).thenReturn(Collections.singletonMap("name", "Jane"));
+
+		GraphQueryMethod queryMethod = new GraphQueryMethod(method, new DefaultRepositoryMetadata(UserRepository.class),
+				factory);
+		GraphParameterAccessor accessor = new GraphParametersParameterAccessor(queryMethod,
+				new Object[] { "", PageRequest.of(0, 1) });
+		GraphQueryExecution.StreamExecution execution = new GraphQueryExecution.StreamExecution(targetSession, ogmDriver);
+		Query query = new Query("MATCH (u:User) RETURN u.name AS name", null, new HashMap<>());
+		try (Stream<?> rows = (Stream<?>) execution.execute(query, Map.class, accessor)) {
+			Iterator<?> iterator = rows.iterator();
+			verify(result, never()).next();
+
+			assertThat(iterator.next()).isEqualTo(Collections.singletonMap("name", "Jane"));
+			verify(result, times(1)).next();
+
+			assertThat(iterator).toIterable().hasSize(2);
+			verify(result, times(3)).next();
+		}
+
+		verify(result).consume();
+		verify(targetSession, never()).context();
+	}
+
+	@Test
+	public void shouldResolveExecutionOnlyOnce() {
+
+		when(sessionMock.query(eq(User.class), anyString(), anyMap())).thenReturn(Collections.<User> emptyList());
+
+		Method findAllByQuery = ReflectionUtils.findMethod(UserRepository.class, "findAllByQuery", String.class);
+		GraphQueryMethod queryMethod = spy(new GraphQueryMethod(findAllByQuery,
+				new DefaultRepositoryMetadata(UserRepository.class), factory));
+		MetaData metaData = new MetaData(User.class.getPackage().getName());
+		GraphRepositoryQuery repositoryQuery = new GraphRepositoryQuery(queryMethod, metaData, sessionMock,
+				QueryMethodValueEvaluationContextAccessor.create());
+		repositoryQuery.execute(new Object[] { "Jane" });
+		GraphQueryExecution execution = repositoryQuery.getExecution();
+
+		clearInvocations(queryMethod);
+		for (int i = 0; i < 3; ++i) {
+			assertThat(repositoryQuery.execute(new Object[] { "Jane" })).asList().isEmpty();
+		}
+
+		assertThat(repositoryQuery.getExecution()).isSameAs(execution)
+				.isInstanceOf(GraphQueryExecution.CollectionExecution.class);
+		verify(queryMethod, never()).getMethod();
+		verify(queryMethod, never()).isStreamQuery();
+		verify(queryMethod, never()).isCollectionQuery();
+		verify(queryMethod, never()).isPageQuery();
+		verify(queryMethod, never()).isSliceQuery();
+		verify(sessionMock, times(4)).query(eq(User.class), anyString(), anyMap());
+	}
+
+	@Test
+	public void shouldObserveQueryExecution() {
+
+		when(sessionMock.query(eq(User.class), anyString(), anyMap()))
+				.thenReturn(Arrays.asList(new User("Jane"), new User("Jane")));
+
+		List<Observation.Context> contexts = new ArrayList<>();
+		ObservationRegistry observationRegistry = ObservationRegistry.create();
+		observationRegistry.observationConfig().observationHandler(new ObservationHandler<Observation.Context>() {
+			@Override
+			public void onStop(Observation.Context context) {
+				contexts.add(context);
+			}
+
+			@Override
+			public boolean supportsContext(Observation.Context context) {
+				return true;
+			}
+		});
+
+		Method findAllByQuery = ReflectionUtils.findMethod(UserRepository.class, "findAllByQuery", String.class);
+		GraphQueryMethod queryMethod = new GraphQueryMethod(findAllByQuery,
+				new DefaultRepositoryMetadata(UserRepository.class), factory);
+		MetaData metaData = new MetaData(User.class.getPackage().getName());
+		GraphRepositoryQuery repositoryQuery = new GraphRepositoryQuery(queryMethod, metaData, sessionMock,
+				QueryMethodValueEvaluationContextAccessor.create());
+		repositoryQuery.setObservationRegistry(observationRegistry);
+		repositoryQuery.execute(new Object[] { "Jane" });
+
+		assertThat(contexts).singleElement().isInstanceOfSatisfying(RepositoryQueryObservationContext.class, context -> {
+			assertThat(context.getName()).isEqualTo("neo4j.ogm.repository.query");
+			assertThat(context.getContextualName()).isEqualTo("UserRepository.findAllByQuery");
+			assertThat(context.getLowCardinalityKeyValues()).extracting("key", "value").containsExactlyInAnyOrder(
+					tuple("repository", "UserRepository"), tuple("method", "findAllByQuery"),
+					tuple("execution", "collection"));
+			assertThat(context.getHighCardinalityKeyValue("rows").getValue()).isEqualTo("2");
+		});
+	}
+
+	@Test
+	public void writingQueriesShouldNotBeCountedInTheSameStatement() {
+
+		Method writingMethod = ReflectionUtils.findMethod(WritingUserRepository.class, "renameAll", String.class,
+				Pageable.class);
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> new GraphQueryMethod(writingMethod,
+						new DefaultRepositoryMetadata(WritingUserRepository.class), factory))
+				.withMessage("renameAll cannot count in the same statement, as its query might write");
+	}
+
 	interface UserRepository extends Repository<User, Long> {
 
 		Page<User> findByFirstname(String firstname, Pageable pageable);
+
+		@org.springframework.data.neo4j.annotation.Query("MATCH (u:User) WHERE u.firstName = $0 RETURN u")
+		List<User> findAllByQuery(String firstname);
 	}
 
+	@NoRepositoryBean // Would fail the contexts scanning this package
+	interface WritingUserRepository extends Repository<User, Long> {
+
+		@org.springframework.data.neo4j.annotation.Query(value = "MATCH (u:User) SET u.firstName = $0 RETURN u",
+				countInSameStatement = true)
+		Page<User> renameAll(String firstname, Pageable pageable);
+	}
 }
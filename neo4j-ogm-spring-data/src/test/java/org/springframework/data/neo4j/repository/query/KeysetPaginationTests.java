@@ -0,0 +1,88 @@
+/*
+ * Copyright 2011-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.ogm.cypher.ComparisonOperator;
+import org.neo4j.ogm.cypher.Filter;
+import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.cypher.query.SortOrder;
+import org.neo4j.ogm.drivers.bolt.driver.BoltDriver;
+import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.SessionFactory;
+import org.springframework.data.neo4j.domain.sample.User;
+import org.springframework.data.neo4j.examples.movies.domain.Rating;
+
+/**
+ * Pins the Cypher Neo4j-OGM renders with the pagination that orders by native id, so that changes in the way Neo4j-OGM
+ * renders paginations or names its variables fail here instead of silently changing the order of keyset based pages.
+ *
+ * @author Michael J. Simons
+ */
+public class KeysetPaginationTests {
+
+	private static final Filters FILTERS = new Filters(new Filter("firstname", ComparisonOperator.EQUALS, "Jane"));
+
+	@Test
+	public void nativeIdShouldBeAppendedToTheSortOrderOfNodes() {
+
+		Neo4jSession session = openSession(User.class.getPackage().getName());
+
+		String statement = session.queryStatementsFor(User.class, 1).findByType("User", FILTERS, 1)
+				.setSortOrder(new SortOrder("firstname"))
+				.setPagination(new KeysetPagination.NativeIdOrderedPagination(5,
+						KeysetPagination.NativeIdOrderedPagination.NODE_VARIABLE, true, false))
+				.getStatement();
+
+		assertThat(statement).contains(" ORDER BY n.firstname, ID(n) DESC SKIP 0 LIMIT 5 ");
+	}
+
+	@Test
+	public void nativeIdShouldBeTheOnlySortKeyWithoutPropertyOrders() {
+
+		Neo4jSession session = openSession(User.class.getPackage().getName());
+
+		String statement = session.queryStatementsFor(User.class, 1).findByType("User", FILTERS, 1)
+				.setPagination(new KeysetPagination.NativeIdOrderedPagination(5,
+						KeysetPagination.NativeIdOrderedPagination.NODE_VARIABLE, false, true))
+				.getStatement();
+
+		assertThat(statement).contains(" ORDER BY ID(n) SKIP 0 LIMIT 5 ");
+	}
+
+	@Test
+	public void nativeIdShouldBeAppendedToTheSortOrderOfRelationships() {
+
+		Neo4jSession session = openSession(Rating.class.getPackage().getName());
+
+		String statement = session.queryStatementsFor(Rating.class, 1)
+				.findByType("RATED", new Filters(new Filter("stars", ComparisonOperator.EQUALS, 5)), 1)
+				.setSortOrder(new SortOrder("stars"))
+				.setPagination(new KeysetPagination.NativeIdOrderedPagination(5,
+						KeysetPagination.NativeIdOrderedPagination.RELATIONSHIP_VARIABLE, true, true))
+				.getStatement();
+
+		assertThat(statement).contains(" ORDER BY r0.stars, ID(r0) SKIP 0 LIMIT 5 ");
+	}
+
+	private static Neo4jSession openSession(String packageName) {
+		return (Neo4jSession) new SessionFactory(new BoltDriver(mock(org.neo4j.driver.Driver.class)), packageName)
+				.openSession();
+	}
+}
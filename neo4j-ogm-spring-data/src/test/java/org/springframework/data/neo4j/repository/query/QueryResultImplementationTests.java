@@ -0,0 +1,117 @@
+/*
+ * Copyright 2011-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.ogm.metadata.MetaData;
+import org.springframework.data.neo4j.annotation.QueryResult;
+
+/**
+ * @author Michael J. Simons
+ */
+public class QueryResultImplementationTests {
+
+	@Test
+	public void shouldGenerateImplementationsOfGetterOnlyInterfaces() {
+
+		Map<String, Object> row = new HashMap<>();
+		row.put("name", "Jane");
+		row.put("age", 42L);
+		row.put("score", 1);
+		row.put("tags", List.of("a", "b"));
+		row.put("scores", new long[] { 1L, 2L });
+
+		QueryResultImplementation implementation = QueryResultImplementation.of(Summary.class);
+		assertThat(implementation).isNotNull();
+		Summary summary = (Summary) implementation.newInstance(row);
+
+		assertThat(Proxy.isProxyClass(summary.getClass())).isFalse();
+		assertThat(QueryResultImplementation.of(Summary.class)).isSameAs(implementation);
+		assertThat(summary.getName()).isEqualTo("Jane");
+		assertThat(summary.getAge()).isEqualTo(42);
+		assertThat(summary.getScore()).isEqualTo(1.0);
+		assertThat(summary.isActive()).isFalse();
+		assertThat(summary.getTags()).containsExactly("a", "b");
+		assertThat(summary.getScores()).containsExactly(1L, 2L);
+		assertThat(summary.getFriend()).isNull();
+	}
+
+	@Test
+	public void shouldNotGenerateImplementationsOfInterfacesWithOtherMethods() {
+
+		assertThat(QueryResultImplementation.of(WithSetter.class)).isNull();
+		assertThat(QueryResultImplementation.of(WithDefaultMethod.class)).isNull();
+	}
+
+	@Test
+	public void customResultConverterShouldFallBackToProxies() {
+
+		MetaData metaData = new MetaData(getClass().getPackage().getName());
+		QueryResultInstantiator instantiator = new QueryResultInstantiator(metaData, null);
+		Map<String, Object> row = Map.of("name", "Jane");
+
+		Object summary = new CustomResultConverter(metaData, Summary.class, instantiator).convert(row);
+		assertThat(Proxy.isProxyClass(summary.getClass())).isFalse();
+		assertThat(((Summary) summary).getName()).isEqualTo("Jane");
+
+		Object withSetter = new CustomResultConverter(metaData, WithSetter.class, instantiator).convert(row);
+		assertThat(Proxy.isProxyClass(withSetter.getClass())).isTrue();
+		assertThat(((WithSetter) withSetter).getName()).isEqualTo("Jane");
+	}
+
+	@QueryResult
+	interface Summary {
+
+		String getName();
+
+		int getAge();
+
+		double getScore();
+
+		boolean isActive();
+
+		List<String> getTags();
+
+		long[] getScores();
+
+		Summary getFriend();
+	}
+
+	@QueryResult
+	interface WithSetter {
+
+		String getName();
+
+		void setName(String name);
+	}
+
+	@QueryResult
+	interface WithDefaultMethod {
+
+		String getName();
+
+		default String getGreeting() {
+			return "Hello " + getName();
+		}
+	}
+}
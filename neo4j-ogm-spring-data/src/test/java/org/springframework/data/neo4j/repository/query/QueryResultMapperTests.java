@@ -0,0 +1,79 @@
+/*
+ * Copyright 2011-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.ogm.context.SingleUseEntityMapper;
+import org.neo4j.ogm.metadata.MetaData;
+import org.springframework.data.neo4j.examples.movies.domain.Gender;
+import org.springframework.data.neo4j.examples.movies.domain.User;
+import org.springframework.data.neo4j.examples.movies.domain.queryresult.EntityWrappingQueryResult;
+import org.springframework.data.neo4j.examples.movies.domain.queryresult.RichUserQueryResult;
+
+/**
+ * @author Michael J. Simons
+ */
+public class QueryResultMapperTests {
+
+	private final MetaData metaData = new MetaData(User.class.getPackage().getName());
+	private final QueryResultInstantiator instantiator = new QueryResultInstantiator(metaData, null);
+
+	@Test
+	public void shouldMapRowsLikeSingleUseEntityMapper() {
+
+		QueryResultMapper mapper = new QueryResultMapper(metaData, RichUserQueryResult.class, instantiator);
+		for (String name : List.of("Sarah Taylor", "Jane Doe")) {
+			Map<String, Object> row = new HashMap<>();
+			row.put("userGender", "FEMALE");
+			row.put("userName", name);
+			row.put("userAccount", "3456789");
+			row.put("userDeposits", new String[] { "12345.6", "45678.9" });
+			row.put("yearOfBirth", 1979L);
+			row.put("unknownColumn", 42L);
+
+			RichUserQueryResult result = (RichUserQueryResult) mapper.map(row);
+			assertThat(result).usingRecursiveComparison().isEqualTo(
+					new SingleUseEntityMapper(metaData, instantiator).map(RichUserQueryResult.class, row));
+			assertThat(result.getUserName()).isEqualTo(name);
+			assertThat(result.getUserGender()).isEqualTo(Gender.FEMALE);
+			assertThat(result.getUserDeposits()).containsExactly(new BigDecimal("12345.6"), new BigDecimal("45678.9"));
+			assertThat(result.getYearOfBirth().getValue()).isEqualTo(1979);
+		}
+	}
+
+	@Test
+	public void shouldMapRowsWithNestedEntities() {
+
+		User user = new User("Michal");
+		Map<String, Object> row = new HashMap<>();
+		row.put("user", user);
+		row.put("avgRating", 4.5);
+		row.put("allRatings", List.of(4.0, 5.0));
+
+		EntityWrappingQueryResult result = (EntityWrappingQueryResult) new QueryResultMapper(metaData,
+				EntityWrappingQueryResult.class, instantiator).map(row);
+		assertThat(result.getUser()).isSameAs(user);
+		assertThat(result.getAvgRating()).isEqualTo(4.5f);
+		assertThat(result.getAllRatings()).containsExactly(4.0f, 5.0f);
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2011-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Michael J. Simons
+ */
+public class QueryResultProxyTests {
+
+	@Test
+	public void shouldResolveKeysAndCoerceValues() {
+
+		Map<String, Object> row = new HashMap<>();
+		row.put("name", "Jane");
+		row.put("age", 42L);
+		row.put("active", true);
+		row.put("tags", List.of("a", "b"));
+		row.put("friends", 3L);
+
+		Summary summary = proxy(row);
+		assertThat(summary.getName()).isEqualTo("Jane");
+		assertThat(summary.getAge()).isEqualTo(42);
+		assertThat(summary.isActive()).isTrue();
+		assertThat(summary.getTags()).containsExactly("a", "b");
+		assertThat(summary.friends()).isEqualTo((short) 3);
+	}
+
+	@Test
+	public void shouldUseResolvedMethodsForDifferentRows() {
+
+		Map<String, Object> row = new HashMap<>();
+		row.put("name", "Jane");
+		assertThat(proxy(row).getName()).isEqualTo("Jane");
+		assertThat(proxy(row).getAge()).isZero();
+
+		row.put("name", "John");
+		row.put("age", 23L);
+		Summary summary = proxy(row);
+		assertThat(summary.getName()).isEqualTo("John");
+		assertThat(summary.getAge()).isEqualTo(23);
+	}
+
+	private static Summary proxy(Map<String, Object> row) {
+		return (Summary) Proxy.newProxyInstance(Summary.class.getClassLoader(), new Class<?>[] { Summary.class },
+				new QueryResultProxy(row));
+	}
+
+	interface Summary {
+
+		String getName();
+
+		int getAge();
+
+		boolean isActive();
+
+		List<String> getTags();
+
+		short friends();
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2011-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.AuthTokens;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.GraphDatabase;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.SessionConfig;
+import org.neo4j.driver.Values;
+import org.neo4j.driver.exceptions.SessionExpiredException;
+import org.neo4j.driver.reactivestreams.ReactiveResult;
+import org.neo4j.driver.reactivestreams.ReactiveSession;
+import org.neo4j.driver.reactivestreams.ReactiveTransaction;
+import org.neo4j.harness.Neo4j;
+import org.neo4j.harness.Neo4jBuilders;
+import org.neo4j.ogm.drivers.bolt.driver.BoltDriver;
+import org.neo4j.ogm.session.SessionFactory;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Signal;
+
+/**
+ * @author Michael J. Simons
+ */
+public class ReactiveQueryRunnerTests {
+
+	private static final String QUERY = "UNWIND [1, 2] AS i RETURN toString(i)";
+
+	private static Neo4j serverControls;
+
+	private Driver nativeDriver;
+	private SessionFactory sessionFactory;
+	private ReactiveQueryRunner queryRunner;
+
+	@BeforeAll
+	public static void oneTimeSetUp() {
+		serverControls = Neo4jBuilders.newInProcessBuilder().withDisabledServer().build();
+	}
+
+	@AfterAll
+	public static void shutdownTestServer() {
+		serverControls.close();
+	}
+
+	@BeforeEach
+	public void init() {
+		nativeDriver = spy(GraphDatabase.driver(serverControls.boltURI(), AuthTokens.none()));
+		sessionFactory = new SessionFactory(new BoltDriver(nativeDriver), "org.springframework.data.neo4j.domain.sample");
+		queryRunner = new ReactiveQueryRunner(sessionFactory);
+	}
+
+	@AfterEach
+	public void close() {
+		sessionFactory.close();
+	}
+
+	@Test
+	public void shouldRetryTransientErrorsBeforeTheFirstRecord() {
+
+		ReactiveSession failingSession = mock(ReactiveSession.class);
+		when(failingSession.beginTransaction()).thenReturn(Mono.error(new SessionExpiredException("Leader changed")));
+		when(failingSession.close()).thenReturn(Mono.empty());
+		doReturn(failingSession).doCallRealMethod().when(nativeDriver).session(eq(ReactiveSession.class),
+				any(SessionConfig.class));
+
+		assertThat(queryRunner.query(String.class, QUERY, Collections.emptyMap()).collectList().block())
+				.containsExactly("1", "2");
+		verify(nativeDriver, times(2)).session(eq(ReactiveSession.class), any(SessionConfig.class));
+	}
+
+	@Test
+	public void shouldNotRetryTransientErrorsAfterTheFirstRecord() {
+
+		Record record = mock(Record.class);
+		when(record.size()).thenReturn(1);
+		when(record.get(0)).thenReturn(Values.value("1"));
+		ReactiveResult result = mock(ReactiveResult.class);
+		when(result.records())
+				.thenReturn(Flux.concat(Flux.just(record), Flux.error(new SessionExpiredException("Leader changed"))));
+		ReactiveTransaction transaction = mock(ReactiveTransaction.class);
+		doReturn(Mono.just(result)).when(transaction).run(anyString(), anyMap());
+		when(transaction.rollback()).thenReturn(Mono.empty());
+		ReactiveSession failingSession = mock(ReactiveSession.class);
+		when(failingSession.beginTransaction()).thenReturn(Mono.just(transaction));
+		when(failingSession.close()).thenReturn(Mono.empty());
+		doReturn(failingSession).doCallRealMethod().when(nativeDriver).session(eq(ReactiveSession.class),
+				any(SessionConfig.class));
+
+		List<Signal<String>> signals = queryRunner.query(String.class, QUERY, Collections.emptyMap()).materialize()
+				.collectList().block();
+		assertThat(signals.stream().filter(Signal::isOnNext).map(Signal::get).collect(Collectors.toList()))
+				.containsExactly("1");
+		assertThat(signals.get(signals.size() - 1).isOnError()).isTrue();
+		verify(nativeDriver).session(eq(ReactiveSession.class), any(SessionConfig.class));
+		verify(transaction).rollback();
+	}
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2011-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.ogm.cypher.ComparisonOperator;
+import org.neo4j.ogm.cypher.Filter;
+import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.drivers.bolt.driver.BoltDriver;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.neo4j.domain.sample.User;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+import org.springframework.data.repository.query.QueryMethodValueEvaluationContextAccessor;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * @author Michael J. Simons
+ */
+public class SlowQueryLogTests {
+
+	private static final MetaData metaData = new MetaData(User.class.getPackage().getName());
+
+	private final ListAppender<ILoggingEvent> listAppender = new ListAppender<>();
+	private final ch.qos.logback.classic.Logger logger = (ch.qos.logback.classic.Logger) LoggerFactory
+			.getLogger(SlowQueryLog.class);
+
+	private final GraphQueryMethod queryMethod = new GraphQueryMethod(
+			ReflectionUtils.findMethod(UserRepository.class, "findAllByFirstname", String.class),
+			new DefaultRepositoryMetadata(UserRepository.class), new SpelAwareProxyProjectionFactory());
+
+	private final SlowQueryLog slowQueryLog = new SlowQueryLog(Duration.ofMillis(200));
+
+	@BeforeEach
+	void addAppender() {
+		listAppender.start();
+		logger.addAppender(listAppender);
+	}
+
+	@AfterEach
+	void removeAppender() {
+		logger.detachAppender(listAppender);
+		listAppender.stop();
+	}
+
+	@Test
+	void shouldNotLogFastQueries() {
+
+		Query query = new Query("MATCH (u:User) RETURN u", null, Map.of());
+		slowQueryLog.logIfSlow(queryMethod, metaData, query, TimeUnit.MILLISECONDS.toNanos(199), 1L);
+
+		assertThat(listAppender.list).isEmpty();
+	}
+
+	@Test
+	void shouldLogCypherAndRedactParameters() {
+
+		Query query = new Query("MATCH (u:User) WHERE u.firstname = $firstname RETURN u", null,
+				Map.of("firstname", "Jane"));
+		slowQueryLog.logIfSlow(queryMethod, metaData, query, TimeUnit.MILLISECONDS.toNanos(250), 2L);
+
+		assertThat(listAppender.list).singleElement().extracting(ILoggingEvent::getFormattedMessage).asString()
+				.contains("UserRepository.findAllByFirstname took 250 ms and returned 2 rows")
+				.contains("MATCH (u:User) WHERE u.firstname = $firstname RETURN u")
+				.contains("Parameters: {firstname=<String>}")
+				.doesNotContain("Jane");
+	}
+
+	@Test
+	void shouldRenderFiltersOfDerivedFinders() {
+
+		Filters filters = new Filters(new Filter("firstname", ComparisonOperator.EQUALS, "Jane"));
+		filters.and(new Filter("age", ComparisonOperator.GREATER_THAN, 42));
+		Query query = new Query(filters, null, Sort.unsorted());
+		slowQueryLog.logIfSlow(queryMethod, metaData, query, TimeUnit.SECONDS.toNanos(1), null);
+
+		List<String> messages = listAppender.list.stream().map(ILoggingEvent::getFormattedMessage).toList();
+		assertThat(messages).singleElement().asString()
+				.contains("took 1000 ms and returned an unknown number of rows")
+				.contains("MATCH (n:`User`) WHERE n.`firstname` = $`firstname_0` AND n.`age` > $`age_1`")
+				.contains("Parameters: {age_1=<Integer>, firstname_0=<String>}")
+				.doesNotContain("Jane");
+	}
+
+	@Test
+	void shouldLogTheCompiledStatementOfDerivedFinders() {
+
+		SessionFactory sessionFactory = new SessionFactory(new BoltDriver(mock(org.neo4j.driver.Driver.class)),
+				User.class.getPackage().getName());
+		Query query = new Query(new Filters(new Filter("firstname", ComparisonOperator.EQUALS, "Jane")), null,
+				Sort.unsorted(), new CompiledQueryCache(true));
+		CompiledQueryCache.BoundStatement statement = query.bindLoadAll(sessionFactory.openSession(), User.class,
+				Sort.unsorted(), null, 1);
+		slowQueryLog.logIfSlow(queryMethod, metaData, query, TimeUnit.SECONDS.toNanos(1), 1L);
+
+		assertThat(statement).isNotNull();
+		assertThat(listAppender.list).singleElement().extracting(ILoggingEvent::getFormattedMessage).asString()
+				.contains(statement.getStatement())
+				.contains("RETURN")
+				.contains("Parameters: {firstname_0=<String>}")
+				.doesNotContain("Jane");
+	}
+
+	@Test
+	void shouldLogFailedExecutions() {
+
+		Session session = mock(Session.class);
+		when(session.query(eq(User.class), anyString(), anyMap())).thenThrow(new IllegalStateException("Timeout"));
+		GraphRepositoryQuery repositoryQuery = new GraphRepositoryQuery(
+				new GraphQueryMethod(ReflectionUtils.findMethod(UserRepository.class, "findAllByQuery", String.class),
+						new DefaultRepositoryMetadata(UserRepository.class), new SpelAwareProxyProjectionFactory()),
+				metaData, session, QueryMethodValueEvaluationContextAccessor.create());
+		repositoryQuery.setSlowQueryThreshold(Duration.ZERO);
+
+		assertThatExceptionOfType(IllegalStateException.class)
+				.isThrownBy(() -> repositoryQuery.execute(new Object[] { "Jane" }));
+		assertThat(listAppender.list).singleElement().extracting(ILoggingEvent::getFormattedMessage).asString()
+				.contains("UserRepository.findAllByQuery took")
+				.contains("returned an unknown number of rows")
+				.contains("MATCH (u:User) WHERE u.firstName = $0 RETURN u");
+	}
+
+	interface UserRepository extends Repository<User, Long> {
+
+		List<User> findAllByFirstname(String firstname);
+
+		@org.springframework.data.neo4j.annotation.Query("MATCH (u:User) WHERE u.firstName = $0 RETURN u")
+		List<User> findAllByQuery(String firstname);
+	}
+}
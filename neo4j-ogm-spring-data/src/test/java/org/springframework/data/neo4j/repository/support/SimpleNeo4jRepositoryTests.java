@@ -19,14 +19,18 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.neo4j.ogm.cypher.query.Pagination;
 import org.neo4j.ogm.cypher.query.SortOrder;
+import org.neo4j.ogm.metadata.MetaData;
 import org.neo4j.ogm.session.Session;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.neo4j.domain.sample.User;
+import org.springframework.data.neo4j.mapping.MetaDataProvider;
 
 /**
  * @author Gerrit Meier
@@ -156,6 +160,23 @@ public class SimpleNeo4jRepositoryTests {
 				.withMessage("The given id must not be null!");
 	}
 
+	@Test
+	public void existsByIdShouldNotLoadTheEntity() {
+
+		Session session = mock(Session.class, withSettings().extraInterfaces(MetaDataProvider.class));
+		when(((MetaDataProvider) session).getMetaData())
+				.thenReturn(new MetaData("org.springframework.data.neo4j.domain.sample"));
+		when(session.queryForObject(eq(Boolean.class), anyString(), anyMap())).thenReturn(true);
+
+		SimpleNeo4jRepository<User, Long> userRepository = new SimpleNeo4jRepository<>(User.class, session);
+
+		assertThat(userRepository.existsById(42L)).isTrue();
+		verify(session).queryForObject(Boolean.class, "MATCH (n:`User`) WHERE ID(n) = $id RETURN count(n) > 0",
+				Collections.singletonMap("id", 42L));
+		verify(session, never()).load(any(), any());
+		verify(session, never()).load(any(), any(), anyInt());
+	}
+
 	private Page loadPage(PageRequest requestedPage, long amountOfElementsInDatabase) {
 		prepareSessionMock(requestedPage, amountOfElementsInDatabase);
 		return repository.findAll(requestedPage);
@@ -48,6 +48,7 @@ import org.springframework.data.neo4j.bookmark.CaffeineBookmarkManager;
 import org.springframework.data.neo4j.examples.movies.domain.User;
 import org.springframework.data.neo4j.examples.movies.service.UserService;
 import org.springframework.data.neo4j.repository.config.EnableNeo4jRepositories;
+import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.transaction.PlatformTransactionManager;
@@ -103,6 +104,22 @@ public class BookmarkTransactionTests {
 		assertThat(bookmarkManager.getBookmarks()).doesNotContainAnyElementsOf(bookmarks);
 	}
 
+	@Test
+	@DirtiesContext // The sessions opened here would be counted by the other tests
+	public void operationsWithoutBookmarkShouldNotEvictBookmarksTheyDidNotWaitFor() {
+
+		userService.saveWithTxAnnotationOnInterface(new User());
+		Collection<String> bookmarks = bookmarkManager.getBookmarks();
+		assertThat(bookmarks).isNotEmpty();
+
+		userService.saveWithTxAnnotationOnInterface(new User());
+		assertThat(bookmarkManager.getBookmarks()).containsAll(bookmarks).hasSize(bookmarks.size() + 1);
+
+		// A transaction using bookmarks waited for all of them and supersedes them
+		userService.getAllUsersWithBookmark();
+		assertThat(bookmarkManager.getBookmarks()).hasSize(1).doesNotContainAnyElementsOf(bookmarks);
+	}
+
 	@Configuration
 	@EnableTransactionManagement
 	@EnableBookmarkManagement
@@ -17,6 +17,7 @@ package org.springframework.data.neo4j.transaction;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.fail;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.BDDMockito.*;
 
 import java.util.ArrayList;
@@ -24,6 +25,10 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
@@ -32,6 +37,7 @@ import org.neo4j.ogm.model.Result;
 import org.neo4j.ogm.session.Session;
 import org.neo4j.ogm.session.SessionFactory;
 import org.neo4j.ogm.transaction.Transaction;
+import org.springframework.data.neo4j.observation.TransactionObservationContext;
 import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.transaction.UnexpectedRollbackException;
 import org.springframework.transaction.support.TransactionCallback;
@@ -95,6 +101,82 @@ public class Neo4jTransactionManagerTests {
 		}
 	}
 
+	@Test
+	public void testTransactionObservations() {
+
+		List<TransactionObservationContext> contexts = new ArrayList<>();
+		ObservationRegistry observationRegistry = ObservationRegistry.create();
+		observationRegistry.observationConfig()
+				.observationHandler(new ObservationHandler<TransactionObservationContext>() {
+					@Override
+					public void onStop(TransactionObservationContext context) {
+						contexts.add(context);
+					}
+
+					@Override
+					public boolean supportsContext(Observation.Context context) {
+						return context instanceof TransactionObservationContext;
+					}
+				});
+		tm.setObservationRegistry(observationRegistry);
+
+		tt.setReadOnly(true);
+		tt.executeWithoutResult(status -> {});
+		tt.setReadOnly(false);
+		tt.executeWithoutResult(status -> status.setRollbackOnly());
+
+		assertThat(contexts).extracting(TransactionObservationContext::getOperation, TransactionObservationContext::isReadOnly)
+				.containsExactly(tuple(TransactionObservationContext.Operation.BEGIN, true),
+						tuple(TransactionObservationContext.Operation.COMMIT, true),
+						tuple(TransactionObservationContext.Operation.BEGIN, false),
+						tuple(TransactionObservationContext.Operation.ROLLBACK, false));
+		assertThat(contexts.get(0).getLowCardinalityKeyValues()).extracting("key", "value")
+				.containsExactlyInAnyOrder(tuple("operation", "begin"), tuple("read-only", "true"),
+						tuple("access-mode", "read"));
+	}
+
+	@Test
+	public void testReadOnlyTransactionOnPreBoundSessionIsRoutedToReaders() {
+
+		TransactionSynchronizationManager.bindResource(sf, new SessionHolder(session));
+		try {
+			tt.setReadOnly(true);
+			tt.executeWithoutResult(status -> {});
+		} finally {
+			TransactionSynchronizationManager.unbindResource(sf);
+		}
+
+		verify(session).beginTransaction(eq(Transaction.Type.READ_ONLY), anyCollection());
+		verify(sf, never()).openSession();
+	}
+
+	@Test
+	public void testReadOnlyTransactionAfterWriteOnPreBoundSessionIsPinnedToLeader() {
+
+		List<Transaction.Type> types = new ArrayList<>();
+		given(session.beginTransaction(any(Transaction.Type.class), anyCollection())).willAnswer(invocation -> {
+			types.add(invocation.getArgument(0));
+			return tx;
+		});
+		given(tx.type()).willAnswer(invocation -> types.get(types.size() - 1));
+		given(tx.status()).willReturn(Transaction.Status.COMMITTED);
+
+		TransactionSynchronizationManager.bindResource(sf, new SessionHolder(session));
+		try {
+			tt.setReadOnly(true);
+			tt.executeWithoutResult(status -> {});
+			tt.setReadOnly(false);
+			tt.executeWithoutResult(status -> {});
+			tt.setReadOnly(true);
+			tt.executeWithoutResult(status -> {});
+		} finally {
+			TransactionSynchronizationManager.unbindResource(sf);
+		}
+
+		assertThat(types).containsExactly(Transaction.Type.READ_ONLY, Transaction.Type.READ_WRITE,
+				Transaction.Type.READ_WRITE);
+	}
+
 	@Test
 	public void testTransactionCommit() throws Exception {
 